@@ -40,6 +40,76 @@ public class AsyncConfig {
         return executor;
     }
 
+    @Bean(name = "steamSyncExecutor")
+    public Executor steamSyncExecutor(InfernoGamesConfig config) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        // Fixed-size pool bounds the per-app fan-out; the Steam rate limiter bounds the request rate
+        executor.setCorePoolSize(config.getSteamSyncConcurrency());
+        executor.setMaxPoolSize(config.getSteamSyncConcurrency());
+        executor.setThreadNamePrefix("SteamSync-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+
+        executor.initialize();
+
+        log.info("Initialized Steam sync executor with {} workers", config.getSteamSyncConcurrency());
+
+        return executor;
+    }
+
+    @Bean(name = "storeWarmupExecutor")
+    public Executor storeWarmupExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        // One worker: the store rate limit is the bottleneck, and warm-ups must not occupy the Steam sync workers
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1_000);
+        executor.setThreadNamePrefix("StoreWarmup-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+
+        executor.initialize();
+
+        log.info("Initialized Steam store warm-up executor");
+
+        return executor;
+    }
+
+    @Bean(name = "genreEnrichmentExecutor")
+    public Executor genreEnrichmentExecutor(InfernoGamesConfig config) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        // Pipeline stages of different batches share these workers; the IGDB rate limiter bounds the request rate
+        executor.setCorePoolSize(config.getIgdbEnrichmentConcurrency());
+        executor.setMaxPoolSize(config.getIgdbEnrichmentConcurrency());
+        executor.setThreadNamePrefix("GenreEnrichment-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+
+        executor.initialize();
+
+        log.info("Initialized genre enrichment executor with {} workers", config.getIgdbEnrichmentConcurrency());
+
+        return executor;
+    }
+
+    @Bean(name = "typeaheadExecutor")
+    public Executor typeaheadExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        // Debounced typeahead lookups; most finish from the prefix cache without touching IGDB
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(8);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("Typeahead-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+
+        executor.initialize();
+
+        log.info("Initialized typeahead executor");
+
+        return executor;
+    }
+
     @Bean(name = "taskExecutor")
     public Executor taskExecutor() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
@@ -5,6 +5,10 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
 @Getter
 @Setter
 @Configuration
@@ -19,7 +23,68 @@ public class InfernoGamesConfig {
     private String igdbClientId;
     private String igdbClientSecret;
 
+    // IGDB allows 4 requests per second per client
+    private double igdbRequestsPerSecond = 4.0;
+
+    // Steam genre enrichment pipeline: apps per IGDB batch and concurrent pipeline workers
+    private int igdbEnrichmentBatchSize = 100;
+    private int igdbEnrichmentConcurrency = 4;
+
     // Steam Integration (Steam API)
     private String steamClientSecret;
     private String steamClientId;
+
+    // Additional linked Steam accounts sharing this deployment's API key; steamClientId stays the primary
+    private List<SteamAccount> steamAccounts = new ArrayList<>();
+
+    // Steam HTTP timeouts and the time budget for the async startup library load
+    private Duration steamConnectTimeout = Duration.ofSeconds(5);
+    private Duration steamReadTimeout = Duration.ofSeconds(20);
+    private Duration steamStartupBudget = Duration.ofSeconds(45);
+
+    // Tiered sync: cheap recently-played polling backs off while idle, full reconcile runs rarely
+    private Duration steamRecentPollMinInterval = Duration.ofMinutes(2);
+    private Duration steamRecentPollMaxInterval = Duration.ofMinutes(15);
+    private Duration steamFullSyncMinInterval = Duration.ofHours(6);
+    private Duration steamFullSyncMaxInterval = Duration.ofHours(24);
+
+    // Shared Steam Web API request budget and the fan-out used by per-app sync stages
+    private double steamRequestsPerSecond = 4.0;
+    private int steamSyncConcurrency = 4;
+
+    // Steam Store appdetails cache for apps the user doesn't own
+    private Duration steamStoreCacheTtl = Duration.ofDays(7);
+    private Duration steamStoreNegativeCacheTtl = Duration.ofDays(1);
+    private int steamStoreCacheMaxSize = 20_000;
+    private double steamStoreRequestsPerSecond = 0.6;
+
+    // Shared IGDB genre cache used for Steam library enrichment
+    private Duration igdbGenreCacheTtl = Duration.ofDays(30);
+    private Duration igdbGenreNegativeCacheTtl = Duration.ofDays(7);
+
+    // IGDB typeahead: quiet period before a keystroke hits IGDB and how long prefix result sets are reused
+    private Duration igdbTypeaheadDebounce = Duration.ofMillis(150);
+    private Duration igdbTypeaheadCacheTtl = Duration.ofMinutes(10);
+
+    // Rows per JDBC round trip while streaming the library export
+    private int exportFetchSize = 500;
+
+    // Optional read replica for read-only transactions; credentials default to the primary's
+    private String replicaUrl;
+    private String replicaUsername;
+    private String replicaPassword;
+
+    // Reads go back to the primary while replica replay trails by more than this, and for this long after a write
+    private Duration replicaMaxLag = Duration.ofSeconds(5);
+
+    @Getter
+    @Setter
+    public static class SteamAccount {
+        private String steamId;
+        private String name;
+
+        // Optional per-account overrides of the tiered sync ceilings
+        private Duration recentPollMaxInterval;
+        private Duration fullSyncMaxInterval;
+    }
 }
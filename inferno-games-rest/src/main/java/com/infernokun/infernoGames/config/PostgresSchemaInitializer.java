@@ -0,0 +1,331 @@
+package com.infernokun.infernoGames.config;
+
+import com.infernokun.infernoGames.models.enums.GamePlatform;
+import com.infernokun.infernoGames.services.GameEntityCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Schema pieces Hibernate's ddl-auto can't express (triggers, GIN indexes, data backfills).
+ * Applied idempotently once every bean is built but before the web server starts, so no request
+ * reads a half-backfilled column. Only runs against PostgreSQL; other databases (H2 in tests)
+ * skip them and callers fall back to portable queries.
+ * <p>
+ * This work delays startup. The first start after an upgrade rewrites every legacy row, one
+ * statement per BACKFILL_BATCH rows, and builds the new indexes concurrently; on a large table that
+ * can take minutes, so allow for it in the startup probe. Later starts find nothing to backfill and
+ * only pay for one EXISTS probe per column plus the catalog lookups.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostgresSchemaInitializer implements SmartInitializingSingleton {
+
+    public static final String SEARCH_CONFIG = "english";
+
+    // Rows rewritten per statement when moving legacy JSON columns into native ones
+    private static final int BACKFILL_BATCH = 500;
+
+    // Sort keys of the keyset game list (GameSort), each paired with id
+    private static final List<String> SORT_COLUMNS =
+            List.of("title", "updated_at", "playtime_hours", "rating", "release_year");
+
+    // Weighted document: title > people/genres > free text
+    private static final String SEARCH_DOCUMENT =
+            "setweight(to_tsvector('" + SEARCH_CONFIG + "', coalesce(%1$stitle, '')), 'A') || " +
+            "setweight(to_tsvector('" + SEARCH_CONFIG + "', coalesce(%1$sdeveloper, '') || ' ' || coalesce(%1$spublisher, '')), 'B') || " +
+            "setweight(to_tsvector('" + SEARCH_CONFIG + "', games_genre_text(%1$sgenre_list)), 'B') || " +
+            "setweight(to_tsvector('" + SEARCH_CONFIG + "', coalesce(%1$sdescription, '') || ' ' || coalesce(%1$snotes, '')), 'C')";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final GameEntityCache gameEntityCache;
+
+    private volatile boolean postgres;
+    private volatile boolean fullTextSearchReady;
+    private volatile boolean libraryVersionReady;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        try {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            postgres = "PostgreSQL".equalsIgnoreCase(product);
+        } catch (Exception e) {
+            log.warn("Could not determine database product: {}", e.getMessage());
+            postgres = false;
+        }
+
+        if (!postgres) {
+            log.info("Not running on PostgreSQL - skipping full-text search schema");
+            return;
+        }
+
+        libraryVersionReady = createLibraryVersion();
+        migrateGenres();
+        migratePlatforms();
+        migrateVersions();
+        createSortIndexes();
+        createIgdbIdIndex();
+        fullTextSearchReady = migrateSearchVector();
+    }
+
+    /**
+     * Single-row change counter behind the library ETag, so a conditional GET reads one key instead of
+     * aggregating the table. A deferred trigger bumps it at commit of every transaction that inserts,
+     * deletes or re-versions games, whichever path wrote (JPA, the atomic toggles, JDBC batches), so the
+     * bump commits with the data. Bumping at commit keeps the counter row the last lock a writer takes,
+     * and the transaction-local flag limits it to one bump per transaction however many rows changed.
+     * The seed is the creation time, so a recreated counter never repeats a tag handed out before.
+     */
+    private boolean createLibraryVersion() {
+        return apply("library version",
+                "CREATE TABLE IF NOT EXISTS game_library_version (" +
+                        "id int PRIMARY KEY CHECK (id = 1), version bigint NOT NULL)",
+                "INSERT INTO game_library_version (id, version) " +
+                        "VALUES (1, floor(extract(epoch FROM clock_timestamp()) * 1000)::bigint) " +
+                        "ON CONFLICT (id) DO NOTHING",
+                "CREATE OR REPLACE FUNCTION games_library_version_bump() RETURNS trigger " +
+                        "LANGUAGE plpgsql AS $$ BEGIN " +
+                        "IF current_setting('inferno.library_bumped', true) IS DISTINCT FROM txid_current()::text THEN " +
+                        "UPDATE game_library_version SET version = version + 1 WHERE id = 1; " +
+                        "PERFORM set_config('inferno.library_bumped', txid_current()::text, true); " +
+                        "END IF; RETURN NULL; END $$",
+                // Constraint triggers can't be replaced in place; the function above carries the logic
+                "DO $$ BEGIN IF NOT EXISTS (SELECT 1 FROM pg_trigger " +
+                        "WHERE tgname = 'games_library_version_bump' AND tgrelid = 'games'::regclass) THEN " +
+                        "CREATE CONSTRAINT TRIGGER games_library_version_bump " +
+                        "AFTER INSERT OR DELETE OR UPDATE OF version ON games " +
+                        "DEFERRABLE INITIALLY DEFERRED FOR EACH ROW " +
+                        "EXECUTE FUNCTION games_library_version_bump(); END IF; END $$");
+    }
+
+    /**
+     * Keep search_vector as a plain column maintained by a trigger rather than a generated one:
+     * adding a nullable column is a catalog change, while a STORED generated column rewrites the
+     * whole table under an ACCESS EXCLUSIVE lock. Existing rows are filled in batches.
+     */
+    private boolean migrateSearchVector() {
+        // Earlier versions generated the column, at first from the legacy genres JSON
+        List<String> expression = jdbcTemplate.queryForList(
+                "SELECT generation_expression FROM information_schema.columns " +
+                        "WHERE table_name = 'games' AND column_name = 'search_vector' AND is_generated = 'ALWAYS'",
+                String.class);
+        boolean stale = !expression.isEmpty() && (expression.getFirst() == null || !expression.getFirst().contains("genre_list"));
+        if (!expression.isEmpty() && !apply("search vector conversion",
+                "ALTER TABLE games ALTER COLUMN search_vector DROP EXPRESSION")) {
+            return false;
+        }
+
+        boolean ready = apply("full-text search",
+                // array_to_string is only STABLE; the IMMUTABLE wrapper keeps the document indexable
+                "CREATE OR REPLACE FUNCTION games_genre_text(varchar[]) RETURNS text " +
+                        "LANGUAGE sql IMMUTABLE AS $$ SELECT coalesce(array_to_string($1, ' '), '') $$",
+                "CREATE OR REPLACE FUNCTION games_search_vector_refresh() RETURNS trigger " +
+                        "LANGUAGE plpgsql AS $$ BEGIN NEW.search_vector := " + SEARCH_DOCUMENT.formatted("NEW.") +
+                        "; RETURN NEW; END $$",
+                "ALTER TABLE games ADD COLUMN IF NOT EXISTS search_vector tsvector",
+                "CREATE OR REPLACE TRIGGER games_search_vector_refresh BEFORE INSERT OR UPDATE OF " +
+                        "title, developer, publisher, genre_list, description, notes ON games " +
+                        "FOR EACH ROW EXECUTE FUNCTION games_search_vector_refresh()");
+        if (!ready) {
+            return false;
+        }
+
+        if (stale) {
+            // Documents built from the legacy JSON: rewrite every row once, walking the primary key
+            rebuildSearchVector();
+        }
+        backfill("search_vector", SEARCH_DOCUMENT.formatted(""));
+
+        createIndex("idx_games_search_vector", "USING GIN (search_vector)");
+        return true;
+    }
+
+    private void rebuildSearchVector() {
+        long afterId = 0;
+        int total = 0;
+        try {
+            List<Long> ids;
+            while (!(ids = jdbcTemplate.queryForList("SELECT id FROM games WHERE id > ? ORDER BY id LIMIT ?",
+                    Long.class, afterId, BACKFILL_BATCH)).isEmpty()) {
+                total += jdbcTemplate.update("UPDATE games SET search_vector = " + SEARCH_DOCUMENT.formatted("") +
+                        " WHERE id BETWEEN ? AND ?", ids.getFirst(), ids.getLast());
+                afterId = ids.getLast();
+            }
+        } catch (Exception e) {
+            log.error("Rebuild of search_vector stopped after {} rows: {}", total, e.getMessage());
+        }
+        log.info("Rebuilt search_vector for {} games", total);
+    }
+
+    /**
+     * Move genres from the legacy JSON TEXT column into the genre_list array. Rows are rewritten in
+     * small batches that skip rows locked by live writes, so the table stays available throughout;
+     * the GIN index is built concurrently afterwards. The legacy column is left in place for rollback.
+     */
+    private void migrateGenres() {
+        if (hasColumn("genres")) {
+            backfill("genre_list",
+                    "CASE WHEN genres IS NULL OR btrim(genres) IN ('', 'null') THEN '{}' " +
+                            "ELSE ARRAY(SELECT jsonb_array_elements_text(genres::jsonb)) END");
+        }
+
+        createIndex("idx_games_genre_list", "USING GIN (genre_list)");
+    }
+
+    /**
+     * Pack the legacy JSON platform lists into platform_mask, using each GamePlatform's fixed bit.
+     * Unknown names are dropped. Same batched rewrite as the genre backfill.
+     */
+    private void migratePlatforms() {
+        if (!hasColumn("platforms")) {
+            return;
+        }
+
+        // name -> bit as a VALUES list, so the SQL uses the same fixed bits as GamePlatformMask
+        String bits = Arrays.stream(GamePlatform.values())
+                .map(platform -> "('" + platform.name() + "', " + platform.getBit() + ")")
+                .collect(Collectors.joining(","));
+        backfill("platform_mask",
+                "CASE WHEN platforms IS NULL OR btrim(platforms) IN ('', 'null', '[]') THEN 0 " +
+                        "ELSE (SELECT coalesce(bit_or(1 << b.bit), 0) " +
+                        "FROM jsonb_array_elements_text(platforms::jsonb) p " +
+                        "JOIN (VALUES " + bits + ") AS b(name, bit) ON b.name = p) END");
+    }
+
+    /**
+     * Rows written before optimistic locking have no version, which Spring Data would read as
+     * "new" and try to insert again. Give them version 0, and make that the default for raw inserts.
+     */
+    private void migrateVersions() {
+        apply("version default", "ALTER TABLE games ALTER COLUMN version SET DEFAULT 0");
+        backfill("version", "0");
+    }
+
+    /**
+     * Descending (key, id) indexes for the keyset game list. Its descending orders put NULL keys last,
+     * which a backward scan of the ascending JPA indexes can't produce, and JPA can't declare NULLS LAST.
+     */
+    private void createSortIndexes() {
+        SORT_COLUMNS.forEach(column ->
+                createIndex("idx_games_" + column + "_desc_id", "(" + column + " DESC NULLS LAST, id DESC)"));
+    }
+
+    /**
+     * One backlog game per IGDB game; bulk imports rely on it through ON CONFLICT. Existing
+     * duplicates would fail the build on every start, so they are reported and the index skipped.
+     */
+    private void createIgdbIdIndex() {
+        List<Long> duplicates = jdbcTemplate.queryForList(
+                "SELECT igdb_id FROM games WHERE igdb_id IS NOT NULL GROUP BY igdb_id HAVING count(*) > 1 LIMIT 10",
+                Long.class);
+        if (!duplicates.isEmpty()) {
+            log.warn("Games share IGDB IDs {} - not enforcing unique IGDB IDs until they are merged", duplicates);
+            return;
+        }
+        createIndex("idx_games_igdb_id_unique", "(igdb_id)", true);
+    }
+
+    private boolean createIndex(String name, String definition) {
+        return createIndex(name, definition, false);
+    }
+
+    /**
+     * Build an index on games without blocking writes. A failed CREATE INDEX CONCURRENTLY leaves an
+     * INVALID index behind that IF NOT EXISTS would skip on every later start, so drop and rebuild it.
+     */
+    private boolean createIndex(String name, String definition, boolean unique) {
+        List<Boolean> valid = jdbcTemplate.queryForList(
+                "SELECT indisvalid FROM pg_index WHERE indexrelid = to_regclass(?)", Boolean.class, name);
+        if (!valid.isEmpty() && valid.getFirst()) {
+            return true;
+        }
+
+        List<String> statements = new ArrayList<>();
+        if (!valid.isEmpty()) {
+            log.warn("Index {} is invalid after an interrupted build - rebuilding it", name);
+            statements.add("DROP INDEX CONCURRENTLY IF EXISTS " + name);
+        }
+        statements.add("CREATE " + (unique ? "UNIQUE " : "") + "INDEX CONCURRENTLY IF NOT EXISTS " + name +
+                " ON games " + definition);
+        return apply("index " + name, statements.toArray(String[]::new));
+    }
+
+    private boolean hasColumn(String column) {
+        Integer columns = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM information_schema.columns WHERE table_name = 'games' AND column_name = ?",
+                Integer.class, column);
+        return columns != null && columns > 0;
+    }
+
+    /**
+     * Set column to value on every row where it is NULL, BACKFILL_BATCH rows per statement. Batches skip
+     * rows locked by live writes, so an empty batch only means the rest are locked right now; those are
+     * then taken with a waiting lock. Runs until no NULL is left, not until the first empty batch.
+     */
+    private void backfill(String column, String value) {
+        String update = "UPDATE games SET " + column + " = " + value + " WHERE id IN (SELECT id FROM games " +
+                "WHERE " + column + " IS NULL LIMIT " + BACKFILL_BATCH + " FOR UPDATE";
+        String pending = "SELECT EXISTS (SELECT 1 FROM games WHERE " + column + " IS NULL)";
+
+        int total = 0;
+        try {
+            while (Boolean.TRUE.equals(jdbcTemplate.queryForObject(pending, Boolean.class))) {
+                int updated = jdbcTemplate.update(update + " SKIP LOCKED)");
+                if (updated == 0) {
+                    updated = jdbcTemplate.update(update + ")");
+                    if (updated == 0) {
+                        // The writers holding those rows filled them in themselves; probe again
+                        continue;
+                    }
+                }
+                total += updated;
+            }
+        } catch (Exception e) {
+            log.error("Backfill of {} stopped after {} rows: {}", column, total, e.getMessage());
+        }
+
+        if (total > 0) {
+            gameEntityCache.evictAll();
+            // Backfills leave versions alone, so the trigger doesn't see them
+            if (libraryVersionReady) {
+                apply("library version bump", "UPDATE game_library_version SET version = version + 1 WHERE id = 1");
+            }
+            log.info("Backfilled {} for {} games", column, total);
+        }
+    }
+
+    public boolean isPostgres() {
+        return postgres;
+    }
+
+    public boolean isFullTextSearchReady() {
+        return fullTextSearchReady;
+    }
+
+    public boolean isLibraryVersionReady() {
+        return libraryVersionReady;
+    }
+
+    private boolean apply(String feature, String... statements) {
+        try {
+            for (String statement : statements) {
+                jdbcTemplate.execute(statement);
+            }
+            log.info("PostgreSQL schema for {} is in place", feature);
+            return true;
+        } catch (Exception e) {
+            log.error("Failed to apply PostgreSQL schema for {}: {}", feature, e.getMessage());
+            return false;
+        }
+    }
+}
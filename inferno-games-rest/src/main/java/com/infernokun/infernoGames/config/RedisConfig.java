@@ -124,6 +124,10 @@ public class RedisConfig {
                 .entryTtl(Duration.ofMinutes(30))
                 .prefixCacheNameWith("users:collections:"));
 
+        // Game list pages - evicted on every game write, short TTL covers writes that bypass the service
+        cacheConfigurations.put("gamePages", defaultConfig
+                .entryTtl(Duration.ofMinutes(5)));
+
         return RedisCacheManager.builder(redisConnectionFactory)
                 .cacheDefaults(defaultConfig)
                 .withInitialCacheConfigurations(cacheConfigurations)
@@ -0,0 +1,77 @@
+package com.infernokun.infernoGames.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Read/write split, active only when inferno-games.replicaUrl is set; without it Boot's single
+ * datasource is used unchanged. The primary pool is built from spring.datasource as Boot would,
+ * read-only transactions go to the replica pool through {@link ReplicaRoutingDataSource}.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnExpression("!'${inferno-games.replicaUrl:}'.isBlank()")
+public class ReplicaDataSourceConfig {
+
+    // Fail fast so an unreachable replica costs the lag check, not a request
+    private static final Duration REPLICA_CONNECTION_TIMEOUT = Duration.ofSeconds(2);
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(DataSourceProperties properties, InfernoGamesConfig config) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(config.getReplicaUrl())
+                .username(StringUtils.hasText(config.getReplicaUsername()) ?
+                        config.getReplicaUsername() : properties.determineUsername())
+                .password(StringUtils.hasText(config.getReplicaPassword()) ?
+                        config.getReplicaPassword() : properties.determinePassword())
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        dataSource.setConnectionTimeout(REPLICA_CONNECTION_TIMEOUT.toMillis());
+        // A replica that is down at startup just leaves reads on the primary
+        dataSource.setInitializationFailTimeout(-1);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                                             @Qualifier("replicaDataSource") DataSource replica,
+                                                             InfernoGamesConfig config) {
+        log.info("Read replica configured - read-only transactions routed while lag stays under {}",
+                config.getReplicaMaxLag());
+        return new ReplicaRoutingDataSource(primary, replica, config.getReplicaMaxLag());
+    }
+
+    /**
+     * The datasource JPA and JdbcTemplate use. Connections are fetched on first statement, after the
+     * transaction manager has marked the transaction read-only or not.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
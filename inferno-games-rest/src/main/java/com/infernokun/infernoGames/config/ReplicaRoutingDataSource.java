@@ -0,0 +1,183 @@
+package com.infernokun.infernoGames.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Sends read-only transactions to the replica and everything else to the primary. Reads fall back
+ * to the primary while the replica is unreachable, not streaming from the primary, or its replay
+ * lag exceeds the limit, and for one lag window after a committed write so a read right after a
+ * change (and any cache it refills) sees it.
+ * Must sit behind a LazyConnectionDataSourceProxy so the transaction's read-only flag is set
+ * before a connection is chosen. Its own read-only datasource (Spring 6.1+) would route statically;
+ * the lag and recent-write fallbacks need the per-transaction choice made here.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Target { PRIMARY, REPLICA }
+
+    // Zero on a caught-up or idle standby; otherwise how far replay trails, in millis. Null (unusable)
+    // when no WAL receiver is running - a disconnected standby has replayed all it received and would
+    // otherwise look caught up - or nothing has been replayed yet. Needs pg_read_all_stats only for
+    // details; the receiver's row itself is visible to any role.
+    static final String LAG_SQL =
+            "SELECT CASE WHEN NOT pg_is_in_recovery() THEN 0 " +
+            "WHEN NOT EXISTS (SELECT 1 FROM pg_stat_wal_receiver) THEN NULL " +
+            "WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+            "ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000 END";
+
+    // Statements that change data; anything else on a read-write transaction leaves the replica usable
+    private static final Pattern WRITE_SQL = Pattern.compile(
+            "^\\s*(?:/\\*.*?\\*/\\s*)*(?:insert|update|delete|merge|upsert|create|alter|drop|truncate|call)\\b",
+            Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+
+    private static final int LAG_QUERY_TIMEOUT_SECONDS = 2;
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final long maxLagMillis;
+
+    private volatile boolean replicaUsable;
+    private volatile long lastWriteAt;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, Duration maxLag) {
+        this(primary, replica, new JdbcTemplate(replica), maxLag);
+        this.replicaJdbcTemplate.setQueryTimeout(LAG_QUERY_TIMEOUT_SECONDS);
+    }
+
+    ReplicaRoutingDataSource(DataSource primary, DataSource replica, JdbcTemplate replicaJdbcTemplate, Duration maxLag) {
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        this.replicaJdbcTemplate = replicaJdbcTemplate;
+        this.maxLagMillis = maxLag.toMillis();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return replicaUsable && System.currentTimeMillis() - lastWriteAt > maxLagMillis ?
+                    Target.REPLICA : Target.PRIMARY;
+        }
+        return Target.PRIMARY;
+    }
+
+    /**
+     * Read-write connections report their first data-changing statement, so only a transaction that
+     * wrote holds reads on the primary, counted from its commit
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        Connection connection = super.getConnection();
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return connection;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Auto-commit: each statement commits as it runs
+            return trackWrites(connection, this::markWritten);
+        }
+
+        boolean[] wrote = {false};
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                if (wrote[0]) {
+                    markWritten();
+                }
+            }
+        });
+        return trackWrites(connection, () -> wrote[0] = true);
+    }
+
+    private void markWritten() {
+        lastWriteAt = System.currentTimeMillis();
+    }
+
+    /**
+     * Wrap the connection so statements prepared or executed through it are checked for writes
+     */
+    private static Connection trackWrites(Connection connection, Runnable onWrite) {
+        return (Connection) Proxy.newProxyInstance(ReplicaRoutingDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                    String name = method.getName();
+                    if (name.startsWith("prepare") && args != null && args[0] instanceof String sql) {
+                        checkWrite(sql, onWrite);
+                    }
+                    Object result = invoke(connection, method, args);
+                    if (name.equals("createStatement") && result instanceof Statement statement) {
+                        return trackWrites(statement, onWrite);
+                    }
+                    return result;
+                });
+    }
+
+    private static Statement trackWrites(Statement statement, Runnable onWrite) {
+        return (Statement) Proxy.newProxyInstance(ReplicaRoutingDataSource.class.getClassLoader(),
+                new Class<?>[]{Statement.class}, (proxy, method, args) -> {
+                    String name = method.getName();
+                    if ((name.startsWith("execute") || name.equals("addBatch")) && args != null
+                            && args[0] instanceof String sql) {
+                        checkWrite(sql, onWrite);
+                    }
+                    return invoke(statement, method, args);
+                });
+    }
+
+    private static void checkWrite(String sql, Runnable onWrite) {
+        if (WRITE_SQL.matcher(sql).find()) {
+            onWrite.run();
+        }
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Re-measure replica lag; reads stay on the primary until the replica answers within the limit
+     */
+    @Scheduled(fixedDelayString = "PT5S")
+    public void checkReplicaLag() {
+        boolean usable;
+        try {
+            Double lagMillis = replicaJdbcTemplate.queryForObject(LAG_SQL, Double.class);
+            usable = lagMillis != null && lagMillis <= maxLagMillis;
+            if (!usable && replicaUsable) {
+                log.warn("Replica lag {}ms exceeds {}ms - routing reads to the primary", lagMillis, maxLagMillis);
+            }
+        } catch (Exception e) {
+            usable = false;
+            if (replicaUsable) {
+                log.warn("Replica unavailable - routing reads to the primary: {}", e.getMessage());
+            }
+        }
+
+        if (usable && !replicaUsable) {
+            log.info("Replica caught up - routing read-only transactions to it");
+        }
+        replicaUsable = usable;
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+}
@@ -1,24 +1,58 @@
 package com.infernokun.infernoGames.controllers;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.infernokun.infernoGames.models.ApiResponse;
 import com.infernokun.infernoGames.models.Game;
+import com.infernokun.infernoGames.models.dto.GameListQuery;
+import com.infernokun.infernoGames.models.dto.GamePage;
 import com.infernokun.infernoGames.models.dto.GameRequest;
+import com.infernokun.infernoGames.models.dto.GameSummary;
+import com.infernokun.infernoGames.models.enums.ExportFormat;
+import com.infernokun.infernoGames.models.enums.GameSort;
 import com.infernokun.infernoGames.models.enums.GamePlatform;
 import com.infernokun.infernoGames.models.enums.GameStatus;
+import com.infernokun.infernoGames.models.enums.GenreMatch;
+import com.infernokun.infernoGames.models.enums.SteamLibrarySort;
+import com.infernokun.infernoGames.models.enums.SteamOs;
+import com.infernokun.infernoGames.services.GameChangeTracker;
+import com.infernokun.infernoGames.services.GameExportService;
+import com.infernokun.infernoGames.services.GameImportService;
+import com.infernokun.infernoGames.services.GameImportService.ImportReport;
+import com.infernokun.infernoGames.services.GameSearchService;
+import com.infernokun.infernoGames.services.GameSearchService.SearchPage;
 import com.infernokun.infernoGames.services.GameService;
+import com.infernokun.infernoGames.services.SteamAchievementSyncService;
+import com.infernokun.infernoGames.services.SteamAchievementSyncService.AchievementSyncResult;
+import com.infernokun.infernoGames.services.SteamGenreEnrichmentService;
 import com.infernokun.infernoGames.services.IGDBService.IGDBGameDto;
+import com.infernokun.infernoGames.services.IgdbTypeaheadService;
+import com.infernokun.infernoGames.services.IgdbTypeaheadService.TypeaheadResponse;
+import com.infernokun.infernoGames.services.SteamLibraryViewService;
+import com.infernokun.infernoGames.services.SteamLibraryViewService.SteamLibraryPage;
+import com.infernokun.infernoGames.services.SteamLibraryViewService.SteamLibraryQuery;
 import com.infernokun.infernoGames.services.SteamService.SteamGameInfo;
 import com.infernokun.infernoGames.services.SteamService.SteamLibraryStats;
+import com.infernokun.infernoGames.services.SteamService.SteamLibraryStatus;
 import com.infernokun.infernoGames.services.SteamService.SteamUserProfile;
 import com.infernokun.infernoGames.services.SteamSyncScheduler;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @RestController
@@ -28,16 +62,59 @@ public class GameController extends BaseController {
 
     private final GameService gameService;
     private final SteamSyncScheduler steamSyncScheduler;
+    private final SteamAchievementSyncService steamAchievementSyncService;
+    private final SteamGenreEnrichmentService steamGenreEnrichmentService;
+    private final GameSearchService gameSearchService;
+    private final IgdbTypeaheadService igdbTypeaheadService;
+    private final GameImportService gameImportService;
+    private final GameExportService gameExportService;
+    private final GameChangeTracker gameChangeTracker;
 
     // ─── CRUD Endpoints ─────────────────────────────────────────────────────────
 
+    // Conditional GETs: If-None-Match is checked against a tag derived from row versions, and a match
+    // returns 304 before the payload is loaded
+
+    // The whole backlog in one response, as the current client expects; /page serves it in keyset pages
     @GetMapping
-    public ResponseEntity<ApiResponse<List<Game>>> getAllGames() {
+    public ResponseEntity<ApiResponse<List<GameSummary>>> getAllGames(WebRequest webRequest) {
+        if (webRequest.checkNotModified(gameChangeTracker.libraryEtag())) {
+            return null;
+        }
         return createSuccessResponse(gameService.getAllGames());
     }
 
+    @GetMapping("/page")
+    public ResponseEntity<ApiResponse<GamePage>> getGamePage(
+            @RequestParam(defaultValue = "TITLE") GameSort sort,
+            @RequestParam(required = false) Sort.Direction direction,
+            @RequestParam(required = false) GameStatus status,
+            @RequestParam(required = false) GamePlatform platform,
+            @RequestParam(required = false) Boolean favorite,
+            @RequestParam(required = false) Boolean dlc,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + GameListQuery.DEFAULT_PAGE_SIZE) int limit) {
+        GameListQuery query = GameListQuery.builder()
+                .sort(sort)
+                .direction(direction)
+                .status(status)
+                .platform(platform)
+                .favorite(favorite)
+                .dlc(dlc)
+                .cursor(cursor)
+                .limit(limit)
+                .build();
+        GamePage page = gameService.getGamePage(query);
+        return ResponseEntity.ok(ApiResponse.success(page)
+                .withPagination((int) page.getTotalCount(), null, query.resolvedLimit()));
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<Game>> getGameById(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<Game>> getGameById(@PathVariable Long id, WebRequest webRequest) {
+        String etag = gameChangeTracker.gameEtag(id);
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return null;
+        }
         return createSuccessResponse(gameService.getGameById(id));
     }
 
@@ -46,6 +123,28 @@ public class GameController extends BaseController {
         return createSuccessResponse(gameService.createGame(request), "Game created successfully");
     }
 
+    @PostMapping(value = "/import", consumes = {"text/csv", GameImportService.NDJSON_VALUE})
+    public ResponseEntity<ApiResponse<ImportReport>> importGames(
+            InputStream body,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType) {
+        ImportReport report = gameImportService.importGames(body, contentType);
+        return createSuccessResponse(report, "Imported " + report.getImported() + " of " + report.getTotal() + " games");
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportGames(@RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+        boolean csv = format == ExportFormat.CSV;
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename("inferno-games." + (csv ? "csv" : "ndjson"))
+                .build();
+
+        return ResponseEntity.ok()
+                .contentType(csv ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                        : MediaType.parseMediaType(GameImportService.NDJSON_VALUE))
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .body(out -> gameExportService.export(format, out));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<ApiResponse<Game>> updateGame(
             @PathVariable Long id,
@@ -53,6 +152,13 @@ public class GameController extends BaseController {
         return createSuccessResponse(gameService.updateGame(id, request), "Game updated successfully");
     }
 
+    @PatchMapping(value = "/{id}", consumes = {"application/merge-patch+json", MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<ApiResponse<Game>> patchGame(
+            @PathVariable Long id,
+            @RequestBody JsonNode patch) {
+        return createSuccessResponse(gameService.patchGame(id, patch), "Game updated successfully");
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<ApiResponse<Void>> deleteGame(@PathVariable Long id) {
         gameService.deleteGame(id);
@@ -80,54 +186,118 @@ public class GameController extends BaseController {
 
     // ─── Query Endpoints ────────────────────────────────────────────────────────
 
-    @GetMapping("/search")
-    public ResponseEntity<ApiResponse<List<Game>>> searchGames(@RequestParam String query) {
-        return createSuccessResponse(gameService.searchGames(query));
-    }
+    // The unpaged lists below return the first limit rows by title, without a cursor or total.
+    // Those that /page can already serve are deprecated in the API docs and kept for older clients.
 
+    /**
+     * @deprecated page through {@code /page} or {@code /search/fulltext} instead
+     */
+    @Deprecated
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<List<GameSummary>>> searchGames(
+            @RequestParam String query,
+            @RequestParam(defaultValue = "" + GameListQuery.DEFAULT_PAGE_SIZE) int limit) {
+        return cappedResponse(gameService.searchGames(query, limit), limit);
+    }
+
+    @GetMapping("/search/fulltext")
+    public ResponseEntity<ApiResponse<SearchPage>> fullTextSearch(
+            @RequestParam String query,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "" + GameSearchService.DEFAULT_PAGE_SIZE) int size) {
+        SearchPage result = gameSearchService.search(query, page, size);
+        return ResponseEntity.ok(ApiResponse.success(result)
+                .withPagination((int) result.getTotalCount(), result.getPage(), result.getSize()));
+    }
+
+    /**
+     * @deprecated page through {@code /page} instead
+     */
+    @Deprecated
     @GetMapping("/search/advanced")
-    public ResponseEntity<ApiResponse<List<Game>>> advancedSearch(
+    public ResponseEntity<ApiResponse<List<GameSummary>>> advancedSearch(
             @RequestParam(required = false) String title,
             @RequestParam(required = false) GameStatus status,
             @RequestParam(required = false) GamePlatform platform,
-            @RequestParam(required = false) String genre) {
-        return createSuccessResponse(gameService.advancedSearch(title, status, platform, genre));
-    }
-
+            @RequestParam(required = false) String genre,
+            @RequestParam(required = false) List<String> genres,
+            @RequestParam(defaultValue = "ANY") GenreMatch genreMatch,
+            @RequestParam(defaultValue = "" + GameListQuery.DEFAULT_PAGE_SIZE) int limit) {
+        return cappedResponse(
+                gameService.advancedSearch(title, status, platform, genre, genres, genreMatch, limit), limit);
+    }
+
+    /**
+     * @deprecated use {@code /page?status=} instead
+     */
+    @Deprecated
     @GetMapping("/status/{status}")
-    public ResponseEntity<ApiResponse<List<Game>>> getGamesByStatus(@PathVariable GameStatus status) {
-        return createSuccessResponse(gameService.getGamesByStatus(status));
+    public ResponseEntity<ApiResponse<List<GameSummary>>> getGamesByStatus(
+            @PathVariable GameStatus status,
+            @RequestParam(defaultValue = "" + GameListQuery.DEFAULT_PAGE_SIZE) int limit) {
+        return cappedResponse(gameService.getGamesByStatus(status, limit), limit);
     }
 
+    /**
+     * @deprecated use {@code /page?platform=} instead
+     */
+    @Deprecated
     @GetMapping("/platform/{platform}")
-    public ResponseEntity<ApiResponse<List<Game>>> getGamesByPlatform(@PathVariable GamePlatform platform) {
-        return createSuccessResponse(gameService.getGamesByPlatform(platform));
+    public ResponseEntity<ApiResponse<List<GameSummary>>> getGamesByPlatform(
+            @PathVariable GamePlatform platform,
+            @RequestParam(defaultValue = "" + GameListQuery.DEFAULT_PAGE_SIZE) int limit) {
+        return cappedResponse(gameService.getGamesByPlatform(platform, limit), limit);
+    }
+
+    @GetMapping("/owned-on")
+    public ResponseEntity<ApiResponse<List<GameSummary>>> getGamesOwnedOn(
+            @RequestParam List<GamePlatform> platforms,
+            @RequestParam(defaultValue = "false") boolean all,
+            @RequestParam(defaultValue = "" + GameListQuery.DEFAULT_PAGE_SIZE) int limit) {
+        return cappedResponse(gameService.getGamesOwnedOn(platforms, all, limit), limit);
     }
 
+    /**
+     * @deprecated use {@code /page?favorite=true} instead
+     */
+    @Deprecated
     @GetMapping("/favorites")
-    public ResponseEntity<ApiResponse<List<Game>>> getFavoriteGames() {
-        return createSuccessResponse(gameService.getFavoriteGames());
+    public ResponseEntity<ApiResponse<List<GameSummary>>> getFavoriteGames(
+            @RequestParam(defaultValue = "" + GameListQuery.DEFAULT_PAGE_SIZE) int limit) {
+        return cappedResponse(gameService.getFavoriteGames(limit), limit);
     }
 
+    /**
+     * @deprecated use {@code /page?dlc=true} instead
+     */
+    @Deprecated
     @GetMapping("/dlc")
-    public ResponseEntity<ApiResponse<List<Game>>> getDlcGames() {
-        return createSuccessResponse(gameService.getDlcGames());
+    public ResponseEntity<ApiResponse<List<GameSummary>>> getDlcGames(
+            @RequestParam(defaultValue = "" + GameListQuery.DEFAULT_PAGE_SIZE) int limit) {
+        return cappedResponse(gameService.getDlcGames(limit), limit);
     }
 
     @GetMapping("/recent")
-    public ResponseEntity<ApiResponse<List<Game>>> getRecentlyAddedGames() {
+    public ResponseEntity<ApiResponse<List<GameSummary>>> getRecentlyAddedGames() {
         return createSuccessResponse(gameService.getRecentlyAddedGames());
     }
 
     @GetMapping("/completed")
-    public ResponseEntity<ApiResponse<List<Game>>> getRecentlyCompletedGames() {
+    public ResponseEntity<ApiResponse<List<GameSummary>>> getRecentlyCompletedGames() {
         return createSuccessResponse(gameService.getRecentlyCompletedGames());
     }
 
+    private ResponseEntity<ApiResponse<List<GameSummary>>> cappedResponse(List<GameSummary> games, int limit) {
+        return ResponseEntity.ok(ApiResponse.success(games).withPagination(null, null, GameListQuery.clampLimit(limit)));
+    }
+
     // ─── Statistics ─────────────────────────────────────────────────────────────
 
     @GetMapping("/stats")
-    public ResponseEntity<ApiResponse<Map<String, Object>>> getGameStats() {
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getGameStats(WebRequest webRequest) {
+        if (webRequest.checkNotModified(gameChangeTracker.libraryEtag())) {
+            return null;
+        }
         return createSuccessResponse(gameService.getGameStats());
     }
 
@@ -138,6 +308,18 @@ public class GameController extends BaseController {
         return createSuccessResponse(gameService.searchIGDB(query));
     }
 
+    /**
+     * Typeahead suggestions; pass a stable X-Client-Id so superseded keystrokes can be dropped
+     */
+    @GetMapping("/igdb/typeahead")
+    public CompletableFuture<ResponseEntity<ApiResponse<TypeaheadResponse>>> typeaheadIGDB(
+            @RequestParam String query,
+            @RequestParam(required = false) Integer limit,
+            @RequestHeader(value = "X-Client-Id", required = false) String clientId) {
+        return igdbTypeaheadService.suggest(query, clientId, limit)
+                .thenApply(this::createSuccessResponse);
+    }
+
     @GetMapping("/igdb/{igdbId}")
     public ResponseEntity<ApiResponse<IGDBGameDto>> getIGDBGameById(@PathVariable Long igdbId) {
         return gameService.getIGDBGameById(igdbId)
@@ -191,16 +373,25 @@ public class GameController extends BaseController {
         return createSuccessResponse(status);
     }
 
+    @GetMapping("/steam/accounts")
+    public ResponseEntity<ApiResponse<List<SteamLibraryStatus>>> getSteamAccounts() {
+        return createSuccessResponse(gameService.getSteamAccounts());
+    }
+
     @GetMapping("/steam/user")
-    public ResponseEntity<ApiResponse<SteamUserProfile>> getSteamUserProfile() {
-        return gameService.getSteamUserProfile()
+    public ResponseEntity<ApiResponse<SteamUserProfile>> getSteamUserProfile(
+            @RequestParam(required = false) String steamId) {
+        return (steamId != null ? gameService.getSteamUserProfile(steamId) : gameService.getSteamUserProfile())
                 .map(this::createSuccessResponse)
                 .orElse(ResponseEntity.notFound().build());
     }
 
     @GetMapping("/steam/library")
-    public ResponseEntity<ApiResponse<List<SteamGameInfo>>> getSteamLibrary() {
-        return createSuccessResponse(gameService.getSteamOwnedGames());
+    public ResponseEntity<ApiResponse<List<SteamGameInfo>>> getSteamLibrary(
+            @RequestParam(required = false) String steamId) {
+        return createSuccessResponse(steamId != null ?
+                gameService.getSteamOwnedGames(steamId) :
+                gameService.getSteamOwnedGames());
     }
 
     @GetMapping("/steam/library/with-genres")
@@ -208,25 +399,69 @@ public class GameController extends BaseController {
         return createSuccessResponse(gameService.getSteamLibraryWithGenres());
     }
 
+    @GetMapping("/steam/library/page")
+    public ResponseEntity<ApiResponse<SteamLibraryPage>> getSteamLibraryPage(
+            @RequestParam(defaultValue = "NAME") SteamLibrarySort sort,
+            @RequestParam(required = false) Sort.Direction direction,
+            @RequestParam(required = false) Boolean played,
+            @RequestParam(required = false) Boolean inBacklog,
+            @RequestParam(required = false) String genre,
+            @RequestParam(required = false) SteamOs os,
+            @RequestParam(required = false) String steamId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + SteamLibraryViewService.DEFAULT_PAGE_SIZE) int limit) {
+        SteamLibraryQuery query = SteamLibraryQuery.builder()
+                .sort(sort)
+                .direction(direction)
+                .played(played)
+                .inBacklog(inBacklog)
+                .genre(genre)
+                .os(os)
+                .steamId(steamId)
+                .cursor(cursor)
+                .limit(limit)
+                .build();
+        return createSuccessResponse(gameService.getSteamLibraryPage(query));
+    }
+
     @GetMapping("/steam/library/genre-status")
     public ResponseEntity<ApiResponse<Map<String, Object>>> getSteamGenreEnrichmentStatus() {
         Map<String, Object> status = Map.of(
                 "cachedGenreCount", gameService.getCachedGenreCount(),
-                "enrichmentInProgress", gameService.isEnrichmentInProgress()
+                "enrichmentInProgress", steamGenreEnrichmentService.isEnrichmentInProgress(),
+                "progress", steamGenreEnrichmentService.getProgress()
         );
         return createSuccessResponse(status);
     }
 
+    @GetMapping(value = "/steam/library/genre-enrichment/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamSteamGenreEnrichment() {
+        return steamGenreEnrichmentService.subscribe();
+    }
+
+    @PostMapping("/steam/library/genre-enrichment/cancel")
+    public ResponseEntity<ApiResponse<Void>> cancelSteamGenreEnrichment() {
+        return steamGenreEnrichmentService.cancelEnrichment() ?
+                createSuccessResponse("Genre enrichment cancellation requested") :
+                createSuccessResponse("No genre enrichment in progress");
+    }
+
     @PostMapping("/steam/library/refresh-genres")
     public ResponseEntity<ApiResponse<Void>> refreshSteamLibraryGenres() {
+        if (steamGenreEnrichmentService.isEnrichmentInProgress()) {
+            return createSuccessResponse("Genre enrichment already in progress - check status endpoint for progress");
+        }
         gameService.clearIgdbGenreCache();
         steamSyncScheduler.triggerGenreEnrichment();
         return createSuccessResponse("Genre enrichment triggered - check status endpoint for progress");
     }
 
     @GetMapping("/steam/library/stats")
-    public ResponseEntity<ApiResponse<SteamLibraryStats>> getSteamLibraryStats() {
-        return createSuccessResponse(gameService.getSteamLibraryStats());
+    public ResponseEntity<ApiResponse<SteamLibraryStats>> getSteamLibraryStats(
+            @RequestParam(required = false) String steamId) {
+        return createSuccessResponse(steamId != null ?
+                gameService.getSteamLibraryStats(steamId) :
+                gameService.getSteamLibraryStats());
     }
 
     @GetMapping("/steam/search")
@@ -236,8 +471,11 @@ public class GameController extends BaseController {
 
     @GetMapping("/steam/recent")
     public ResponseEntity<ApiResponse<List<SteamGameInfo>>> getRecentlyPlayedSteam(
-            @RequestParam(defaultValue = "10") int count) {
-        return createSuccessResponse(gameService.getRecentlyPlayedSteamGames(count));
+            @RequestParam(defaultValue = "10") int count,
+            @RequestParam(required = false) String steamId) {
+        return createSuccessResponse(steamId != null ?
+                gameService.getRecentlyPlayedSteamGames(steamId, count) :
+                gameService.getRecentlyPlayedSteamGames(count));
     }
 
     @GetMapping("/steam/most-played")
@@ -259,6 +497,11 @@ public class GameController extends BaseController {
         return createSuccessResponse(result);
     }
 
+    @PostMapping("/steam/store/warm")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> warmSteamStoreCache(@RequestBody List<String> appIds) {
+        return createSuccessResponse(gameService.warmSteamStoreCache(appIds), "Steam store cache warm-up queued");
+    }
+
     @PostMapping("/steam/refresh")
     public ResponseEntity<ApiResponse<Void>> refreshSteamCache() {
         gameService.refreshSteamCache();
@@ -276,6 +519,27 @@ public class GameController extends BaseController {
         return createSuccessResponse("Steam sync triggered successfully");
     }
 
+    @PostMapping("/steam/sync-recent")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> triggerRecentSteamSync() {
+        int updated = steamSyncScheduler.syncRecentlyPlayed();
+        return createSuccessResponse(Map.of(
+                "updatedGames", updated,
+                "message", updated + " recently played games updated"
+        ));
+    }
+
+    @GetMapping("/steam/sync/status")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getSteamSyncStatus() {
+        return createSuccessResponse(steamSyncScheduler.getSyncStatus());
+    }
+
+    @PostMapping("/steam/achievements/sync")
+    public ResponseEntity<ApiResponse<AchievementSyncResult>> syncSteamAchievements(
+            @RequestParam(defaultValue = "false") boolean force) {
+        return createSuccessResponse(steamAchievementSyncService.syncAchievements(force),
+                "Steam achievements sync completed");
+    }
+
     @PostMapping("/steam/validate-platforms")
     public ResponseEntity<ApiResponse<Map<String, Object>>> validateSteamPlatforms() {
         int updated = steamSyncScheduler.validateSteamPlatforms();
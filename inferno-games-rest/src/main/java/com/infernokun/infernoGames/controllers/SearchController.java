@@ -0,0 +1,31 @@
+package com.infernokun.infernoGames.controllers;
+
+import com.infernokun.infernoGames.models.ApiResponse;
+import com.infernokun.infernoGames.models.enums.SearchSource;
+import com.infernokun.infernoGames.services.SearchIndexService;
+import com.infernokun.infernoGames.services.SearchIndexService.SearchResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Set;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/search")
+public class SearchController extends BaseController {
+
+    private final SearchIndexService searchIndexService;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<SearchResponse>> search(
+            @RequestParam String query,
+            @RequestParam(required = false) Set<SearchSource> sources,
+            @RequestParam(defaultValue = "" + SearchIndexService.DEFAULT_LIMIT) int limit) {
+        SearchResponse response = searchIndexService.search(query, sources, limit);
+        return ResponseEntity.ok(ApiResponse.success(response)
+                .withPagination(response.getTotalCount(), null, response.getResults().size()));
+    }
+}
@@ -0,0 +1,16 @@
+package com.infernokun.infernoGames.events;
+
+import java.util.List;
+
+/**
+ * Published after a backlog game was inserted, updated or deleted through JPA
+ */
+public record BacklogGameChangedEvent(Long gameId,
+                                      String title,
+                                      String developer,
+                                      String publisher,
+                                      String coverImageUrl,
+                                      String steamAppId,
+                                      List<String> genres,
+                                      boolean removed) {
+}
@@ -0,0 +1,39 @@
+package com.infernokun.infernoGames.events;
+
+import com.infernokun.infernoGames.models.Game;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+
+/**
+ * Turns Game lifecycle callbacks into BacklogGameChangedEvents.
+ * Instantiated by Hibernate through Spring's bean container, so constructor injection works.
+ */
+@RequiredArgsConstructor
+public class GameEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(Game game) {
+        eventPublisher.publishEvent(new BacklogGameChangedEvent(
+                game.getId(), game.getTitle(), game.getDeveloper(), game.getPublisher(),
+                game.getCoverImageUrl(), game.getSteamAppId(), copyGenres(game), false));
+    }
+
+    @PostRemove
+    public void onRemoved(Game game) {
+        eventPublisher.publishEvent(new BacklogGameChangedEvent(
+                game.getId(), game.getTitle(), game.getDeveloper(), game.getPublisher(),
+                game.getCoverImageUrl(), game.getSteamAppId(), List.of(), true));
+    }
+
+    private List<String> copyGenres(Game game) {
+        return game.getGenres() != null ? List.copyOf(game.getGenres()) : List.of();
+    }
+}
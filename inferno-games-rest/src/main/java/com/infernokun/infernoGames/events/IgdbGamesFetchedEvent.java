@@ -0,0 +1,11 @@
+package com.infernokun.infernoGames.events;
+
+import com.infernokun.infernoGames.services.IGDBService.IGDBGameDto;
+
+import java.util.List;
+
+/**
+ * Published when IGDB game details were fetched from the API (cache misses only)
+ */
+public record IgdbGamesFetchedEvent(List<IGDBGameDto> games) {
+}
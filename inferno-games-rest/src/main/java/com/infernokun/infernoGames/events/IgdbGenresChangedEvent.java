@@ -0,0 +1,9 @@
+package com.infernokun.infernoGames.events;
+
+import java.util.Set;
+
+/**
+ * Published when IGDB genre cache entries changed. A reset means the whole cache was replaced.
+ */
+public record IgdbGenresChangedEvent(Set<String> steamAppIds, boolean reset) {
+}
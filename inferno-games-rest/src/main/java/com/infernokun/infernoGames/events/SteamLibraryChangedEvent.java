@@ -0,0 +1,9 @@
+package com.infernokun.infernoGames.events;
+
+import java.util.Set;
+
+/**
+ * Published when entries of the merged Steam library were added, changed or removed
+ */
+public record SteamLibraryChangedEvent(Set<String> appIds) {
+}
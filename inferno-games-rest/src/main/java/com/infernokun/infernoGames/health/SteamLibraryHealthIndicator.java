@@ -0,0 +1,69 @@
+package com.infernokun.infernoGames.health;
+
+import com.infernokun.infernoGames.services.SteamService;
+import com.infernokun.infernoGames.services.SteamService.SteamLibraryStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reports the Steam library load state of each linked account under /actuator/health/steamLibrary.
+ * Steam being slow or down degrades the component but never takes the app DOWN.
+ */
+@Component("steamLibrary")
+@RequiredArgsConstructor
+public class SteamLibraryHealthIndicator implements HealthIndicator {
+
+    private static final Status DEGRADED = new Status("DEGRADED");
+    private static final List<Status> SEVERITY = List.of(Status.UP, Status.UNKNOWN, DEGRADED);
+
+    private final SteamService steamService;
+
+    @Override
+    public Health health() {
+        List<SteamLibraryStatus> statuses = steamService.getLibraryStatuses();
+        if (statuses.isEmpty()) {
+            statuses = List.of(steamService.getLibraryStatus());
+        }
+
+        // The component reports the worst account; each account's own state is in the details
+        Status overall = Status.UP;
+        for (SteamLibraryStatus status : statuses) {
+            Status accountStatus = switch (status.getState()) {
+                case READY, NOT_CONFIGURED -> Status.UP;
+                case LOADING -> Status.UNKNOWN;
+                case SNAPSHOT, FAILED -> DEGRADED;
+            };
+            if (SEVERITY.indexOf(accountStatus) > SEVERITY.indexOf(overall)) {
+                overall = accountStatus;
+            }
+        }
+
+        Health.Builder builder = Health.status(overall);
+        for (SteamLibraryStatus status : statuses) {
+            Map<String, Object> details = new LinkedHashMap<>();
+            details.put("state", status.getState());
+            details.put("gameCount", status.getGameCount());
+
+            if (status.getLastUpdated() != null) {
+                details.put("lastUpdated", status.getLastUpdated().toString());
+            }
+            if (status.getSnapshotFetchedAt() != null) {
+                details.put("snapshotFetchedAt", status.getSnapshotFetchedAt().toString());
+            }
+            if (status.getLastError() != null) {
+                details.put("lastError", status.getLastError());
+            }
+
+            builder.withDetail(status.getName() != null ? status.getName() : "steam", details);
+        }
+
+        return builder.build();
+    }
+}
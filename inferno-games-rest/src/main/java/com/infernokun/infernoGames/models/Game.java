@@ -1,8 +1,10 @@
 package com.infernokun.infernoGames.models;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.infernokun.infernoGames.events.GameEntityListener;
 import com.infernokun.infernoGames.models.enums.GamePlatform;
 import com.infernokun.infernoGames.models.enums.GameStatus;
-import com.infernokun.infernoGames.utils.GamePlatformListConverter;
+import com.infernokun.infernoGames.utils.GamePlatformMask;
 import com.infernokun.infernoGames.utils.StringListConverter;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Max;
@@ -10,21 +12,45 @@ import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.LazyGroup;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Game.CACHE_REGION)
+@DynamicUpdate
 @Getter
 @Setter
 @Builder
 @ToString
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "games")
+@Table(name = "games", indexes = {
+        @Index(name = "idx_games_title_id", columnList = "title, id"),
+        @Index(name = "idx_games_updated_at_id", columnList = "updated_at, id"),
+        @Index(name = "idx_games_playtime_hours_id", columnList = "playtime_hours, id"),
+        @Index(name = "idx_games_rating_id", columnList = "rating, id"),
+        @Index(name = "idx_games_release_year_id", columnList = "release_year, id"),
+        @Index(name = "idx_games_status", columnList = "status")
+})
+@EntityListeners(GameEntityListener.class)
 public class Game {
 
+    public static final String DETAILS_GROUP = "details";
+
+    // Second-level cache regions, sized in ehcache.xml
+    public static final String CACHE_REGION = "games";
+    public static final String LOOKUP_CACHE_REGION = "gameLookups";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -34,6 +60,10 @@ public class Game {
     @Column(nullable = false)
     private String title;
 
+    // Detail-only TEXT columns share a lazy group: bulk and list loads skip them, the first access loads all three
+    @ToString.Exclude
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup(DETAILS_GROUP)
     @Column(name = "description", columnDefinition = "TEXT")
     private String description;
 
@@ -52,15 +82,19 @@ public class Game {
     @Column(name = "genre")
     private String genre;
 
+    // Native array (GIN-indexed on PostgreSQL); replaces the JSON-in-TEXT "genres" column
     @Builder.Default
-    @Column(name = "genres", columnDefinition = "TEXT")
-    @Convert(converter = StringListConverter.class)
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "genre_list")
     private List<String> genres = new ArrayList<>();
 
     @Column(name = "cover_image_url", length = 1024)
     private String coverImageUrl;
 
     @Builder.Default
+    @ToString.Exclude
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup(DETAILS_GROUP)
     @Column(name = "screenshot_urls", columnDefinition = "TEXT")
     @Convert(converter = StringListConverter.class)
     private List<String> screenshotUrls = new ArrayList<>();
@@ -69,10 +103,10 @@ public class Game {
     @Column(name = "platform")
     private GamePlatform platform;
 
-    @Builder.Default
-    @Column(name = "platforms", columnDefinition = "TEXT")
-    @Convert(converter = GamePlatformListConverter.class)
-    private List<GamePlatform> platforms = new ArrayList<>();
+    // Owned platforms, one bit per GamePlatform (see GamePlatformMask); exposed as getPlatforms()
+    @JsonIgnore
+    @Column(name = "platform_mask")
+    private Integer platformMask;
 
     @Builder.Default
     @Enumerated(EnumType.STRING)
@@ -100,6 +134,9 @@ public class Game {
     @Column(name = "completed_at")
     private LocalDateTime completedAt;
 
+    @ToString.Exclude
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup(DETAILS_GROUP)
     @Column(name = "notes", columnDefinition = "TEXT")
     private String notes;
 
@@ -138,6 +175,11 @@ public class Game {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // Optimistic lock for read-modify-write updates; the atomic toggles bump it in SQL
+    @Version
+    @Column(name = "version")
+    private Long version;
+
     @Column(name = "steam_app_id")
     private String steamAppId;
 
@@ -160,6 +202,12 @@ public class Game {
     @Column(name = "steam_last_synced")
     private LocalDateTime steamLastSynced;
 
+    @Column(name = "steam_achievements_etag")
+    private String steamAchievementsEtag;
+
+    @Column(name = "steam_achievements_synced")
+    private LocalDateTime steamAchievementsSynced;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -171,6 +219,15 @@ public class Game {
         updatedAt = LocalDateTime.now();
     }
 
+    // Owned platforms in declaration order, decoded from the mask; a fresh copy on every call
+    public List<GamePlatform> getPlatforms() {
+        return new ArrayList<>(GamePlatformMask.toSet(platformMask));
+    }
+
+    public void setPlatforms(Collection<GamePlatform> platforms) {
+        this.platformMask = GamePlatformMask.toMask(platforms);
+    }
+
     // Helper method to update status timestamps
     public void updateStatus(GameStatus newStatus) {
         this.status = newStatus;
@@ -181,4 +238,12 @@ public class Game {
             this.completionPercentage = 100;
         }
     }
-}
\ No newline at end of file
+
+    // Lets Game.builder().platforms(...) keep taking a collection
+    public static class GameBuilder {
+        public GameBuilder platforms(Collection<GamePlatform> platforms) {
+            this.platformMask = GamePlatformMask.toMask(platforms);
+            return this;
+        }
+    }
+}
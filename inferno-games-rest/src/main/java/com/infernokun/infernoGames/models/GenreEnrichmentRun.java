@@ -0,0 +1,57 @@
+package com.infernokun.infernoGames.models;
+
+import com.infernokun.infernoGames.models.enums.EnrichmentRunStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Checkpoint of a Steam genre enrichment run.
+ * Finished batches are already durable in igdb_genre_cache; a run left RUNNING by a restart
+ * is resumed on startup and re-selects only the apps that are still missing.
+ */
+@Entity
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "genre_enrichment_runs")
+public class GenreEnrichmentRun {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status")
+    private EnrichmentRunStatus status;
+
+    @Column(name = "total_apps")
+    private int totalApps;
+
+    @Column(name = "persisted_apps")
+    private int persistedApps;
+
+    @Column(name = "enriched_apps")
+    private int enrichedApps;
+
+    @Column(name = "failed_batches")
+    private int failedBatches;
+
+    @Column(name = "resume_count")
+    private int resumeCount;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,54 @@
+package com.infernokun.infernoGames.models;
+
+import com.infernokun.infernoGames.utils.StringListConverter;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * IGDB genres resolved for a Steam app, shared by every replica.
+ * Negative entries record apps IGDB has no genres for so they aren't looked up again until they expire.
+ */
+@Entity
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "igdb_genre_cache", indexes = {
+        @Index(name = "idx_igdb_genre_cache_fetched_at", columnList = "fetched_at")
+})
+public class IgdbGenreCacheEntry {
+
+    @Id
+    @Column(name = "steam_app_id")
+    private String steamAppId;
+
+    @Column(name = "igdb_id")
+    private Long igdbId;
+
+    @Builder.Default
+    @Column(name = "genres", columnDefinition = "TEXT")
+    @Convert(converter = StringListConverter.class)
+    private List<String> genres = new ArrayList<>();
+
+    @Column(name = "negative")
+    private boolean negative;
+
+    // Resolver version that produced the entry; older versions are treated as missing
+    @Column(name = "cache_version")
+    private int cacheVersion;
+
+    @Column(name = "fetched_at")
+    private LocalDateTime fetchedAt;
+
+    @Column(name = "expires_at")
+    private LocalDateTime expiresAt;
+
+    public boolean isLive(int currentVersion, LocalDateTime now) {
+        return cacheVersion == currentVersion && expiresAt != null && expiresAt.isAfter(now);
+    }
+}
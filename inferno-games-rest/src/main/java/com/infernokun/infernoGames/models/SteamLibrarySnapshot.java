@@ -0,0 +1,33 @@
+package com.infernokun.infernoGames.models;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Last-known copy of a Steam account's owned games, served on startup
+ * while the live library is fetched in the background
+ */
+@Entity
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "steam_library_snapshots")
+public class SteamLibrarySnapshot {
+
+    @Id
+    @Column(name = "steam_id")
+    private String steamId;
+
+    @Column(name = "payload", columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "game_count")
+    private Integer gameCount;
+
+    @Column(name = "fetched_at")
+    private LocalDateTime fetchedAt;
+}
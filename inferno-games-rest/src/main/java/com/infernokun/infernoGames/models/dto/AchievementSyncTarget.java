@@ -0,0 +1,15 @@
+package com.infernokun.infernoGames.models.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * The columns the achievements sync needs to decide whether an app must be re-fetched
+ */
+public record AchievementSyncTarget(
+        Long id,
+        String steamAppId,
+        LocalDateTime steamLastPlayed,
+        LocalDateTime steamAchievementsSynced,
+        String steamAchievementsEtag
+) {
+}
@@ -0,0 +1,53 @@
+package com.infernokun.infernoGames.models.dto;
+
+import com.infernokun.infernoGames.models.enums.GameSort;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Keyset position in the game list: the sort key and id of the last row of the previous page.
+ * Encoded as an opaque URL-safe token.
+ */
+public record GameCursor(GameSort sort, Sort.Direction direction, Long id, Object value) {
+
+    public static GameCursor after(GameSummary game, GameSort sort, Sort.Direction direction) {
+        Object value = switch (sort) {
+            case TITLE -> game.getTitle();
+            case UPDATED_AT -> game.getUpdatedAt();
+            case PLAYTIME -> game.getPlaytimeHours();
+            case RATING -> game.getRating();
+            case RELEASE_YEAR -> game.getReleaseYear();
+        };
+        return new GameCursor(sort, direction, game.getId(), value);
+    }
+
+    public String encode() {
+        String raw = String.join("|", sort.name(), direction.name(), String.valueOf(id),
+                value != null ? value.toString() : "");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static GameCursor decode(String token) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\|", 4);
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("Invalid game list cursor");
+            }
+
+            GameSort sort = GameSort.valueOf(parts[0]);
+            String raw = parts[3];
+            Object value = raw.isEmpty() ? null : switch (sort) {
+                case TITLE -> raw;
+                case UPDATED_AT -> LocalDateTime.parse(raw);
+                case PLAYTIME -> Double.parseDouble(raw);
+                case RATING, RELEASE_YEAR -> Integer.parseInt(raw);
+            };
+            return new GameCursor(sort, Sort.Direction.valueOf(parts[1]), Long.parseLong(parts[2]), value);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid game list cursor");
+        }
+    }
+}
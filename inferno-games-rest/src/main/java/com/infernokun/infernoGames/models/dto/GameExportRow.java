@@ -0,0 +1,39 @@
+package com.infernokun.infernoGames.models.dto;
+
+import com.infernokun.infernoGames.models.enums.GamePlatform;
+import com.infernokun.infernoGames.models.enums.GameStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * One game as streamed by the export: the importable {@link GameRequest} columns, with owned
+ * platforms still packed in their mask
+ */
+public record GameExportRow(
+        String title,
+        String description,
+        String developer,
+        String publisher,
+        Integer releaseYear,
+        String genre,
+        List<String> genres,
+        String coverImageUrl,
+        List<String> screenshotUrls,
+        GamePlatform platform,
+        Integer platformMask,
+        GameStatus status,
+        Integer rating,
+        Double playtimeHours,
+        Integer completionPercentage,
+        LocalDateTime startedAt,
+        LocalDateTime completedAt,
+        String notes,
+        Boolean favorite,
+        Boolean dlc,
+        Integer achievements,
+        Integer totalAchievements,
+        String steamAppId,
+        Long igdbId
+) {
+}
@@ -0,0 +1,12 @@
+package com.infernokun.infernoGames.models.dto;
+
+/**
+ * Aggregates over the games table that together move on every write: inserts raise the highest id
+ * (ids are never reused), deletes drop the count and updates bump a version. Used as the library ETag.
+ */
+public record GameLibraryVersion(
+        Long count,
+        Long maxId,
+        Long versionSum
+) {
+}
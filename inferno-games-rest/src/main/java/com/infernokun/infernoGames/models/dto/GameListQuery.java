@@ -0,0 +1,77 @@
+package com.infernokun.infernoGames.models.dto;
+
+import com.infernokun.infernoGames.models.enums.GamePlatform;
+import com.infernokun.infernoGames.models.enums.GameSort;
+import com.infernokun.infernoGames.models.enums.GameStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Sort;
+
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Filters, ordering and keyset position for one page of the game list
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GameListQuery {
+
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 200;
+
+    @Builder.Default
+    private GameSort sort = GameSort.TITLE;
+    private Sort.Direction direction;
+    private GameStatus status;
+    private GamePlatform platform;
+    private Boolean favorite;
+    private Boolean dlc;
+    private String cursor;
+    @Builder.Default
+    private int limit = DEFAULT_PAGE_SIZE;
+
+    /**
+     * Direction to use when none was requested: A-Z for titles, highest/newest first otherwise
+     */
+    public Sort.Direction resolvedDirection() {
+        if (direction != null) {
+            return direction;
+        }
+        return sort == GameSort.TITLE ? Sort.Direction.ASC : Sort.Direction.DESC;
+    }
+
+    public int resolvedLimit() {
+        return clampLimit(limit);
+    }
+
+    /**
+     * Requested row count held to 1..MAX_PAGE_SIZE; also caps the older unpaged list endpoints
+     */
+    public static int clampLimit(int limit) {
+        return Math.clamp(limit, 1, MAX_PAGE_SIZE);
+    }
+
+    /**
+     * Stable key for the page cache
+     */
+    public String cacheKey() {
+        return Stream.of(sort, resolvedDirection(), status, platform, favorite, dlc, resolvedLimit(), cursor)
+                .map(value -> Objects.toString(value, ""))
+                .collect(Collectors.joining(":"));
+    }
+
+    /**
+     * Key for the total row count, which only depends on the filters
+     */
+    public String countKey() {
+        return Stream.of("count", status, platform, favorite, dlc)
+                .map(value -> Objects.toString(value, ""))
+                .collect(Collectors.joining(":"));
+    }
+}
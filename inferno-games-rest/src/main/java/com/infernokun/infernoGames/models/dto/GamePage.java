@@ -0,0 +1,24 @@
+package com.infernokun.infernoGames.models.dto;
+
+import com.infernokun.infernoGames.models.enums.GameSort;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GamePage {
+    @Builder.Default
+    private List<GameSummary> items = new ArrayList<>();
+    private String nextCursor;
+    private long totalCount;
+    private GameSort sort;
+    private Sort.Direction direction;
+}
@@ -0,0 +1,16 @@
+package com.infernokun.infernoGames.models.dto;
+
+import java.util.List;
+
+/**
+ * The backlog fields the in-memory search index covers, with the full genre list
+ */
+public record GameSearchRow(
+        Long id,
+        String title,
+        String developer,
+        String publisher,
+        String coverImageUrl,
+        List<String> genres
+) {
+}
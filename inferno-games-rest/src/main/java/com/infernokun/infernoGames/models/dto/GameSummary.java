@@ -0,0 +1,54 @@
+package com.infernokun.infernoGames.models.dto;
+
+import com.infernokun.infernoGames.models.Game;
+import com.infernokun.infernoGames.models.enums.GamePlatform;
+import com.infernokun.infernoGames.models.enums.GameStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * The columns list views show. Skips the TEXT and array columns (description, notes,
+ * genres, screenshots), which only the detail endpoint loads.
+ * Field order is the constructor order used by the repository's SELECT NEW queries.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GameSummary {
+    private Long id;
+    private String title;
+    private String developer;
+    private String publisher;
+    private Integer releaseYear;
+    private String genre;
+    private String coverImageUrl;
+    private GamePlatform platform;
+    private GameStatus status;
+    private Integer rating;
+    private Double playtimeHours;
+    private Integer completionPercentage;
+    private Boolean favorite;
+    private Boolean dlc;
+    private Integer achievements;
+    private Integer totalAchievements;
+    private Double igdbRating;
+    private String steamAppId;
+    private Long igdbId;
+    private LocalDateTime completedAt;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public static GameSummary from(Game game) {
+        return new GameSummary(game.getId(), game.getTitle(), game.getDeveloper(), game.getPublisher(),
+                game.getReleaseYear(), game.getGenre(), game.getCoverImageUrl(), game.getPlatform(),
+                game.getStatus(), game.getRating(), game.getPlaytimeHours(), game.getCompletionPercentage(),
+                game.getFavorite(), game.getDlc(), game.getAchievements(), game.getTotalAchievements(),
+                game.getIgdbRating(), game.getSteamAppId(), game.getIgdbId(), game.getCompletedAt(),
+                game.getCreatedAt(), game.getUpdatedAt());
+    }
+}
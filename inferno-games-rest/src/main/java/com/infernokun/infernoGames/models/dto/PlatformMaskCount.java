@@ -0,0 +1,20 @@
+package com.infernokun.infernoGames.models.dto;
+
+import com.infernokun.infernoGames.models.enums.GamePlatform;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Number of games sharing a primary platform and owned-platform mask, for the stats breakdown
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlatformMaskCount {
+    private GamePlatform platform;
+    private Integer platformMask;
+    private long count;
+}
@@ -0,0 +1,8 @@
+package com.infernokun.infernoGames.models.enums;
+
+public enum EnrichmentRunStatus {
+    RUNNING,
+    COMPLETED,
+    CANCELLED,
+    FAILED
+}
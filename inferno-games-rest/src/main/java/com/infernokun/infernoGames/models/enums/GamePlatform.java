@@ -1,17 +1,30 @@
 package com.infernokun.infernoGames.models.enums;
 
+import lombok.Getter;
+
+/**
+ * Each platform owns a fixed bit of games.platform_mask. Bits are persisted, so never reuse or
+ * renumber one; new constants take the next free bit and may be declared anywhere.
+ */
+@Getter
 public enum GamePlatform {
-    PC,
-    PLAYSTATION_5,
-    PLAYSTATION_4,
-    PLAYSTATION_3,
-    XBOX_SERIES,
-    XBOX_ONE,
-    XBOX_360,
-    NINTENDO_SWITCH,
-    NINTENDO_3DS,
-    STEAM_DECK,
-    MOBILE_IOS,
-    MOBILE_ANDROID,
-    OTHER
+    PC(0),
+    PLAYSTATION_5(1),
+    PLAYSTATION_4(2),
+    PLAYSTATION_3(3),
+    XBOX_SERIES(4),
+    XBOX_ONE(5),
+    XBOX_360(6),
+    NINTENDO_SWITCH(7),
+    NINTENDO_3DS(8),
+    STEAM_DECK(9),
+    MOBILE_IOS(10),
+    MOBILE_ANDROID(11),
+    OTHER(12);
+
+    private final int bit;
+
+    GamePlatform(int bit) {
+        this.bit = bit;
+    }
 }
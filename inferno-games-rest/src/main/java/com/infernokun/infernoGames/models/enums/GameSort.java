@@ -0,0 +1,9 @@
+package com.infernokun.infernoGames.models.enums;
+
+public enum GameSort {
+    TITLE,
+    UPDATED_AT,
+    PLAYTIME,
+    RATING,
+    RELEASE_YEAR
+}
@@ -0,0 +1,6 @@
+package com.infernokun.infernoGames.models.enums;
+
+public enum GenreMatch {
+    ANY,
+    ALL
+}
@@ -0,0 +1,7 @@
+package com.infernokun.infernoGames.models.enums;
+
+public enum SearchSource {
+    BACKLOG,
+    STEAM,
+    IGDB
+}
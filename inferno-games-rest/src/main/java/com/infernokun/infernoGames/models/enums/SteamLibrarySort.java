@@ -0,0 +1,7 @@
+package com.infernokun.infernoGames.models.enums;
+
+public enum SteamLibrarySort {
+    NAME,
+    PLAYTIME,
+    LAST_PLAYED
+}
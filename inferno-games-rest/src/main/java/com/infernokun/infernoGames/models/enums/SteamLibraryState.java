@@ -0,0 +1,9 @@
+package com.infernokun.infernoGames.models.enums;
+
+public enum SteamLibraryState {
+    NOT_CONFIGURED,
+    LOADING,
+    SNAPSHOT,
+    READY,
+    FAILED
+}
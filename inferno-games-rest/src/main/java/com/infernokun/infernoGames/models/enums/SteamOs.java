@@ -0,0 +1,8 @@
+package com.infernokun.infernoGames.models.enums;
+
+public enum SteamOs {
+    WINDOWS,
+    MAC,
+    LINUX,
+    DECK
+}
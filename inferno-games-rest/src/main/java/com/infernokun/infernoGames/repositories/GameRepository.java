@@ -1,22 +1,44 @@
 package com.infernokun.infernoGames.repositories;
 
 import com.infernokun.infernoGames.models.Game;
+import com.infernokun.infernoGames.models.dto.AchievementSyncTarget;
+import com.infernokun.infernoGames.models.dto.GameLibraryVersion;
+import com.infernokun.infernoGames.models.dto.GameSearchRow;
+import com.infernokun.infernoGames.models.dto.GameSummary;
+import com.infernokun.infernoGames.models.dto.PlatformMaskCount;
 import com.infernokun.infernoGames.models.enums.GamePlatform;
 import com.infernokun.infernoGames.models.enums.GameStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
-public interface GameRepository extends JpaRepository<Game, Long> {
-
-    // Find by IGDB ID
+public interface GameRepository extends JpaRepository<Game, Long>, GameRepositoryCustom {
+
+    // Column-restricted select for list views - must match GameSummary's field order
+    String SUMMARY_SELECT = "SELECT new com.infernokun.infernoGames.models.dto.GameSummary(" +
+            "g.id, g.title, g.developer, g.publisher, g.releaseYear, g.genre, g.coverImageUrl, g.platform, " +
+            "g.status, g.rating, g.playtimeHours, g.completionPercentage, g.favorite, g.dlc, g.achievements, " +
+            "g.totalAchievements, g.igdbRating, g.steamAppId, g.igdbId, g.completedAt, g.createdAt, g.updatedAt) " +
+            "FROM Game g ";
+
+    // Find by IGDB ID (query cache; invalidated by any write to games)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = Game.LOOKUP_CACHE_REGION)
+    })
     Optional<Game> findByIgdbId(Long igdbId);
 
     // Search by title
@@ -91,16 +113,108 @@ public interface GameRepository extends JpaRepository<Game, Long> {
 
     Page<Game> findByPlatform(GamePlatform platform, Pageable pageable);
 
+    // ─── Summary projections for list endpoints ───
+
+    @Query(SUMMARY_SELECT + "ORDER BY g.title ASC")
+    List<GameSummary> findAllSummaries();
+
+    @Query("SELECT new com.infernokun.infernoGames.models.dto.GameSearchRow(" +
+            "g.id, g.title, g.developer, g.publisher, g.coverImageUrl, g.genres) FROM Game g")
+    List<GameSearchRow> findAllSearchRows();
+
+    @Query(SUMMARY_SELECT + "WHERE LOWER(g.title) LIKE LOWER(CONCAT('%', :title, '%')) ORDER BY g.title ASC")
+    List<GameSummary> findSummariesByTitleContaining(@Param("title") String title, Limit limit);
+
+    @Query(SUMMARY_SELECT + "WHERE g.id IN :ids")
+    List<GameSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(SUMMARY_SELECT + "WHERE g.status = :status ORDER BY g.title ASC")
+    List<GameSummary> findSummariesByStatus(@Param("status") GameStatus status, Limit limit);
+
+    @Query(SUMMARY_SELECT + "WHERE g.platform = :platform ORDER BY g.title ASC")
+    List<GameSummary> findSummariesByPlatform(@Param("platform") GamePlatform platform, Limit limit);
+
+    @Query(SUMMARY_SELECT + "WHERE g.favorite = true ORDER BY g.title ASC")
+    List<GameSummary> findFavoriteSummaries(Limit limit);
+
+    @Query(SUMMARY_SELECT + "WHERE g.dlc = true ORDER BY g.title ASC")
+    List<GameSummary> findDlcSummaries(Limit limit);
+
+    @Query(SUMMARY_SELECT + "ORDER BY g.createdAt DESC")
+    List<GameSummary> findRecentlyAddedSummaries(Limit limit);
+
+    @Query(SUMMARY_SELECT + "WHERE g.status = :status ORDER BY g.completedAt DESC")
+    List<GameSummary> findRecentlyCompletedSummaries(@Param("status") GameStatus status, Limit limit);
+
+    @Query(SUMMARY_SELECT + "WHERE " +
+            "(:title IS NULL OR LOWER(g.title) LIKE LOWER(CONCAT('%', :title, '%'))) AND " +
+            "(:status IS NULL OR g.status = :status) AND " +
+            "(:platform IS NULL OR g.platform = :platform) AND " +
+            "(:genre IS NULL OR LOWER(g.genre) LIKE LOWER(CONCAT('%', :genre, '%'))) " +
+            "ORDER BY g.title ASC")
+    List<GameSummary> searchSummaries(
+            @Param("title") String title,
+            @Param("status") GameStatus status,
+            @Param("platform") GamePlatform platform,
+            @Param("genre") String genre,
+            Limit limit
+    );
+
+    // Owned on at least one / every platform in the mask (bitwise over platform_mask)
+    @Query(SUMMARY_SELECT + "WHERE bitand(g.platformMask, :mask) <> 0 ORDER BY g.title ASC")
+    List<GameSummary> findSummariesOnAnyPlatform(@Param("mask") int mask, Limit limit);
+
+    @Query(SUMMARY_SELECT + "WHERE bitand(g.platformMask, :mask) = :mask ORDER BY g.title ASC")
+    List<GameSummary> findSummariesOnAllPlatforms(@Param("mask") int mask, Limit limit);
+
+    // One row per distinct (primary platform, owned mask) pair, for the stats breakdown
+    @Query("SELECT new com.infernokun.infernoGames.models.dto.PlatformMaskCount(g.platform, g.platformMask, COUNT(g)) " +
+            "FROM Game g GROUP BY g.platform, g.platformMask")
+    List<PlatformMaskCount> countByPlatformMask();
+
+    // ETag sources: shared by every instance, unlike anything kept in memory.
+    // The counter table and its trigger exist on PostgreSQL only; elsewhere the aggregate stands in.
+    @Query(value = "SELECT version FROM game_library_version WHERE id = 1", nativeQuery = true)
+    Long findLibraryChangeCount();
+
+    @Query("SELECT new com.infernokun.infernoGames.models.dto.GameLibraryVersion(COUNT(g), MAX(g.id), SUM(g.version)) " +
+            "FROM Game g")
+    GameLibraryVersion findLibraryVersion();
+
+    @Query("SELECT g.version FROM Game g WHERE g.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
     // Check if game exists by IGDB ID
     boolean existsByIgdbId(Long igdbId);
 
-    // Find by Steam App ID
+    // Which of these IGDB IDs are already in the backlog (bulk import dedupe)
+    @Query("SELECT g.igdbId FROM Game g WHERE g.igdbId IN :igdbIds")
+    Set<Long> findExistingIgdbIds(@Param("igdbIds") Collection<Long> igdbIds);
+
+    // Which of these Steam App IDs are already in the backlog (bulk import dedupe)
+    @Query("SELECT g.steamAppId FROM Game g WHERE g.steamAppId IN :steamAppIds")
+    Set<String> findExistingSteamAppIds(@Param("steamAppIds") Collection<String> steamAppIds);
+
+    // Find by Steam App ID (query cache; invalidated by any write to games)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = Game.LOOKUP_CACHE_REGION)
+    })
     Optional<Game> findBySteamAppId(String steamAppId);
 
+    // Find games for a set of Steam App IDs
+    List<Game> findBySteamAppIdIn(Collection<String> steamAppIds);
+
     // Find all games with Steam App IDs
     @Query("SELECT g FROM Game g WHERE g.steamAppId IS NOT NULL AND g.steamAppId <> ''")
     List<Game> findAllWithSteamAppId();
 
+    // Slim rows for the achievements sync - avoids loading full entities
+    @Query("SELECT new com.infernokun.infernoGames.models.dto.AchievementSyncTarget(" +
+            "g.id, g.steamAppId, g.steamLastPlayed, g.steamAchievementsSynced, g.steamAchievementsEtag) " +
+            "FROM Game g WHERE g.steamAppId IS NOT NULL AND g.steamAppId <> ''")
+    List<AchievementSyncTarget> findAchievementSyncTargets();
+
     // Find games needing Steam sync (not synced recently)
     @Query("SELECT g FROM Game g WHERE g.steamAppId IS NOT NULL AND g.steamAppId <> '' " +
             "AND (g.steamLastSynced IS NULL OR g.steamLastSynced < :threshold)")
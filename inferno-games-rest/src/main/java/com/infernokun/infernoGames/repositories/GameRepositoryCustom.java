@@ -0,0 +1,38 @@
+package com.infernokun.infernoGames.repositories;
+
+import com.infernokun.infernoGames.models.Game;
+import com.infernokun.infernoGames.models.dto.GameCursor;
+import com.infernokun.infernoGames.models.dto.GameExportRow;
+import com.infernokun.infernoGames.models.dto.GameListQuery;
+import com.infernokun.infernoGames.models.dto.GameSummary;
+import com.infernokun.infernoGames.models.enums.GamePlatform;
+import com.infernokun.infernoGames.models.enums.GameStatus;
+import com.infernokun.infernoGames.models.enums.GenreMatch;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface GameRepositoryCustom {
+
+    // Keyset page: up to limit rows after the cursor position, in the query's order
+    List<GameSummary> findKeysetPage(GameListQuery query, GameCursor after, int limit);
+
+    // Rows matching the query's filters, ignoring the cursor
+    long countMatching(GameListQuery query);
+
+    // Advanced search with a containment filter on the genres array (any-of or all-of), first limit rows by title
+    List<GameSummary> searchSummariesByGenres(String title, GameStatus status, GamePlatform platform,
+                                              String genre, Collection<String> genres, GenreMatch match, int limit);
+
+    // Every game in id order as a forward-only, read-only cursor; the caller must close the stream
+    Stream<GameExportRow> streamExportRows(int fetchSize);
+
+    // Single-statement flips and status changes returning the updated row; empty when the id is unknown
+    Optional<Game> toggleFavorite(Long id);
+
+    Optional<Game> toggleDlc(Long id);
+
+    Optional<Game> updateStatus(Long id, GameStatus status);
+}
@@ -0,0 +1,280 @@
+package com.infernokun.infernoGames.repositories;
+
+import com.infernokun.infernoGames.models.Game;
+import com.infernokun.infernoGames.models.dto.GameCursor;
+import com.infernokun.infernoGames.models.dto.GameExportRow;
+import com.infernokun.infernoGames.models.dto.GameListQuery;
+import com.infernokun.infernoGames.models.dto.GameSummary;
+import com.infernokun.infernoGames.models.enums.GamePlatform;
+import com.infernokun.infernoGames.models.enums.GameSort;
+import com.infernokun.infernoGames.models.enums.GameStatus;
+import com.infernokun.infernoGames.models.enums.GenreMatch;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.query.NativeQuery;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Keyset pagination over the games table. Every order is (sort key, id) with NULL keys last. Rows with a
+ * key are reached through a row-value seek, (key, id) past the cursor, which PostgreSQL answers as an
+ * index range scan starting at the cursor on the matching (key, id) index; rows without one follow,
+ * ordered by id alone. Filters that the index doesn't cover are still applied row by row.
+ * Genre filters are array containment checks, which PostgreSQL answers from the GIN index on genre_list.
+ * The export reads through one forward-only cursor, fetch-size rows per round trip. Toggles and
+ * status changes are single UPDATE statements, so concurrent clicks can't lose each other's writes.
+ */
+public class GameRepositoryCustomImpl implements GameRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<GameSummary> findKeysetPage(GameListQuery query, GameCursor after, int limit) {
+        String field = "g." + sortField(query.getSort());
+        boolean ascending = query.resolvedDirection().isAscending();
+        String cmp = ascending ? ">" : "<";
+        String dir = ascending ? "ASC" : "DESC";
+
+        List<GameSummary> rows = new ArrayList<>(limit);
+
+        // Rows with a sort key first; a NULL-key cursor means these are already exhausted
+        if (after == null || after.value() != null) {
+            Map<String, Object> params = new HashMap<>();
+            StringBuilder jpql = new StringBuilder(GameRepository.SUMMARY_SELECT + "WHERE ")
+                    .append(field).append(" IS NOT NULL");
+            appendFilters(jpql, params, query);
+            if (after != null) {
+                jpql.append(" AND (").append(field).append(", g.id) ").append(cmp).append(" (:afterValue, :afterId)");
+                params.put("afterValue", after.value());
+                params.put("afterId", after.id());
+            }
+            jpql.append(" ORDER BY ").append(field).append(' ').append(dir).append(" NULLS LAST, g.id ").append(dir);
+            rows.addAll(fetchSummaries(jpql, params, limit));
+        }
+
+        // Then the NULL keys by id, once the keyed rows run out
+        if (rows.size() < limit) {
+            Map<String, Object> params = new HashMap<>();
+            StringBuilder jpql = new StringBuilder(GameRepository.SUMMARY_SELECT + "WHERE ")
+                    .append(field).append(" IS NULL");
+            appendFilters(jpql, params, query);
+            if (after != null && after.value() == null) {
+                jpql.append(" AND g.id ").append(cmp).append(" :afterId");
+                params.put("afterId", after.id());
+            }
+            jpql.append(" ORDER BY g.id ").append(dir);
+            rows.addAll(fetchSummaries(jpql, params, limit - rows.size()));
+        }
+
+        return rows;
+    }
+
+    private List<GameSummary> fetchSummaries(StringBuilder jpql, Map<String, Object> params, int limit) {
+        var typed = entityManager.createQuery(jpql.toString(), GameSummary.class).setMaxResults(limit);
+        params.forEach(typed::setParameter);
+        return typed.getResultList();
+    }
+
+    @Override
+    public long countMatching(GameListQuery query) {
+        Map<String, Object> params = new HashMap<>();
+        StringBuilder jpql = new StringBuilder("SELECT COUNT(g) FROM Game g WHERE 1 = 1");
+        appendFilters(jpql, params, query);
+
+        Query count = entityManager.createQuery(jpql.toString());
+        params.forEach(count::setParameter);
+        return (Long) count.getSingleResult();
+    }
+
+    @Override
+    public List<GameSummary> searchSummariesByGenres(String title, GameStatus status, GamePlatform platform,
+                                                     String genre, Collection<String> genres, GenreMatch match,
+                                                     int limit) {
+        Map<String, Object> params = new HashMap<>();
+        StringBuilder jpql = new StringBuilder(GameRepository.SUMMARY_SELECT + "WHERE 1 = 1");
+
+        if (title != null) {
+            jpql.append(" AND LOWER(g.title) LIKE LOWER(CONCAT('%', :title, '%'))");
+            params.put("title", title);
+        }
+        if (status != null) {
+            jpql.append(" AND g.status = :status");
+            params.put("status", status);
+        }
+        if (platform != null) {
+            jpql.append(" AND g.platform = :platform");
+            params.put("platform", platform);
+        }
+        if (genre != null) {
+            jpql.append(" AND LOWER(g.genre) LIKE LOWER(CONCAT('%', :genre, '%'))");
+            params.put("genre", genre);
+        }
+        appendGenreFilter(jpql, params, genres, match);
+        jpql.append(" ORDER BY g.title ASC");
+
+        var typed = entityManager.createQuery(jpql.toString(), GameSummary.class).setMaxResults(limit);
+        params.forEach(typed::setParameter);
+        return typed.getResultList();
+    }
+
+    @Override
+    public Stream<GameExportRow> streamExportRows(int fetchSize) {
+        return entityManager.createQuery("SELECT new com.infernokun.infernoGames.models.dto.GameExportRow(" +
+                        "g.title, g.description, g.developer, g.publisher, g.releaseYear, g.genre, g.genres, " +
+                        "g.coverImageUrl, g.screenshotUrls, g.platform, g.platformMask, g.status, g.rating, " +
+                        "g.playtimeHours, g.completionPercentage, g.startedAt, g.completedAt, g.notes, " +
+                        "g.favorite, g.dlc, g.achievements, g.totalAchievements, g.steamAppId, g.igdbId) " +
+                        "FROM Game g ORDER BY g.id", GameExportRow.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    @Override
+    public Optional<Game> toggleFavorite(Long id) {
+        return updateReturning(id, "favorite = NOT COALESCE(favorite, FALSE)", Map.of());
+    }
+
+    @Override
+    public Optional<Game> toggleDlc(Long id) {
+        return updateReturning(id, "dlc = NOT COALESCE(dlc, FALSE)", Map.of());
+    }
+
+    /**
+     * Same transitions as {@link Game#updateStatus}: the first move to IN_PROGRESS stamps started_at,
+     * the first move to COMPLETED stamps completed_at and sets completion to 100
+     */
+    @Override
+    public Optional<Game> updateStatus(Long id, GameStatus status) {
+        return updateReturning(id,
+                "status = :status, " +
+                        "started_at = CASE WHEN :inProgress AND started_at IS NULL THEN :now ELSE started_at END, " +
+                        "completed_at = CASE WHEN :completed AND completed_at IS NULL THEN :now ELSE completed_at END, " +
+                        "completion_percentage = CASE WHEN :completed AND completed_at IS NULL THEN 100 " +
+                        "ELSE completion_percentage END",
+                Map.of("status", status.name(),
+                        "inProgress", status == GameStatus.IN_PROGRESS,
+                        "completed", status == GameStatus.COMPLETED));
+    }
+
+    /**
+     * Apply the SET clause to one game, bumping its version. PostgreSQL hands the row back from the
+     * same statement via RETURNING; elsewhere the row is re-read after the update. A copy this
+     * session already manages would otherwise come back stale, so that one is refreshed.
+     */
+    private Optional<Game> updateReturning(Long id, String assignments, Map<String, Object> params) {
+        String sql = "UPDATE games SET " + assignments +
+                ", version = COALESCE(version, 0) + 1, updated_at = :now WHERE id = :id";
+        Map<String, Object> bound = new HashMap<>(params);
+        bound.put("id", id);
+        bound.put("now", LocalDateTime.now());
+
+        boolean managed = isManaged(id);
+        boolean returning = supportsReturning();
+        Query query = returning
+                ? entityManager.createNativeQuery(sql + " RETURNING *", Game.class)
+                : entityManager.createNativeQuery(sql);
+        NativeQuery<?> update = query.unwrap(NativeQuery.class).addSynchronizedEntityClass(Game.class);
+        bound.forEach(update::setParameter);
+
+        Optional<Game> updated;
+        if (returning) {
+            updated = update.getResultList().stream().findFirst().map(Game.class::cast);
+        } else {
+            updated = update.executeUpdate() == 0
+                    ? Optional.empty()
+                    : Optional.ofNullable(entityManager.find(Game.class, id));
+        }
+        if (managed) {
+            updated.ifPresent(entityManager::refresh);
+        }
+
+        // The statement bypassed Hibernate's write path, so its cached copy is stale
+        entityManager.getEntityManagerFactory().getCache().evict(Game.class, id);
+        return updated;
+    }
+
+    private boolean isManaged(Long id) {
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        EntityKey key = session.generateEntityKey(id,
+                session.getFactory().getMappingMetamodel().getEntityDescriptor(Game.class));
+        return session.getPersistenceContextInternal().containsEntity(key);
+    }
+
+    private boolean supportsReturning() {
+        return entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices()
+                .getDialect() instanceof PostgreSQLDialect;
+    }
+
+    /**
+     * One array_contains per genre (rendered as genre_list @> ARRAY[?] on PostgreSQL), OR-ed for
+     * any-of and AND-ed for all-of so the planner can combine GIN bitmap scans
+     */
+    private void appendGenreFilter(StringBuilder jpql, Map<String, Object> params,
+                                   Collection<String> genres, GenreMatch match) {
+        List<String> wanted = genres == null ? List.of() : genres.stream()
+                .filter(name -> name != null && !name.isBlank())
+                .map(String::trim)
+                .distinct()
+                .toList();
+        if (wanted.isEmpty()) {
+            return;
+        }
+
+        String joiner = match == GenreMatch.ALL ? " AND " : " OR ";
+        jpql.append(" AND (");
+        for (int i = 0; i < wanted.size(); i++) {
+            if (i > 0) {
+                jpql.append(joiner);
+            }
+            jpql.append("array_contains(g.genres, :genre").append(i).append(')');
+            params.put("genre" + i, wanted.get(i));
+        }
+        jpql.append(')');
+    }
+
+    private void appendFilters(StringBuilder jpql, Map<String, Object> params, GameListQuery query) {
+        if (query.getStatus() != null) {
+            jpql.append(" AND g.status = :status");
+            params.put("status", query.getStatus());
+        }
+        if (query.getPlatform() != null) {
+            jpql.append(" AND g.platform = :platform");
+            params.put("platform", query.getPlatform());
+        }
+        if (query.getFavorite() != null) {
+            jpql.append(" AND g.favorite = :favorite");
+            params.put("favorite", query.getFavorite());
+        }
+        if (query.getDlc() != null) {
+            jpql.append(" AND g.dlc = :dlc");
+            params.put("dlc", query.getDlc());
+        }
+    }
+
+    private String sortField(GameSort sort) {
+        return switch (sort) {
+            case TITLE -> "title";
+            case UPDATED_AT -> "updatedAt";
+            case PLAYTIME -> "playtimeHours";
+            case RATING -> "rating";
+            case RELEASE_YEAR -> "releaseYear";
+        };
+    }
+}
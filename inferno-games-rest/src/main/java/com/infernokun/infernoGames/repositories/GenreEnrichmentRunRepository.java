@@ -0,0 +1,16 @@
+package com.infernokun.infernoGames.repositories;
+
+import com.infernokun.infernoGames.models.GenreEnrichmentRun;
+import com.infernokun.infernoGames.models.enums.EnrichmentRunStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface GenreEnrichmentRunRepository extends JpaRepository<GenreEnrichmentRun, Long> {
+
+    Optional<GenreEnrichmentRun> findFirstByStatusOrderByStartedAtDesc(EnrichmentRunStatus status);
+
+    Optional<GenreEnrichmentRun> findFirstByOrderByStartedAtDesc();
+}
@@ -0,0 +1,25 @@
+package com.infernokun.infernoGames.repositories;
+
+import com.infernokun.infernoGames.models.IgdbGenreCacheEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface IgdbGenreCacheRepository extends JpaRepository<IgdbGenreCacheEntry, String> {
+
+    List<IgdbGenreCacheEntry> findByCacheVersionAndExpiresAtAfter(int cacheVersion, LocalDateTime now);
+
+    List<IgdbGenreCacheEntry> findByFetchedAtAfter(LocalDateTime since);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM IgdbGenreCacheEntry e WHERE e.expiresAt < :now OR e.cacheVersion <> :cacheVersion")
+    int deleteStale(@Param("now") LocalDateTime now, @Param("cacheVersion") int cacheVersion);
+}
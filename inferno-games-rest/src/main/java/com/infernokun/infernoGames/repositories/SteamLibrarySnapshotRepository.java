@@ -0,0 +1,9 @@
+package com.infernokun.infernoGames.repositories;
+
+import com.infernokun.infernoGames.models.SteamLibrarySnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SteamLibrarySnapshotRepository extends JpaRepository<SteamLibrarySnapshot, String> {
+}
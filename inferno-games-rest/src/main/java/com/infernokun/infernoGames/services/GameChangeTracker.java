@@ -0,0 +1,71 @@
+package com.infernokun.infernoGames.services;
+
+import com.infernokun.infernoGames.config.PostgresSchemaInitializer;
+import com.infernokun.infernoGames.models.Game;
+import com.infernokun.infernoGames.models.dto.GameLibraryVersion;
+import com.infernokun.infernoGames.repositories.GameRepository;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+/**
+ * Weak ETags for the games endpoints, derived from the database so every instance hands out the
+ * same tag for the same data and tags survive restarts. On PostgreSQL the library tag is a change
+ * counter bumped in every writing transaction (see PostgresSchemaInitializer), read by key; a game's
+ * tag is its row version, taken from a cached copy when there is one.
+ */
+@Service
+@RequiredArgsConstructor
+public class GameChangeTracker {
+
+    private final GameRepository gameRepository;
+    private final PostgresSchemaInitializer schema;
+    private final CacheManager cacheManager;
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Weak tag for anything derived from the whole library (lists, stats)
+     */
+    public String libraryEtag() {
+        if (schema.isLibraryVersionReady()) {
+            return "W/\"games-" + gameRepository.findLibraryChangeCount() + "\"";
+        }
+        // Portable fallback (H2 in tests): aggregates that move on every insert, delete and update
+        GameLibraryVersion version = gameRepository.findLibraryVersion();
+        return "W/\"games-" + version.count() + "-" + orZero(version.maxId()) + "-" + orZero(version.versionSum()) + "\"";
+    }
+
+    /**
+     * Weak tag for one game; only moves when that game changed. Null when there is no such game
+     * (or no version yet), so the request falls through to the normal lookup.
+     */
+    public String gameEtag(Long id) {
+        Long version = cachedVersion(id);
+        if (version == null) {
+            version = gameRepository.findVersionById(id).orElse(null);
+        }
+        return version != null ? "W/\"game-" + id + "-" + version + "\"" : null;
+    }
+
+    /**
+     * Version of the copy GET /{id} would serve from the "game" cache, else of the second-level cache
+     * entry, which findById hydrates without a query. Null when neither holds the game.
+     */
+    private Long cachedVersion(Long id) {
+        Cache cache = cacheManager.getCache("game");
+        Game cached = cache != null ? cache.get(id, Game.class) : null;
+        if (cached != null) {
+            return cached.getVersion();
+        }
+        if (entityManagerFactory.getCache().contains(Game.class, id)) {
+            return gameRepository.findById(id).map(Game::getVersion).orElse(null);
+        }
+        return null;
+    }
+
+    private static long orZero(Long value) {
+        return value != null ? value : 0;
+    }
+}
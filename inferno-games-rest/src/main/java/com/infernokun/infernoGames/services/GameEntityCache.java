@@ -0,0 +1,46 @@
+package com.infernokun.infernoGames.services;
+
+import com.infernokun.infernoGames.models.Game;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+
+/**
+ * Keeps the Hibernate second-level cache honest for writes that bypass the session
+ * (JDBC batch updates, startup backfills). Writes through JPA are invalidated by Hibernate itself.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GameEntityCache {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Drop cached state for the given games and any cached igdbId/steamAppId lookups
+     */
+    public void evict(Collection<Long> gameIds) {
+        if (gameIds.isEmpty()) {
+            return;
+        }
+        gameIds.forEach(id -> entityManagerFactory.getCache().evict(Game.class, id));
+        evictLookups();
+    }
+
+    /**
+     * Drop every cached game and lookup
+     */
+    public void evictAll() {
+        entityManagerFactory.getCache().evict(Game.class);
+        evictLookups();
+        log.debug("Evicted all games from the second-level cache");
+    }
+
+    private void evictLookups() {
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegion(Game.LOOKUP_CACHE_REGION);
+    }
+}
@@ -0,0 +1,143 @@
+package com.infernokun.infernoGames.services;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.infernokun.infernoGames.config.InfernoGamesConfig;
+import com.infernokun.infernoGames.models.dto.GameExportRow;
+import com.infernokun.infernoGames.models.dto.GameRequest;
+import com.infernokun.infernoGames.models.enums.ExportFormat;
+import com.infernokun.infernoGames.repositories.GameRepository;
+import com.infernokun.infernoGames.utils.CsvWriter;
+import com.infernokun.infernoGames.utils.GamePlatformMask;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Streams the whole backlog as NDJSON or CSV straight from a database cursor. Rows are read as
+ * projections (nothing enters the persistence context) and written one at a time, so memory stays
+ * flat however large the library is. The columns are those {@link GameImportService} accepts, so an
+ * export re-imports as-is.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GameExportService {
+
+    // Export columns: the GameRequest properties, in declaration order
+    public static final List<String> CSV_COLUMNS = Arrays.stream(GameRequest.class.getDeclaredFields())
+            .filter(field -> !Modifier.isStatic(field.getModifiers()))
+            .map(Field::getName)
+            .toList();
+
+    // Plain mapper: the shared one carries Redis default typing and would write type ids
+    private static final ObjectMapper exportMapper = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .serializationInclusion(JsonInclude.Include.NON_NULL)
+            .build();
+
+    private final GameRepository gameRepository;
+    private final InfernoGamesConfig config;
+
+    /**
+     * Write every game to the stream in the given format and return the row count. The stream is
+     * flushed but left open for the caller.
+     */
+    @Transactional(readOnly = true)
+    public long export(ExportFormat format, OutputStream out) throws IOException {
+        long start = System.currentTimeMillis();
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        CsvWriter csv = format == ExportFormat.CSV ? new CsvWriter(writer) : null;
+        long rows = 0;
+
+        if (csv != null) {
+            csv.writeRecord(CSV_COLUMNS);
+        }
+
+        try (Stream<GameExportRow> stream = gameRepository.streamExportRows(config.getExportFetchSize())) {
+            Iterator<GameExportRow> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                GameRequest game = toRequest(iterator.next());
+                if (csv != null) {
+                    csv.writeRecord(toCsvFields(game));
+                } else {
+                    writer.write(exportMapper.writeValueAsString(game));
+                    writer.write('\n');
+                }
+                rows++;
+            }
+        }
+        writer.flush();
+
+        log.info("Exported {} games as {} in {}ms", rows, format, System.currentTimeMillis() - start);
+        return rows;
+    }
+
+    private static GameRequest toRequest(GameExportRow row) {
+        return GameRequest.builder()
+                .title(row.title())
+                .description(row.description())
+                .developer(row.developer())
+                .publisher(row.publisher())
+                .releaseYear(row.releaseYear())
+                .genre(row.genre())
+                .genres(row.genres())
+                .coverImageUrl(row.coverImageUrl())
+                .screenshotUrls(row.screenshotUrls())
+                .platform(row.platform())
+                .platforms(new ArrayList<>(GamePlatformMask.toSet(row.platformMask())))
+                .status(row.status())
+                .rating(row.rating())
+                .playtimeHours(row.playtimeHours())
+                .completionPercentage(row.completionPercentage())
+                .startedAt(row.startedAt())
+                .completedAt(row.completedAt())
+                .notes(row.notes())
+                .favorite(row.favorite())
+                .dlc(row.dlc())
+                .achievements(row.achievements())
+                .totalAchievements(row.totalAchievements())
+                .steamAppId(row.steamAppId())
+                .igdbId(row.igdbId())
+                .build();
+    }
+
+    /**
+     * Field values in column order; lists are ';'-joined, as the import splits them
+     */
+    private static List<String> toCsvFields(GameRequest game) {
+        Map<String, Object> values = exportMapper.convertValue(game, new TypeReference<Map<String, Object>>() {});
+        List<String> fields = new ArrayList<>(CSV_COLUMNS.size());
+        for (String column : CSV_COLUMNS) {
+            Object value = values.get(column);
+            if (value instanceof List<?> list) {
+                fields.add(list.stream().map(String::valueOf).collect(Collectors.joining(";")));
+            } else {
+                fields.add(value != null ? String.valueOf(value) : null);
+            }
+        }
+        return fields;
+    }
+}
@@ -0,0 +1,486 @@
+package com.infernokun.infernoGames.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.infernokun.infernoGames.config.PostgresSchemaInitializer;
+import com.infernokun.infernoGames.models.Game;
+import com.infernokun.infernoGames.models.dto.GameRequest;
+import com.infernokun.infernoGames.models.enums.ImportRowStatus;
+import com.infernokun.infernoGames.repositories.GameRepository;
+import com.infernokun.infernoGames.services.SteamService.SteamGameInfo;
+import com.infernokun.infernoGames.utils.CsvReader;
+import com.infernokun.infernoGames.utils.StringListConverter;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk backlog import from CSV or NDJSON. The body is parsed one row at a time, each row is
+ * validated with the same rules as {@link GameRequest}, and valid rows are deduplicated and
+ * written in bounded JDBC batches - one transaction per chunk, so a bad chunk never rolls back
+ * rows that already landed. On PostgreSQL the IGDB ID dedupe is backed by a unique index and
+ * ON CONFLICT, and chunks of concurrent imports take turns under an advisory lock.
+ * Caches and in-memory indexes are refreshed once at the end.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GameImportService {
+
+    public static final String NDJSON_VALUE = "application/x-ndjson";
+    public static final int MAX_ROWS = 10_000;
+
+    private static final int CHUNK_SIZE = 500;
+    private static final int MAX_MESSAGE_LENGTH = 300;
+
+    // pg_advisory_xact_lock key held by each chunk, so no two imports dedupe against the same snapshot
+    private static final long IMPORT_LOCK_KEY = 0x67616d6573L;
+    private static final Set<String> LIST_FIELDS = Set.of("genres", "screenshotUrls", "platforms");
+
+    private static final String INSERT_SQL = "INSERT INTO games (" +
+            "title, description, developer, publisher, release_year, genre, genre_list, cover_image_url, " +
+            "screenshot_urls, platform, platform_mask, status, rating, playtime_hours, completion_percentage, " +
+            "started_at, completed_at, notes, favorite, dlc, achievements, total_achievements, igdb_id, " +
+            "steam_app_id, steam_playtime_windows_minutes, steam_playtime_linux_minutes, " +
+            "steam_playtime_mac_minutes, steam_playtime_deck_minutes, steam_last_played, steam_last_synced, " +
+            "created_at, updated_at, version) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+
+    // Plain mapper: the shared one carries Redis default typing and would demand type ids
+    private static final ObjectMapper rowMapper = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .enable(MapperFeature.ACCEPT_CASE_INSENSITIVE_ENUMS)
+            .enable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+
+    private static final StringListConverter screenshotConverter = new StringListConverter();
+
+    // Normalized CSV header (lower case, no separators) -> GameRequest property
+    private static final Map<String, String> CSV_COLUMNS = Arrays.stream(GameRequest.class.getDeclaredFields())
+            .filter(field -> !Modifier.isStatic(field.getModifiers()))
+            .map(Field::getName)
+            .collect(Collectors.toUnmodifiableMap(GameImportService::normalizeHeader, name -> name));
+
+    private final GameRepository gameRepository;
+    private final GameService gameService;
+    private final SteamService steamService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final GameEntityCache gameEntityCache;
+    private final PostgresSchemaInitializer schema;
+    private final SearchIndexService searchIndexService;
+    private final SteamLibraryViewService steamLibraryViewService;
+
+    /**
+     * Stream rows from the body into the backlog and report the outcome of every row
+     */
+    @CacheEvict(value = {"gameSummaries", "gamePages", "game", "gameStats"}, allEntries = true)
+    public ImportReport importGames(InputStream body, String contentType) {
+        MediaType mediaType = parseContentType(contentType);
+        Charset charset = mediaType.getCharset() != null ? mediaType.getCharset() : StandardCharsets.UTF_8;
+        boolean csv = mediaType.isCompatibleWith(MediaType.parseMediaType("text/csv"));
+
+        ImportRun run = new ImportRun(steamService.peekOwnedGames().stream()
+                .collect(Collectors.toMap(SteamGameInfo::getAppId, info -> info, (first, second) -> first)));
+        long start = System.currentTimeMillis();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, charset))) {
+            if (csv) {
+                readCsv(reader, run);
+            } else {
+                readNdjson(reader, run);
+            }
+        } catch (IOException e) {
+            // Keep whatever was read before the body broke off, and say where it did
+            run.report(run.lastLine + 1, ImportRowStatus.FAILED, null, "Unreadable input: " + e.getMessage());
+        }
+        flush(run);
+
+        if (run.count(ImportRowStatus.IMPORTED) > 0) {
+            // The inserts bypass Hibernate and its entity listeners
+            gameEntityCache.evictAll();
+            searchIndexService.rebuild();
+            steamLibraryViewService.rebuild();
+        }
+
+        ImportReport report = run.toReport();
+        log.info("Imported {} of {} rows ({} duplicate, {} invalid, {} failed) in {}ms",
+                report.getImported(), report.getTotal(), report.getDuplicates(), report.getInvalid(),
+                report.getFailed(), System.currentTimeMillis() - start);
+        return report;
+    }
+
+    // ─── Parsing ────────────────────────────────────────────────────────────────
+
+    private void readCsv(BufferedReader reader, ImportRun run) throws IOException {
+        CsvReader csv = new CsvReader(reader);
+        List<String> header = csv.readRecord();
+        if (header == null) {
+            return;
+        }
+
+        List<String> properties = new ArrayList<>(header.size());
+        for (String column : header) {
+            String property = CSV_COLUMNS.get(normalizeHeader(column));
+            if (property == null) {
+                throw new IllegalArgumentException("Unknown CSV column: " + column.strip());
+            }
+            properties.add(property);
+        }
+
+        List<String> record;
+        while ((record = csv.readRecord()) != null) {
+            int line = csv.getRecordLine();
+            run.lastLine = line;
+            if (run.atLimit()) {
+                return;
+            }
+
+            if (record.size() != properties.size()) {
+                run.report(line, ImportRowStatus.INVALID, null,
+                        "Expected " + properties.size() + " columns but found " + record.size());
+                continue;
+            }
+
+            Map<String, Object> values = new HashMap<>();
+            for (int i = 0; i < record.size(); i++) {
+                String value = record.get(i).strip();
+                if (value.isEmpty()) {
+                    continue;
+                }
+                String property = properties.get(i);
+                values.put(property, LIST_FIELDS.contains(property)
+                        ? Arrays.stream(value.split(";")).map(String::strip).filter(s -> !s.isEmpty()).toList()
+                        : value);
+            }
+
+            try {
+                accept(line, rowMapper.convertValue(values, GameRequest.class), run);
+            } catch (IllegalArgumentException e) {
+                run.report(line, ImportRowStatus.INVALID, (String) values.get("title"), describe(e));
+            }
+        }
+    }
+
+    private void readNdjson(BufferedReader reader, ImportRun run) throws IOException {
+        String text;
+        int line = 0;
+        while ((text = reader.readLine()) != null) {
+            line++;
+            run.lastLine = line;
+            if (text.isBlank()) {
+                continue;
+            }
+            if (run.atLimit()) {
+                return;
+            }
+
+            try {
+                accept(line, rowMapper.readValue(text, GameRequest.class), run);
+            } catch (JsonProcessingException e) {
+                run.report(line, ImportRowStatus.INVALID, null, truncate(e.getOriginalMessage()));
+            }
+        }
+    }
+
+    // ─── Validation & Dedupe ────────────────────────────────────────────────────
+
+    private void accept(int line, GameRequest request, ImportRun run) {
+        String title = request.getTitle();
+
+        List<String> problems = new ArrayList<>();
+        if (title == null || title.isBlank()) {
+            problems.add("title: must not be blank");
+        }
+        for (ConstraintViolation<GameRequest> violation : validator.validate(request)) {
+            problems.add(violation.getPropertyPath() + ": " + violation.getMessage());
+        }
+        if (!problems.isEmpty()) {
+            run.report(line, ImportRowStatus.INVALID, title, truncate(String.join("; ", problems)));
+            return;
+        }
+
+        if (request.getSteamAppId() != null && request.getSteamAppId().isBlank()) {
+            request.setSteamAppId(null);
+        }
+        if (request.getIgdbId() != null && !run.seenIgdbIds.add(request.getIgdbId())) {
+            run.report(line, ImportRowStatus.DUPLICATE, title, "IGDB ID " + request.getIgdbId() + " appears earlier in the file");
+            return;
+        }
+        if (request.getSteamAppId() != null && !run.seenSteamAppIds.add(request.getSteamAppId())) {
+            run.report(line, ImportRowStatus.DUPLICATE, title, "Steam App ID " + request.getSteamAppId() + " appears earlier in the file");
+            return;
+        }
+
+        SteamGameInfo steamInfo = request.getSteamAppId() != null ? run.ownedOnSteam.get(request.getSteamAppId()) : null;
+        run.pending.add(new PendingRow(line, request, steamInfo));
+        if (run.pending.size() >= CHUNK_SIZE) {
+            flush(run);
+        }
+    }
+
+    /**
+     * Write the pending rows as one chunk; a failed chunk marks all of its rows failed
+     */
+    private void flush(ImportRun run) {
+        if (run.pending.isEmpty()) {
+            return;
+        }
+        List<PendingRow> chunk = List.copyOf(run.pending);
+        run.pending.clear();
+
+        List<ImportRowResult> outcomes;
+        try {
+            outcomes = transactionTemplate.execute(status -> insertChunk(chunk));
+        } catch (DataAccessException e) {
+            log.warn("Import chunk of {} rows starting at line {} failed: {}", chunk.size(), chunk.getFirst().line(), e.getMessage());
+            String message = truncate("Batch insert failed: " + e.getMostSpecificCause().getMessage());
+            chunk.forEach(row -> run.report(row.line(), ImportRowStatus.FAILED, row.request().getTitle(), message));
+            return;
+        }
+        outcomes.forEach(outcome -> run.report(outcome.getLine(), outcome.getStatus(), outcome.getTitle(), outcome.getMessage()));
+    }
+
+    /**
+     * Build the chunk's games, drop rows already in the backlog and insert the rest in one batch,
+     * all inside the caller's transaction
+     */
+    private List<ImportRowResult> insertChunk(List<PendingRow> chunk) {
+        boolean postgres = schema.isPostgres();
+        if (postgres) {
+            jdbcTemplate.execute("SELECT pg_advisory_xact_lock(" + IMPORT_LOCK_KEY + ")");
+        }
+
+        List<NewGame> games = chunk.stream()
+                .map(row -> new NewGame(row.line(), gameService.newGameFrom(row.request(), row.steamInfo())))
+                .toList();
+
+        Set<Long> igdbIds = games.stream().map(row -> row.game().getIgdbId())
+                .filter(Objects::nonNull).collect(Collectors.toSet());
+        Set<String> steamAppIds = games.stream().map(row -> row.game().getSteamAppId())
+                .filter(Objects::nonNull).collect(Collectors.toSet());
+        Set<Long> existingIgdbIds = igdbIds.isEmpty() ? Set.of() : gameRepository.findExistingIgdbIds(igdbIds);
+        Set<String> existingSteamAppIds = steamAppIds.isEmpty() ? Set.of() : gameRepository.findExistingSteamAppIds(steamAppIds);
+
+        List<ImportRowResult> outcomes = new ArrayList<>(games.size());
+        List<NewGame> fresh = new ArrayList<>(games.size());
+        for (NewGame row : games) {
+            Game game = row.game();
+            if (game.getIgdbId() != null && existingIgdbIds.contains(game.getIgdbId())) {
+                outcomes.add(duplicateIgdbId(row));
+            } else if (game.getSteamAppId() != null && existingSteamAppIds.contains(game.getSteamAppId())) {
+                outcomes.add(new ImportRowResult(row.line(), ImportRowStatus.DUPLICATE, game.getTitle(),
+                        "Steam App ID " + game.getSteamAppId() + " is already in the backlog"));
+            } else {
+                fresh.add(row);
+            }
+        }
+        if (fresh.isEmpty()) {
+            return outcomes;
+        }
+
+        // Backstop for a create or IGDB import that landed between the check and the insert
+        String sql = postgres ? INSERT_SQL + " ON CONFLICT DO NOTHING" : INSERT_SQL;
+        LocalDateTime now = LocalDateTime.now();
+        int[] inserted = jdbcTemplate.batchUpdate(sql, fresh, fresh.size(), (ps, row) -> bind(ps, row.game(), now))[0];
+        for (int i = 0; i < fresh.size(); i++) {
+            NewGame row = fresh.get(i);
+            outcomes.add(inserted[i] == 0 ? duplicateIgdbId(row)
+                    : new ImportRowResult(row.line(), ImportRowStatus.IMPORTED, row.game().getTitle(), null));
+        }
+        return outcomes;
+    }
+
+    private static ImportRowResult duplicateIgdbId(NewGame row) {
+        return new ImportRowResult(row.line(), ImportRowStatus.DUPLICATE, row.game().getTitle(),
+                "IGDB ID " + row.game().getIgdbId() + " is already in the backlog");
+    }
+
+    private void bind(PreparedStatement ps, Game game, LocalDateTime now) throws SQLException {
+        int i = 0;
+        ps.setString(++i, game.getTitle());
+        ps.setString(++i, game.getDescription());
+        ps.setString(++i, game.getDeveloper());
+        ps.setString(++i, game.getPublisher());
+        ps.setObject(++i, game.getReleaseYear(), Types.INTEGER);
+        ps.setString(++i, game.getGenre());
+        ps.setArray(++i, ps.getConnection().createArrayOf("varchar", game.getGenres().toArray()));
+        ps.setString(++i, game.getCoverImageUrl());
+        ps.setString(++i, screenshotConverter.convertToDatabaseColumn(game.getScreenshotUrls()));
+        ps.setString(++i, game.getPlatform() != null ? game.getPlatform().name() : null);
+        ps.setObject(++i, game.getPlatformMask(), Types.INTEGER);
+        ps.setString(++i, game.getStatus().name());
+        ps.setObject(++i, game.getRating(), Types.INTEGER);
+        ps.setObject(++i, game.getPlaytimeHours(), Types.DOUBLE);
+        ps.setObject(++i, game.getCompletionPercentage(), Types.INTEGER);
+        ps.setTimestamp(++i, timestamp(game.getStartedAt()));
+        ps.setTimestamp(++i, timestamp(game.getCompletedAt()));
+        ps.setString(++i, game.getNotes());
+        ps.setBoolean(++i, game.getFavorite());
+        ps.setBoolean(++i, game.getDlc());
+        ps.setObject(++i, game.getAchievements(), Types.INTEGER);
+        ps.setObject(++i, game.getTotalAchievements(), Types.INTEGER);
+        ps.setObject(++i, game.getIgdbId(), Types.BIGINT);
+        ps.setString(++i, game.getSteamAppId());
+        ps.setObject(++i, game.getSteamPlaytimeWindowsMinutes(), Types.INTEGER);
+        ps.setObject(++i, game.getSteamPlaytimeLinuxMinutes(), Types.INTEGER);
+        ps.setObject(++i, game.getSteamPlaytimeMacMinutes(), Types.INTEGER);
+        ps.setObject(++i, game.getSteamPlaytimeDeckMinutes(), Types.INTEGER);
+        ps.setTimestamp(++i, timestamp(game.getSteamLastPlayed()));
+        ps.setTimestamp(++i, timestamp(game.getSteamLastSynced()));
+        ps.setTimestamp(++i, Timestamp.valueOf(now));
+        ps.setTimestamp(++i, Timestamp.valueOf(now));
+    }
+
+    // ─── Helpers ────────────────────────────────────────────────────────────────
+
+    private static MediaType parseContentType(String contentType) {
+        if (contentType != null && !contentType.isBlank()) {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            if (mediaType.isCompatibleWith(MediaType.parseMediaType("text/csv"))
+                    || mediaType.isCompatibleWith(MediaType.parseMediaType(NDJSON_VALUE))) {
+                return mediaType;
+            }
+        }
+        throw new IllegalArgumentException("Import body must be text/csv or " + NDJSON_VALUE);
+    }
+
+    private static String normalizeHeader(String header) {
+        return header.replace("\uFEFF", "").strip().replaceAll("[_\\-\\s]", "").toLowerCase(Locale.ROOT);
+    }
+
+    private static Timestamp timestamp(LocalDateTime value) {
+        return value != null ? Timestamp.valueOf(value) : null;
+    }
+
+    private static String describe(IllegalArgumentException e) {
+        return truncate(e.getCause() instanceof JsonProcessingException json ? json.getOriginalMessage() : e.getMessage());
+    }
+
+    private static String truncate(String message) {
+        if (message == null || message.length() <= MAX_MESSAGE_LENGTH) {
+            return message;
+        }
+        return message.substring(0, MAX_MESSAGE_LENGTH) + "…";
+    }
+
+    // ─── Internal State ─────────────────────────────────────────────────────────
+
+    private record PendingRow(int line, GameRequest request, SteamGameInfo steamInfo) {
+    }
+
+    private record NewGame(int line, Game game) {
+    }
+
+    /**
+     * Mutable state for one import; only the per-row outcomes and the dedupe keys grow with the input
+     */
+    private static class ImportRun {
+        private final Map<String, SteamGameInfo> ownedOnSteam;
+        private final Set<Long> seenIgdbIds = new HashSet<>();
+        private final Set<String> seenSteamAppIds = new HashSet<>();
+        private final List<PendingRow> pending = new ArrayList<>(CHUNK_SIZE);
+        private final List<ImportRowResult> rows = new ArrayList<>();
+        private final EnumMap<ImportRowStatus, Integer> counts = new EnumMap<>(ImportRowStatus.class);
+        private int total;
+        private int lastLine;
+        private boolean truncated;
+
+        private ImportRun(Map<String, SteamGameInfo> ownedOnSteam) {
+            this.ownedOnSteam = ownedOnSteam;
+        }
+
+        /**
+         * Count the next row, or mark the import truncated once the row cap is reached
+         */
+        boolean atLimit() {
+            if (total >= MAX_ROWS) {
+                truncated = true;
+                return true;
+            }
+            total++;
+            return false;
+        }
+
+        void report(int line, ImportRowStatus status, String title, String message) {
+            rows.add(new ImportRowResult(line, status, title, message));
+            counts.merge(status, 1, Integer::sum);
+        }
+
+        int count(ImportRowStatus status) {
+            return counts.getOrDefault(status, 0);
+        }
+
+        ImportReport toReport() {
+            rows.sort(Comparator.comparingInt(ImportRowResult::getLine));
+            return ImportReport.builder()
+                    .total(total)
+                    .imported(count(ImportRowStatus.IMPORTED))
+                    .duplicates(count(ImportRowStatus.DUPLICATE))
+                    .invalid(count(ImportRowStatus.INVALID))
+                    .failed(count(ImportRowStatus.FAILED))
+                    .truncated(truncated)
+                    .rows(rows)
+                    .build();
+        }
+    }
+
+    // ─── DTOs ───────────────────────────────────────────────────────────────────
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ImportReport {
+        private int total;
+        private int imported;
+        private int duplicates;
+        private int invalid;
+        private int failed;
+        private boolean truncated;
+        private List<ImportRowResult> rows;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ImportRowResult {
+        private int line;
+        private ImportRowStatus status;
+        private String title;
+        private String message;
+    }
+}
@@ -0,0 +1,157 @@
+package com.infernokun.infernoGames.services;
+
+import com.infernokun.infernoGames.config.PostgresSchemaInitializer;
+import com.infernokun.infernoGames.models.dto.GameSummary;
+import com.infernokun.infernoGames.repositories.GameRepository;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.util.HtmlUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Ranked full-text search over the backlog, backed by the games.search_vector GIN index.
+ * Falls back to a title substring match when the database has no full-text support.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GameSearchService {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static final String CONFIG = PostgresSchemaInitializer.SEARCH_CONFIG;
+
+    // Private-use characters ts_headline wraps matches in; swapped for <mark> tags after escaping
+    private static final String MARK_START = "\uE000";
+    private static final String MARK_STOP = "\uE001";
+
+    // Rank and page on the index first; the headline is computed only for the rows returned.
+    // Marker characters are stripped from the source text so user input can't fake a highlight.
+    private static final String SEARCH_SQL =
+            "SELECT r.id, r.rank, ts_headline('" + CONFIG + "', " +
+            "translate(concat_ws(' - ', g.title, g.developer, g.description), '" + MARK_START + MARK_STOP + "', ''), " +
+            "r.query, 'StartSel=" + MARK_START + ", StopSel=" + MARK_STOP + ", MaxFragments=2, MaxWords=20, MinWords=5') " +
+            "AS highlight " +
+            "FROM (SELECT s.id, ts_rank(s.search_vector, q) AS rank, q AS query " +
+            "      FROM games s, websearch_to_tsquery('" + CONFIG + "', ?) q " +
+            "      WHERE s.search_vector @@ q " +
+            "      ORDER BY rank DESC, s.id LIMIT ? OFFSET ?) r " +
+            "JOIN games g ON g.id = r.id " +
+            "ORDER BY r.rank DESC, r.id";
+
+    private static final String COUNT_SQL =
+            "SELECT count(*) FROM games WHERE search_vector @@ websearch_to_tsquery('" + CONFIG + "', ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final GameRepository gameRepository;
+    private final PostgresSchemaInitializer schema;
+
+    /**
+     * Search title, developer, publisher, genres, description and notes, best matches first
+     */
+    @Transactional(readOnly = true)
+    public SearchPage search(String query, int page, int size) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query must not be blank");
+        }
+        int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        int pageIndex = Math.max(page, 0);
+
+        return schema.isFullTextSearchReady() ?
+                fullTextSearch(query.trim(), pageIndex, pageSize) :
+                substringSearch(query.trim(), pageIndex, pageSize);
+    }
+
+    private SearchPage fullTextSearch(String query, int page, int size) {
+        List<SearchHit> hits = jdbcTemplate.query(SEARCH_SQL, (rs, rowNum) -> SearchHit.builder()
+                        .rank(rs.getDouble("rank"))
+                        .highlight(toHtmlHighlight(rs.getString("highlight")))
+                        .game(GameSummary.builder().id(rs.getLong("id")).build())
+                        .build(),
+                query, size, (long) page * size);
+        Long total = jdbcTemplate.queryForObject(COUNT_SQL, Long.class, query);
+
+        if (!hits.isEmpty()) {
+            // Fill in the summaries with one indexed lookup, keeping rank order
+            Map<Long, GameSummary> summaries = gameRepository.findSummariesByIdIn(
+                            hits.stream().map(hit -> hit.getGame().getId()).toList())
+                    .stream()
+                    .collect(Collectors.toMap(GameSummary::getId, Function.identity()));
+            hits.forEach(hit -> hit.setGame(summaries.get(hit.getGame().getId())));
+            hits.removeIf(hit -> hit.getGame() == null);
+        }
+
+        return SearchPage.builder()
+                .items(hits)
+                .totalCount(total != null ? total : 0)
+                .page(page)
+                .size(size)
+                .fullText(true)
+                .build();
+    }
+
+    /**
+     * HTML-escape a headline (it is user-entered text), then turn the match markers into mark tags
+     */
+    static String toHtmlHighlight(String headline) {
+        if (headline == null) {
+            return null;
+        }
+        return HtmlUtils.htmlEscape(headline, StandardCharsets.UTF_8.name())
+                .replace(MARK_START, "<mark>")
+                .replace(MARK_STOP, "</mark>");
+    }
+
+    private SearchPage substringSearch(String query, int page, int size) {
+        // The fallback pages in memory and reports the full match count, so it reads every match
+        List<GameSummary> matches = gameRepository.findSummariesByTitleContaining(query, Limit.unlimited());
+        List<SearchHit> hits = matches.stream()
+                .skip((long) page * size)
+                .limit(size)
+                .map(game -> SearchHit.builder().game(game).build())
+                .collect(Collectors.toCollection(ArrayList::new));
+
+        return SearchPage.builder()
+                .items(hits)
+                .totalCount(matches.size())
+                .page(page)
+                .size(size)
+                .fullText(false)
+                .build();
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SearchHit {
+        private GameSummary game;
+        private double rank;
+        private String highlight;     // HTML-escaped matching fragments wrapped in <mark>, null in fallback mode
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SearchPage {
+        private List<SearchHit> items;
+        private long totalCount;
+        private int page;
+        private int size;
+        private boolean fullText;
+    }
+}
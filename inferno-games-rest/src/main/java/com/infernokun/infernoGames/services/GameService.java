@@ -1,26 +1,46 @@
 package com.infernokun.infernoGames.services;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.infernokun.infernoGames.models.Game;
+import com.infernokun.infernoGames.models.dto.GameCursor;
+import com.infernokun.infernoGames.models.dto.GameListQuery;
+import com.infernokun.infernoGames.models.dto.GamePage;
 import com.infernokun.infernoGames.models.dto.GameRequest;
+import com.infernokun.infernoGames.models.dto.GameSummary;
+import com.infernokun.infernoGames.models.dto.PlatformMaskCount;
 import com.infernokun.infernoGames.models.enums.GamePlatform;
 import com.infernokun.infernoGames.models.enums.GameStatus;
+import com.infernokun.infernoGames.models.enums.GenreMatch;
 import com.infernokun.infernoGames.repositories.GameRepository;
 import com.infernokun.infernoGames.services.IGDBService.IGDBGameDto;
 import com.infernokun.infernoGames.services.SteamService.SteamGameInfo;
 import com.infernokun.infernoGames.services.SteamService.SteamUserProfile;
-import lombok.Getter;
+import com.infernokun.infernoGames.utils.GameMergePatch;
+import com.infernokun.infernoGames.utils.GamePlatformMask;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -29,47 +49,77 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class GameService {
 
+    // Merge patch members whose change moves the numbers in getGameStats
+    private static final Set<String> STATS_FIELDS = Set.of(
+            "status", "favorite", "dlc", "playtimeHours", "rating", "platform", "platforms", "genre");
+
+    // Plain mapper for binding patch members: the shared one carries Redis default typing
+    private static final ObjectMapper patchMapper = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .enable(MapperFeature.ACCEPT_CASE_INSENSITIVE_ENUMS)
+            .build();
+
     private final GameRepository gameRepository;
     private final IGDBService igdbService;
     private final SteamService steamService;
+    private final IgdbGenreCacheService igdbGenreCacheService;
+    private final SteamLibraryViewService steamLibraryViewService;
+    private final Validator validator;
+    private final CacheManager cacheManager;
 
     // ─── CRUD Operations ────────────────────────────────────────────────────────
 
-    @Cacheable(value = "games")
-    public List<Game> getAllGames() {
-        return gameRepository.findAllByOrderByTitleAsc();
+    @Cacheable(value = "gameSummaries")
+    @Transactional(readOnly = true)
+    public List<GameSummary> getAllGames() {
+        return gameRepository.findAllSummaries();
     }
 
     @Cacheable(value = "game", key = "#id")
+    @Transactional(readOnly = true)
     public Game getGameById(Long id) {
         return gameRepository.findById(id)
+                .map(this::withDetails)
                 .orElseThrow(() -> new IllegalArgumentException("Game not found with id: " + id));
     }
 
+    @Transactional(readOnly = true)
     public Optional<Game> getGameByIgdbId(Long igdbId) {
-        return gameRepository.findByIgdbId(igdbId);
+        return gameRepository.findByIgdbId(igdbId).map(this::withDetails);
     }
 
-    @CacheEvict(value = {"games", "gameStats"}, allEntries = true)
+    @CacheEvict(value = {"gameSummaries", "gamePages", "gameStats"}, allEntries = true)
     public Game createGame(GameRequest request) {
         // Check Steam ownership and get playtime data if Steam App ID is provided
         SteamGameInfo steamInfo = null;
-        GamePlatform platform = request.getPlatform();
 
         if (request.getSteamAppId() != null && !request.getSteamAppId().isEmpty()) {
             Optional<SteamGameInfo> steamOwnership = steamService.checkOwnership(request.getSteamAppId());
             if (steamOwnership.isPresent()) {
                 steamInfo = steamOwnership.get();
-                // Auto-set platform to PC if game is owned on Steam and no platform specified
-                if (platform == null) {
-                    platform = GamePlatform.PC;
-                    log.info("Auto-setting platform to PC for Steam-owned game: {}", request.getTitle());
-                }
             } else {
                 log.debug("Game with Steam App ID {} not found in user's Steam library", request.getSteamAppId());
             }
         }
 
+        Game game = newGameFrom(request, steamInfo);
+
+        log.info("Creating new game: {}", game.getTitle());
+        return gameRepository.save(game);
+    }
+
+    /**
+     * Build an unsaved game from a request, applying defaults and any Steam ownership data
+     */
+    public Game newGameFrom(GameRequest request, SteamGameInfo steamInfo) {
+        GamePlatform platform = request.getPlatform();
+
+        // Auto-set platform to PC if game is owned on Steam and no platform specified
+        if (steamInfo != null && platform == null) {
+            platform = GamePlatform.PC;
+            log.info("Auto-setting platform to PC for Steam-owned game: {}", request.getTitle());
+        }
+
         Game game = Game.builder()
                 .title(request.getTitle())
                 .description(request.getDescription())
@@ -101,9 +151,7 @@ public class GameService {
         if (steamInfo != null) {
             populateFromSteam(game, steamInfo);
         }
-
-        log.info("Creating new game: {}", game.getTitle());
-        return gameRepository.save(game);
+        return game;
     }
 
     /**
@@ -139,7 +187,7 @@ public class GameService {
                 steamInfo.getPlaytimeWindowsForever());
     }
 
-    @CacheEvict(value = {"games", "game", "gameStats"}, allEntries = true)
+    @CacheEvict(value = {"gameSummaries", "gamePages", "game", "gameStats"}, allEntries = true)
     public Game updateGame(Long id, GameRequest request) {
         Game game = getGameById(id);
 
@@ -174,74 +222,250 @@ public class GameService {
         return gameRepository.save(game);
     }
 
-    @CacheEvict(value = {"games", "game", "gameStats"}, allEntries = true)
+    /**
+     * Apply an RFC 7396 merge patch. Only the members present are written, and Game's dynamic update
+     * limits the UPDATE to columns that actually changed; caches are evicted only as far as the change set reaches.
+     */
+    public Game patchGame(Long id, JsonNode patch) {
+        if (patch == null || !patch.isObject()) {
+            throw new IllegalArgumentException("Merge patch must be a JSON object");
+        }
+        Set<String> unknown = GameMergePatch.unknownFields(patch);
+        if (!unknown.isEmpty()) {
+            throw new IllegalArgumentException("Fields cannot be patched: " + String.join(", ", unknown));
+        }
+
+        GameRequest values;
+        try {
+            values = patchMapper.treeToValue(patch, GameRequest.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid merge patch: " + e.getOriginalMessage());
+        }
+        Set<ConstraintViolation<GameRequest>> violations = validator.validate(values);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException("Invalid merge patch: " + violations.stream()
+                    .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+        }
+
+        Game game = gameRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Game not found with id: " + id));
+        Set<String> changed = GameMergePatch.apply(game, patch, values);
+        if (changed.isEmpty()) {
+            return withDetails(game);
+        }
+
+        log.info("Patching game: {} (ID: {}) fields {}", game.getTitle(), id, changed);
+        Game saved = withDetails(gameRepository.save(game));
+        evictAfterPatch(id, changed);
+        return saved;
+    }
+
+    /**
+     * Evict once the patch has committed; evicting inside the transaction would let a concurrent
+     * read cache the pre-patch row again before the new one is visible
+     */
+    private void evictAfterPatch(Long id, Set<String> changed) {
+        boolean statsChanged = !Collections.disjoint(changed, STATS_FIELDS);
+        afterCommit(() -> {
+            Optional.ofNullable(cacheManager.getCache("game")).ifPresent(cache -> cache.evict(id));
+            // Every write moves updatedAt, which list views show and sort by
+            Optional.ofNullable(cacheManager.getCache("gameSummaries")).ifPresent(Cache::clear);
+            Optional.ofNullable(cacheManager.getCache("gamePages")).ifPresent(Cache::clear);
+            if (statsChanged) {
+                Optional.ofNullable(cacheManager.getCache("gameStats")).ifPresent(Cache::clear);
+            }
+        });
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    @CacheEvict(value = {"gameSummaries", "gamePages", "game", "gameStats"}, allEntries = true)
     public void deleteGame(Long id) {
         Game game = getGameById(id);
         log.info("Deleting game: {} (ID: {})", game.getTitle(), id);
         gameRepository.delete(game);
     }
 
+    /**
+     * Load the lazy detail columns while the session is still open; detail responses are serialized after it closes
+     */
+    private Game withDetails(Game game) {
+        game.getDescription();
+        return game;
+    }
+
     // ─── Status Operations ──────────────────────────────────────────────────────
 
-    @CacheEvict(value = {"games", "game", "gameStats"}, allEntries = true)
+    // Status changes and toggles are single UPDATE statements, so concurrent clicks can't lose writes
+
+    @CacheEvict(value = {"gameSummaries", "gamePages", "game", "gameStats"}, allEntries = true)
     public Game updateGameStatus(Long id, GameStatus status) {
-        Game game = getGameById(id);
-        game.updateStatus(status);
+        Game game = gameRepository.updateStatus(id, status)
+                .map(this::withDetails)
+                .orElseThrow(() -> new IllegalArgumentException("Game not found with id: " + id));
         log.info("Updated status for game '{}' to {}", game.getTitle(), status);
-        return gameRepository.save(game);
+        return game;
     }
 
-    @CacheEvict(value = {"games", "game"}, allEntries = true)
+    @CacheEvict(value = {"gameSummaries", "gamePages", "game", "gameStats"}, allEntries = true)
     public Game toggleFavorite(Long id) {
-        Game game = getGameById(id);
-        game.setFavorite(!game.getFavorite());
+        Game game = gameRepository.toggleFavorite(id)
+                .map(this::withDetails)
+                .orElseThrow(() -> new IllegalArgumentException("Game not found with id: " + id));
         log.info("Toggled favorite for game '{}': {}", game.getTitle(), game.getFavorite());
-        return gameRepository.save(game);
+        return game;
     }
 
-    @CacheEvict(value = {"games", "game"}, allEntries = true)
+    @CacheEvict(value = {"gameSummaries", "gamePages", "game", "gameStats"}, allEntries = true)
     public Game toggleDlc(Long id) {
-        Game game = getGameById(id);
-        game.setDlc(!game.getDlc());
+        Game game = gameRepository.toggleDlc(id)
+                .map(this::withDetails)
+                .orElseThrow(() -> new IllegalArgumentException("Game not found with id: " + id));
         log.info("Toggled DLC for game '{}': {}", game.getTitle(), game.getDlc());
-        return gameRepository.save(game);
+        return game;
     }
 
     // ─── Query Operations ───────────────────────────────────────────────────────
 
-    public List<Game> searchGames(String query) {
-        return gameRepository.findByTitleContainingIgnoreCase(query);
+    @Transactional(readOnly = true)
+    public List<GameSummary> searchGames(String query, int limit) {
+        return gameRepository.findSummariesByTitleContaining(query, capped(limit));
+    }
+
+    @Transactional(readOnly = true)
+    public List<GameSummary> getGamesByStatus(GameStatus status, int limit) {
+        return gameRepository.findSummariesByStatus(status, capped(limit));
+    }
+
+    @Transactional(readOnly = true)
+    public List<GameSummary> getGamesByPlatform(GamePlatform platform, int limit) {
+        return gameRepository.findSummariesByPlatform(platform, capped(limit));
     }
 
-    public List<Game> getGamesByStatus(GameStatus status) {
-        return gameRepository.findByStatus(status);
+    @Transactional(readOnly = true)
+    public List<GameSummary> getFavoriteGames(int limit) {
+        return gameRepository.findFavoriteSummaries(capped(limit));
+    }
+
+    @Transactional(readOnly = true)
+    public List<GameSummary> getDlcGames(int limit) { return gameRepository.findDlcSummaries(capped(limit)); }
+
+    @Transactional(readOnly = true)
+    public List<GameSummary> advancedSearch(String title, GameStatus status, GamePlatform platform, String genre,
+                                            int limit) {
+        return gameRepository.searchSummaries(title, status, platform, genre, capped(limit));
+    }
+
+    /**
+     * Advanced search that also filters on the genres array; matching any or all of the given genres
+     */
+    @Transactional(readOnly = true)
+    public List<GameSummary> advancedSearch(String title, GameStatus status, GamePlatform platform, String genre,
+                                            List<String> genres, GenreMatch genreMatch, int limit) {
+        if (genres == null || genres.isEmpty()) {
+            return advancedSearch(title, status, platform, genre, limit);
+        }
+        return gameRepository.searchSummariesByGenres(title, status, platform, genre, genres,
+                genreMatch != null ? genreMatch : GenreMatch.ANY, GameListQuery.clampLimit(limit));
     }
 
-    public List<Game> getGamesByPlatform(GamePlatform platform) {
-        return gameRepository.findByPlatform(platform);
+    /**
+     * Games owned on any (or, with all, every) of the given platforms
+     */
+    @Transactional(readOnly = true)
+    public List<GameSummary> getGamesOwnedOn(Collection<GamePlatform> platforms, boolean all, int limit) {
+        int mask = GamePlatformMask.toMask(platforms);
+        if (mask == 0) {
+            throw new IllegalArgumentException("At least one platform is required");
+        }
+        return all ? gameRepository.findSummariesOnAllPlatforms(mask, capped(limit))
+                : gameRepository.findSummariesOnAnyPlatform(mask, capped(limit));
     }
 
-    public List<Game> getFavoriteGames() {
-        return gameRepository.findByFavoriteTrue();
+    // The unpaged list endpoints return at most MAX_PAGE_SIZE rows, first by title
+    private static Limit capped(int limit) {
+        return Limit.of(GameListQuery.clampLimit(limit));
     }
 
-    public List<Game> getDlcGames() { return gameRepository.findByDlcTrue(); }
+    @Transactional(readOnly = true)
+    public List<GameSummary> getRecentlyAddedGames() {
+        return gameRepository.findRecentlyAddedSummaries(Limit.of(10));
+    }
 
-    public List<Game> advancedSearch(String title, GameStatus status, GamePlatform platform, String genre) {
-        return gameRepository.searchGames(title, status, platform, genre);
+    @Transactional(readOnly = true)
+    public List<GameSummary> getRecentlyCompletedGames() {
+        return gameRepository.findRecentlyCompletedSummaries(GameStatus.COMPLETED, Limit.of(50));
     }
 
-    public List<Game> getRecentlyAddedGames() {
-        return gameRepository.findTop10ByOrderByCreatedAtDesc();
+    /**
+     * One keyset page of the game list. The next cursor is the last row's sort key, so a page seeks
+     * to its position on the sort index instead of reading past the rows before it. The total is
+     * cached per filter set, so walking further pages doesn't recount the table.
+     */
+    @Cacheable(value = "gamePages", key = "#query.cacheKey()")
+    @Transactional(readOnly = true)
+    public GamePage getGamePage(GameListQuery query) {
+        Sort.Direction direction = query.resolvedDirection();
+        int limit = query.resolvedLimit();
+
+        GameCursor after = null;
+        if (query.getCursor() != null && !query.getCursor().isBlank()) {
+            after = GameCursor.decode(query.getCursor());
+            if (after.sort() != query.getSort() || after.direction() != direction) {
+                throw new IllegalArgumentException("Game list cursor does not match the requested sort");
+            }
+        }
+
+        // One extra row tells whether another page exists
+        List<GameSummary> rows = gameRepository.findKeysetPage(query, after, limit + 1);
+        boolean hasMore = rows.size() > limit;
+        List<GameSummary> items = new ArrayList<>(hasMore ? rows.subList(0, limit) : rows);
+
+        return GamePage.builder()
+                .items(items)
+                .nextCursor(hasMore ? GameCursor.after(items.getLast(), query.getSort(), direction).encode() : null)
+                .totalCount(countMatching(query))
+                .sort(query.getSort())
+                .direction(direction)
+                .build();
     }
 
-    public List<Game> getRecentlyCompletedGames() {
-        return gameRepository.findByStatusOrderByCompletedAtDesc(GameStatus.COMPLETED);
+    /**
+     * Filter total shared by every page of a query. Stored in the gamePages cache so the same
+     * evictions clear it; the cached number may come back as an Integer after serialization.
+     */
+    private long countMatching(GameListQuery query) {
+        Cache cache = cacheManager.getCache("gamePages");
+        if (cache == null) {
+            return gameRepository.countMatching(query);
+        }
+
+        Cache.ValueWrapper cached = cache.get(query.countKey());
+        if (cached != null && cached.get() instanceof Number total) {
+            return total.longValue();
+        }
+        long total = gameRepository.countMatching(query);
+        cache.put(query.countKey(), total);
+        return total;
     }
 
     // ─── Statistics ─────────────────────────────────────────────────────────────
 
     @Cacheable(value = "gameStats")
+    @Transactional(readOnly = true)
     public Map<String, Object> getGameStats() {
         Map<String, Object> stats = new HashMap<>();
 
@@ -268,20 +492,23 @@ public class GameService {
         stats.put("averageRating", averageRating != null ? Math.round(averageRating * 10.0) / 10.0 : 0.0);
         stats.put("completionRate", totalGames > 0 ? Math.round((completedGames * 100.0) / totalGames) : 0);
 
-        // Platform breakdown
-        Map<String, Long> platformStats = new HashMap<>();
-        for (GamePlatform platform : GamePlatform.values()) {
-            long count = gameRepository.findByPlatform(platform).size();
-            if (count > 0) {
-                platformStats.put(platform.name(), count);
+        // Platform breakdown: a game counts once for each platform it is on, primary or owned
+        Map<GamePlatform, Long> platformCounts = new EnumMap<>(GamePlatform.class);
+        for (PlatformMaskCount row : gameRepository.countByPlatformMask()) {
+            int mask = row.getPlatformMask() != null ? row.getPlatformMask() : 0;
+            if (row.getPlatform() != null) {
+                mask |= GamePlatformMask.bit(row.getPlatform());
             }
+            GamePlatformMask.addCounts(platformCounts, mask, row.getCount());
         }
+        Map<String, Long> platformStats = new HashMap<>();
+        platformCounts.forEach((platform, count) -> platformStats.put(platform.name(), count));
         stats.put("platformBreakdown", platformStats);
 
         // Genre breakdown
         Map<String, Long> genreStats = getAllGames().stream()
                 .filter(g -> g.getGenre() != null && !g.getGenre().isEmpty())
-                .collect(Collectors.groupingBy(Game::getGenre, Collectors.counting()));
+                .collect(Collectors.groupingBy(GameSummary::getGenre, Collectors.counting()));
         stats.put("genreBreakdown", genreStats);
 
         return stats;
@@ -309,13 +536,13 @@ public class GameService {
         return igdbService.getUpcomingGames(limit);
     }
 
-    @CacheEvict(value = {"games", "gameStats"}, allEntries = true)
+    @CacheEvict(value = {"gameSummaries", "gamePages", "gameStats"}, allEntries = true)
     public Game createGameFromIGDB(Long igdbId) {
         // Check if game already exists
         Optional<Game> existing = gameRepository.findByIgdbId(igdbId);
         if (existing.isPresent()) {
             log.info("Game from IGDB {} already exists: {}", igdbId, existing.get().getTitle());
-            return existing.get();
+            return withDetails(existing.get());
         }
 
         // Fetch from IGDB
@@ -375,7 +602,7 @@ public class GameService {
         return gameRepository.save(game);
     }
 
-    @CacheEvict(value = {"games", "game"}, allEntries = true)
+    @CacheEvict(value = {"gameSummaries", "gamePages", "game"}, allEntries = true)
     public Game refreshFromIGDB(Long gameId) {
         Game game = getGameById(gameId);
 
@@ -412,7 +639,7 @@ public class GameService {
      * Batch refresh all games from IGDB to populate missing genres
      * This is useful for existing games that were imported before genres were tracked
      */
-    @CacheEvict(value = {"games", "game", "gameStats"}, allEntries = true)
+    @CacheEvict(value = {"gameSummaries", "gamePages", "game", "gameStats"}, allEntries = true)
     public Map<String, Object> refreshAllGenresFromIGDB() {
         List<Game> gamesWithIgdbId = gameRepository.findAll().stream()
                 .filter(g -> g.getIgdbId() != null)
@@ -460,7 +687,7 @@ public class GameService {
 
     // ─── Cache Management ───────────────────────────────────────────────────────
 
-    @CacheEvict(value = {"games", "game", "gameStats"}, allEntries = true)
+    @CacheEvict(value = {"gameSummaries", "gamePages", "game", "gameStats"}, allEntries = true)
     public void clearAllCaches() {
         log.info("Cleared all game caches");
     }
@@ -482,165 +709,56 @@ public class GameService {
     }
 
     /**
-     * Get all Steam owned games
+     * Preload Steam Store metadata for a list of app ids
+     */
+    public Map<String, Object> warmSteamStoreCache(List<String> appIds) {
+        return steamService.warmStoreCache(appIds);
+    }
+
+    /**
+     * Get all Steam owned games across linked accounts
      */
     public List<SteamGameInfo> getSteamOwnedGames() {
         return steamService.getOwnedGames();
     }
 
     /**
-     * Get Steam library with genres - returns immediately with available data
-     * Background scheduler handles IGDB enrichment for non-backlog games
+     * Get the Steam games owned by one linked account
      */
-    public List<SteamGameInfo> getSteamLibraryWithGenres() {
-        List<SteamGameInfo> steamGames = new ArrayList<>(steamService.getOwnedGames());
-
-        // Create a map of Steam App ID to backlog games for quick lookup
-        Map<String, Game> steamAppIdToGame = gameRepository.findAll().stream()
-                .filter(g -> g.getSteamAppId() != null && !g.getSteamAppId().isEmpty())
-                .collect(Collectors.toMap(
-                        Game::getSteamAppId,
-                        g -> g,
-                        (existing, replacement) -> existing
-                ));
-
-        // Get cached IGDB genres
-        Map<String, List<String>> cachedGenres = getCachedSteamGenres();
-
-        for (SteamGameInfo steamGame : steamGames) {
-            Game backlogGame = steamAppIdToGame.get(steamGame.getAppId());
-
-            if (backlogGame != null) {
-                // Game is in backlog - use backlog data
-                steamGame.setInBacklog(true);
-                steamGame.setBacklogGameId(backlogGame.getId());
-                if (backlogGame.getGenres() != null && !backlogGame.getGenres().isEmpty()) {
-                    steamGame.setGenres(new ArrayList<>(backlogGame.getGenres()));
-                }
-            } else {
-                // Check if we have cached IGDB genres
-                List<String> cached = cachedGenres.get(steamGame.getAppId());
-                if (cached != null && !cached.isEmpty()) {
-                    steamGame.setGenres(new ArrayList<>(cached));
-                }
-            }
-        }
-
-        return steamGames;
+    public List<SteamGameInfo> getSteamOwnedGames(String steamId) {
+        return steamService.getOwnedGames(steamId);
     }
 
-    // In-memory cache for IGDB genre lookups (appId -> genres)
-    private final Map<String, List<String>> igdbGenreCache = new ConcurrentHashMap<>();
-    @Getter
-    private volatile boolean enrichmentInProgress = false;
-
-    public Map<String, List<String>> getCachedSteamGenres() {
-        return new HashMap<>(igdbGenreCache);
+    /**
+     * Get the load state of every linked Steam account
+     */
+    public List<SteamService.SteamLibraryStatus> getSteamAccounts() {
+        return steamService.getLibraryStatuses();
     }
 
-    public int getCachedGenreCount() {
-        return igdbGenreCache.size();
+    /**
+     * Get Steam library with genres from the materialized library view - no database access
+     */
+    public List<SteamGameInfo> getSteamLibraryWithGenres() {
+        return steamLibraryViewService.getLibrary();
     }
 
     /**
-     * Background task to enrich Steam games with IGDB genres
-     * Called by scheduler - processes games gradually to avoid rate limits
+     * Get one filtered, sorted page of the Steam library with genres
      */
-    public void enrichSteamLibraryGenresInBackground() {
-        if (enrichmentInProgress) {
-            log.debug("Genre enrichment already in progress, skipping");
-            return;
-        }
-
-        enrichmentInProgress = true;
-
-        try {
-            List<SteamGameInfo> steamGames = steamService.getOwnedGames();
-
-            // Get games already in backlog (they have genres)
-            Set<String> backlogAppIds = gameRepository.findAll().stream()
-                    .filter(g -> g.getSteamAppId() != null && !g.getSteamAppId().isEmpty())
-                    .map(Game::getSteamAppId)
-                    .collect(Collectors.toSet());
-
-            // Find games that need IGDB lookup (not in backlog, not already cached)
-            List<SteamGameInfo> gamesNeedingLookup = steamGames.stream()
-                    .filter(g -> !backlogAppIds.contains(g.getAppId()))
-                    .filter(g -> !igdbGenreCache.containsKey(g.getAppId()))
-                    .toList();
-
-            if (gamesNeedingLookup.isEmpty()) {
-                log.debug("No games need IGDB genre enrichment");
-                return;
-            }
-
-            log.info("Starting background IGDB genre enrichment for {} games", gamesNeedingLookup.size());
-
-            int processed = 0;
-            int enriched = 0;
-
-            for (SteamGameInfo game : gamesNeedingLookup) {
-                // Rate limit: 3 requests per second
-                if (processed > 0 && processed % 3 == 0) {
-                    Thread.sleep(1000);
-                }
-
-                try {
-                    List<IGDBGameDto> igdbResults = igdbService.searchGames(game.getName());
-                    processed++;
-
-                    if (!igdbResults.isEmpty()) {
-                        IGDBGameDto match = igdbResults.stream()
-                                .filter(g -> game.getAppId().equals(g.getSteamAppId()))
-                                .findFirst()
-                                .orElseGet(() -> igdbResults.stream()
-                                        .filter(g -> game.getName().equalsIgnoreCase(g.getName()))
-                                        .findFirst()
-                                        .orElse(igdbResults.getFirst()));
-
-                        if (match.getGenres() != null && !match.getGenres().isEmpty()) {
-                            igdbGenreCache.put(game.getAppId(), new ArrayList<>(match.getGenres()));
-                            enriched++;
-                        } else {
-                            // Cache empty list to avoid re-fetching
-                            igdbGenreCache.put(game.getAppId(), new ArrayList<>());
-                        }
-                    } else {
-                        igdbGenreCache.put(game.getAppId(), new ArrayList<>());
-                    }
-                } catch (Exception e) {
-                    String msg = e.getMessage() != null ? e.getMessage() : "";
-                    if (msg.contains("authentication failed")) {
-                        log.warn("IGDB authentication failed - stopping enrichment");
-                        break;
-                    } else if (msg.contains("429") || msg.contains("Too Many Requests")) {
-                        log.warn("IGDB rate limit hit - pausing enrichment");
-                        Thread.sleep(5000);
-                    } else {
-                        log.debug("Failed to fetch IGDB data for {}: {}", game.getName(), msg);
-                        igdbGenreCache.put(game.getAppId(), new ArrayList<>());
-                    }
-                }
-            }
-
-            log.info("Background genre enrichment complete: {}/{} games enriched", enriched, processed);
+    public SteamLibraryViewService.SteamLibraryPage getSteamLibraryPage(SteamLibraryViewService.SteamLibraryQuery query) {
+        return steamLibraryViewService.getPage(query);
+    }
 
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            log.warn("Genre enrichment interrupted");
-        } catch (Exception e) {
-            log.error("Error during genre enrichment: {}", e.getMessage());
-        } finally {
-            enrichmentInProgress = false;
-        }
+    public int getCachedGenreCount() {
+        return igdbGenreCacheService.size();
     }
 
     /**
      * Clear the IGDB genre cache
      */
     public void clearIgdbGenreCache() {
-        igdbGenreCache.clear();
-        log.info("Cleared IGDB genre cache");
+        igdbGenreCacheService.clear();
     }
 
     /**
@@ -657,6 +775,13 @@ public class GameService {
         return steamService.getRecentlyPlayedGames(count);
     }
 
+    /**
+     * Get recently played Steam games for one linked account
+     */
+    public List<SteamGameInfo> getRecentlyPlayedSteamGames(String steamId, int count) {
+        return steamService.getRecentlyPlayedGames(steamId, count);
+    }
+
     /**
      * Get most played Steam games
      */
@@ -671,6 +796,13 @@ public class GameService {
         return steamService.getLibraryStats();
     }
 
+    /**
+     * Get Steam library statistics for one linked account
+     */
+    public SteamService.SteamLibraryStats getSteamLibraryStats(String steamId) {
+        return steamService.getLibraryStats(steamId);
+    }
+
     /**
      * Refresh Steam owned games cache
      */
@@ -681,7 +813,7 @@ public class GameService {
     /**
      * Sync a single game's Steam data
      */
-    @CacheEvict(value = {"games", "game"}, allEntries = true)
+    @CacheEvict(value = {"gameSummaries", "gamePages", "game"}, allEntries = true)
     public Game syncGameSteamData(Long gameId) {
         Game game = getGameById(gameId);
 
@@ -713,10 +845,17 @@ public class GameService {
         return steamService.getUserProfile();
     }
 
+    /**
+     * Get a linked account's Steam user profile
+     */
+    public Optional<SteamUserProfile> getSteamUserProfile(String steamId) {
+        return steamService.getUserProfile(steamId);
+    }
+
     /**
      * Migrate existing games with Steam App IDs to populate Steam data
      */
-    @CacheEvict(value = {"games", "game", "gameStats"}, allEntries = true)
+    @CacheEvict(value = {"gameSummaries", "gamePages", "game", "gameStats"}, allEntries = true)
     public int migrateExistingSteamData() {
         if (!steamService.isConfigured()) {
             log.warn("Steam API not configured - cannot migrate");
@@ -5,12 +5,16 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.infernokun.infernoGames.config.InfernoGamesConfig;
+import com.infernokun.infernoGames.events.IgdbGamesFetchedEvent;
+import com.infernokun.infernoGames.utils.InfernoGamesUtils;
+import com.infernokun.infernoGames.utils.RateLimiter;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
@@ -18,10 +22,7 @@ import org.springframework.web.client.RestTemplate;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
-import java.util.Optional;
+import java.util.*;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -32,26 +33,36 @@ public class IGDBService {
     private static final String IGDB_API_URL = "https://api.igdb.com/v4";
     private static final String TWITCH_AUTH_URL = "https://id.twitch.tv/oauth2/token";
 
+    // IGDB returns at most 500 rows per query; external_games category 1 is Steam
+    private static final int IGDB_BATCH_SIZE = 500;
+    // Safety stop for paged queries; a batch of 500 uids never legitimately needs this many pages
+    private static final int IGDB_MAX_PAGES = 20;
+    private static final int STEAM_EXTERNAL_CATEGORY = 1;
+
     private final InfernoGamesConfig config;
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
+    private final RateLimiter rateLimiter;
 
-    private String accessToken;
-    private long tokenExpiresAt;
+    private volatile String accessToken;
+    private volatile long tokenExpiresAt;
 
     private final SteamService steamService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public IGDBService(InfernoGamesConfig config, SteamService steamService) {
+    public IGDBService(InfernoGamesConfig config, SteamService steamService, ApplicationEventPublisher eventPublisher) {
         this.config = config;
         this.steamService = steamService;
+        this.eventPublisher = eventPublisher;
         this.restTemplate = new RestTemplate();
         this.objectMapper = new ObjectMapper();
+        this.rateLimiter = new RateLimiter(config.getIgdbRequestsPerSecond());
     }
 
     /**
      * Authenticate with Twitch to get IGDB access token
      */
-    private void authenticate() {
+    private synchronized void authenticate() {
         if (accessToken != null && System.currentTimeMillis() < tokenExpiresAt - 60000) {
             return; // Token is still valid
         }
@@ -75,10 +86,18 @@ public class IGDBService {
     }
 
     /**
-     * Search for games by name
+     * Search for games by name. Queries differing only in case, whitespace or punctuation share a cache entry.
      */
-    @Cacheable(value = "igdbSearch", key = "#query")
+    @Cacheable(value = "igdbSearch",
+            key = "T(com.infernokun.infernoGames.utils.InfernoGamesUtils).normalizeSearchQuery(#query)")
     public List<IGDBGameDto> searchGames(String query) {
+        return searchGames(InfernoGamesUtils.normalizeSearchQuery(query), 20);
+    }
+
+    /**
+     * Search for games by name, returning at most {@code limit} results (uncached)
+     */
+    public List<IGDBGameDto> searchGames(String query, int limit) {
         authenticate();
 
         String body = String.format(
@@ -86,8 +105,8 @@ public class IGDBService {
                         "fields id,name,summary,cover.url,first_release_date,genres.name,platforms.name," +
                         "involved_companies.company.name,involved_companies.developer,involved_companies.publisher," +
                         "rating,rating_count,screenshots.url,url,external_games.category,external_games.uid,external_games.name; " +
-                        "limit 20;",
-                query.replace("\"", "\\\"")
+                        "limit %d;",
+                query.replace("\"", "\\\""), limit
         );
 
         return executeIGDBRequest(body);
@@ -176,37 +195,147 @@ public class IGDBService {
     }
 
     /**
-     * Execute IGDB API request
+     * Resolve Steam app ids to IGDB games and their genres with batched queries:
+     * external_games by Steam uid, then the matched games' genres by id.
+     * Apps IGDB doesn't know are absent from the result. Throws if IGDB can't be reached,
+     * so callers don't mistake an outage for "no match".
      */
-    private List<IGDBGameDto> executeIGDBRequest(String body) {
-        try {
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("Client-ID", config.getIgdbClientId());
-            headers.set("Authorization", "Bearer " + accessToken);
-            headers.setContentType(MediaType.TEXT_PLAIN);
-
-            HttpEntity<String> request = new HttpEntity<>(body, headers);
-
-            ResponseEntity<String> response = restTemplate.exchange(
-                    IGDB_API_URL + "/games",
-                    HttpMethod.POST,
-                    request,
-                    String.class
+    public Map<String, SteamGenreMatch> resolveSteamGenres(Collection<String> steamAppIds) {
+        Map<String, Long> igdbIdsByAppId = resolveSteamAppIds(steamAppIds).igdbIds();
+        Map<Long, List<String>> genresByIgdbId = getGenresByIds(new HashSet<>(igdbIdsByAppId.values()));
+
+        Map<String, SteamGenreMatch> result = new HashMap<>();
+        igdbIdsByAppId.forEach((appId, igdbId) -> result.put(appId, SteamGenreMatch.builder()
+                .steamAppId(appId)
+                .igdbId(igdbId)
+                .genres(genresByIgdbId.getOrDefault(igdbId, List.of()))
+                .build()));
+        return result;
+    }
+
+    /**
+     * Map Steam app ids to IGDB game ids through external_games, 500 uids per query.
+     * A uid can have several external_games rows, so each query is paged until IGDB runs out of rows;
+     * every uid in the result's answered set was really looked up, matched or not.
+     */
+    public SteamAppResolution resolveSteamAppIds(Collection<String> steamAppIds) {
+        authenticate();
+
+        List<String> uids = steamAppIds.stream()
+                .filter(Objects::nonNull)
+                .filter(appId -> !appId.isEmpty() && appId.chars().allMatch(Character::isDigit))
+                .distinct()
+                .toList();
+
+        Map<String, Long> igdbIds = new HashMap<>();
+
+        for (int i = 0; i < uids.size(); i += IGDB_BATCH_SIZE) {
+            List<String> batch = uids.subList(i, Math.min(i + IGDB_BATCH_SIZE, uids.size()));
+            String query = String.format(
+                    "fields game,uid; where category = %d & uid = (%s);",
+                    STEAM_EXTERNAL_CATEGORY,
+                    batch.stream().map(uid -> "\"" + uid + "\"").collect(Collectors.joining(","))
             );
 
-            if (response.getBody() != null) {
-                List<IGDBRawGame> rawGames = objectMapper.readValue(
-                        response.getBody(),
-                        new TypeReference<>() {
-                        }
-                );
-
-                return rawGames.stream()
-                        .map(this::convertToDto)
-                        .collect(Collectors.toList());
+            List<IGDBRawExternalGame> externalGames = postIGDBAllPages("/external_games", query, new TypeReference<>() {
+            });
+            externalGames.stream()
+                    .filter(external -> external.getGame() != null && external.getUid() != null)
+                    .forEach(external -> igdbIds.putIfAbsent(external.getUid(), external.getGame()));
+        }
+
+        return new SteamAppResolution(igdbIds, Set.copyOf(uids));
+    }
+
+    /**
+     * Fetch genre names for IGDB game ids, up to 500 ids per query. Ids missing from the result
+     * were not answered (unknown or deleted games).
+     */
+    public Map<Long, List<String>> getGenresByIds(Collection<Long> igdbIds) {
+        authenticate();
+
+        List<Long> ids = new ArrayList<>(igdbIds);
+        Map<Long, List<String>> result = new HashMap<>();
+
+        for (int i = 0; i < ids.size(); i += IGDB_BATCH_SIZE) {
+            List<Long> batch = ids.subList(i, Math.min(i + IGDB_BATCH_SIZE, ids.size()));
+            String query = String.format(
+                    "fields id,genres.name; where id = (%s);",
+                    batch.stream().map(String::valueOf).collect(Collectors.joining(","))
+            );
+
+            List<IGDBRawGame> games = postIGDBAllPages("/games", query, new TypeReference<>() {
+            });
+            for (IGDBRawGame game : games) {
+                result.put(game.getId(), game.getGenres() == null ? List.of() : game.getGenres().stream()
+                        .map(IGDBRawGame.Genre::getName)
+                        .filter(Objects::nonNull)
+                        .toList());
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Run a query a page at a time (stable id order) until IGDB returns a short page
+     */
+    private <T> List<T> postIGDBAllPages(String endpoint, String query, TypeReference<List<T>> type) {
+        List<T> rows = new ArrayList<>();
+        for (int page = 0; page < IGDB_MAX_PAGES; page++) {
+            List<T> pageRows = postIGDB(endpoint, String.format("%s sort id asc; limit %d; offset %d;",
+                    query, IGDB_BATCH_SIZE, page * IGDB_BATCH_SIZE), type);
+            rows.addAll(pageRows);
+            if (pageRows.size() < IGDB_BATCH_SIZE) {
+                return rows;
             }
+        }
+        throw new IllegalStateException("IGDB " + endpoint + " query did not finish within " + IGDB_MAX_PAGES + " pages");
+    }
+
+    /**
+     * POST an Apicalypse query to an IGDB endpoint under the IGDB request budget
+     */
+    private <T> List<T> postIGDB(String endpoint, String body, TypeReference<List<T>> type) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Client-ID", config.getIgdbClientId());
+        headers.set("Authorization", "Bearer " + accessToken);
+        headers.setContentType(MediaType.TEXT_PLAIN);
+
+        rateLimiter.acquire();
+        ResponseEntity<String> response = restTemplate.exchange(
+                IGDB_API_URL + endpoint,
+                HttpMethod.POST,
+                new HttpEntity<>(body, headers),
+                String.class
+        );
 
+        if (response.getBody() == null) {
             return new ArrayList<>();
+        }
+
+        try {
+            return objectMapper.readValue(response.getBody(), type);
+        } catch (Exception e) {
+            throw new IllegalStateException("Unreadable IGDB response from " + endpoint, e);
+        }
+    }
+
+    /**
+     * Execute IGDB API request
+     */
+    private List<IGDBGameDto> executeIGDBRequest(String body) {
+        try {
+            List<IGDBRawGame> rawGames = postIGDB("/games", body, new TypeReference<>() {
+            });
+
+            List<IGDBGameDto> games = rawGames.stream()
+                    .map(this::convertToDto)
+                    .collect(Collectors.toList());
+            if (!games.isEmpty()) {
+                eventPublisher.publishEvent(new IgdbGamesFetchedEvent(List.copyOf(games)));
+            }
+            return games;
         } catch (Exception e) {
             log.error("IGDB API request failed: {}", e.getMessage());
             return new ArrayList<>();
@@ -336,6 +465,29 @@ public class IGDBService {
         private String steamAppId;
     }
 
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SteamGenreMatch {
+        private String steamAppId;
+        private Long igdbId;
+        private List<String> genres;
+    }
+
+    /**
+     * Steam uid -> IGDB game id matches, plus every uid that was actually looked up
+     */
+    public record SteamAppResolution(Map<String, Long> igdbIds, Set<String> answered) {
+    }
+
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private static class IGDBRawExternalGame {
+        private Long game;
+        private String uid;
+    }
+
     @Data
     @JsonIgnoreProperties(ignoreUnknown = true)
     private static class IGDBRawGame {
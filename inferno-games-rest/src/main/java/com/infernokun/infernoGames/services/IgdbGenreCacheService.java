@@ -0,0 +1,220 @@
+package com.infernokun.infernoGames.services;
+
+import com.infernokun.infernoGames.config.InfernoGamesConfig;
+import com.infernokun.infernoGames.events.IgdbGenresChangedEvent;
+import com.infernokun.infernoGames.models.IgdbGenreCacheEntry;
+import com.infernokun.infernoGames.repositories.IgdbGenreCacheRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Durable Steam appId -> IGDB genres cache backed by the igdb_genre_cache table.
+ * Every replica reads from an in-process copy that is loaded on startup and kept current
+ * by pulling rows written since the last sync, so lookups never leave the JVM.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IgdbGenreCacheService {
+
+    // Bump when the Steam -> IGDB resolution changes so older entries get re-enriched
+    public static final int CACHE_VERSION = 2;
+
+    // Overlap for the incremental pull, so rows written by a replica with a slightly behind clock aren't missed
+    private static final Duration SYNC_OVERLAP = Duration.ofMinutes(1);
+
+    private final IgdbGenreCacheRepository repository;
+    private final InfernoGamesConfig config;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // In-process copy of live entries (appId -> entry)
+    private final Map<String, IgdbGenreCacheEntry> entries = new ConcurrentHashMap<>();
+    private volatile LocalDateTime lastSyncedAt;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    /**
+     * Replace the in-process copy with every live entry in the store
+     */
+    public void reload() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            Map<String, IgdbGenreCacheEntry> fresh = new HashMap<>();
+            repository.findByCacheVersionAndExpiresAtAfter(CACHE_VERSION, now)
+                    .forEach(entry -> fresh.put(entry.getSteamAppId(), entry));
+
+            entries.keySet().retainAll(fresh.keySet());
+            entries.putAll(fresh);
+            lastSyncedAt = now;
+            eventPublisher.publishEvent(new IgdbGenresChangedEvent(Set.of(), true));
+            log.info("Loaded {} IGDB genre cache entries", entries.size());
+        } catch (Exception e) {
+            log.warn("Failed to load IGDB genre cache: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Pull entries other replicas wrote since the last sync and drop expired ones
+     */
+    @Scheduled(fixedDelayString = "PT1M", initialDelayString = "PT1M")
+    public void syncFromStore() {
+        if (lastSyncedAt == null) {
+            reload();
+            return;
+        }
+
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            List<IgdbGenreCacheEntry> changed = repository.findByFetchedAtAfter(lastSyncedAt.minus(SYNC_OVERLAP));
+
+            Set<String> changedAppIds = new HashSet<>();
+            for (IgdbGenreCacheEntry entry : changed) {
+                if (entry.isLive(CACHE_VERSION, now)) {
+                    entries.put(entry.getSteamAppId(), entry);
+                    changedAppIds.add(entry.getSteamAppId());
+                }
+            }
+            entries.entrySet().removeIf(entry -> {
+                boolean expired = !entry.getValue().isLive(CACHE_VERSION, now);
+                if (expired) {
+                    changedAppIds.add(entry.getKey());
+                }
+                return expired;
+            });
+
+            // Rows can only disappear through clear() on some replica - resync fully when that happens
+            if (repository.count() < entries.size()) {
+                reload();
+                return;
+            }
+
+            lastSyncedAt = now;
+            if (!changedAppIds.isEmpty()) {
+                eventPublisher.publishEvent(new IgdbGenresChangedEvent(changedAppIds, false));
+                log.debug("Synced {} IGDB genre cache entries from store", changedAppIds.size());
+            }
+        } catch (Exception e) {
+            log.warn("Failed to sync IGDB genre cache: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Delete expired and outdated-version rows
+     */
+    @Scheduled(fixedRateString = "PT24H", initialDelayString = "PT1H")
+    public void purgeStale() {
+        int removed = repository.deleteStale(LocalDateTime.now(), CACHE_VERSION);
+        if (removed > 0) {
+            log.info("Purged {} stale IGDB genre cache entries", removed);
+        }
+    }
+
+    /**
+     * True when the app has a live entry, positive or negative
+     */
+    public boolean contains(String steamAppId) {
+        IgdbGenreCacheEntry entry = entries.get(steamAppId);
+        return entry != null && entry.isLive(CACHE_VERSION, LocalDateTime.now());
+    }
+
+    /**
+     * Cached genres for an app; an empty list for negative entries, empty optional when unknown
+     */
+    public Optional<List<String>> getGenres(String steamAppId) {
+        IgdbGenreCacheEntry entry = entries.get(steamAppId);
+        if (entry == null || !entry.isLive(CACHE_VERSION, LocalDateTime.now())) {
+            return Optional.empty();
+        }
+        return Optional.of(entry.isNegative() ? List.of() : entry.getGenres());
+    }
+
+    /**
+     * All positive entries (appId -> genres)
+     */
+    public Map<String, List<String>> getAllGenres() {
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, List<String>> result = new HashMap<>();
+        entries.forEach((appId, entry) -> {
+            if (!entry.isNegative() && entry.isLive(CACHE_VERSION, now)) {
+                result.put(appId, new ArrayList<>(entry.getGenres()));
+            }
+        });
+        return result;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Record resolved genres for an app. An empty genre list is stored as a negative entry.
+     */
+    public void put(String steamAppId, Long igdbId, List<String> genres) {
+        putAll(List.of(buildEntry(steamAppId, igdbId, genres)));
+    }
+
+    /**
+     * Record that IGDB has no genres for an app
+     */
+    public void putNegative(String steamAppId) {
+        putAll(List.of(buildEntry(steamAppId, null, List.of())));
+    }
+
+    /**
+     * Write several entries in one round trip
+     */
+    public void putAll(Collection<IgdbGenreCacheEntry> newEntries) {
+        if (newEntries.isEmpty()) {
+            return;
+        }
+        repository.saveAll(newEntries);
+        newEntries.forEach(entry -> entries.put(entry.getSteamAppId(), entry));
+        eventPublisher.publishEvent(new IgdbGenresChangedEvent(newEntries.stream()
+                .map(IgdbGenreCacheEntry::getSteamAppId)
+                .collect(Collectors.toSet()), false));
+    }
+
+    /**
+     * Build an entry with the TTL for its kind and the current cache version
+     */
+    public IgdbGenreCacheEntry buildEntry(String steamAppId, Long igdbId, List<String> genres) {
+        boolean negative = genres == null || genres.isEmpty();
+        LocalDateTime now = LocalDateTime.now();
+
+        return IgdbGenreCacheEntry.builder()
+                .steamAppId(steamAppId)
+                .igdbId(igdbId)
+                .genres(negative ? new ArrayList<>() : new ArrayList<>(genres))
+                .negative(negative)
+                .cacheVersion(CACHE_VERSION)
+                .fetchedAt(now)
+                .expiresAt(now.plus(negative ?
+                        config.getIgdbGenreNegativeCacheTtl() :
+                        config.getIgdbGenreCacheTtl()))
+                .build();
+    }
+
+    /**
+     * Drop every entry, locally and in the shared store
+     */
+    public void clear() {
+        repository.deleteAllInBatch();
+        entries.clear();
+        eventPublisher.publishEvent(new IgdbGenresChangedEvent(Set.of(), true));
+        log.info("Cleared IGDB genre cache");
+    }
+}
@@ -0,0 +1,279 @@
+package com.infernokun.infernoGames.services;
+
+import com.infernokun.infernoGames.config.InfernoGamesConfig;
+import com.infernokun.infernoGames.services.IGDBService.IGDBGameDto;
+import com.infernokun.infernoGames.utils.CoalescingCache;
+import com.infernokun.infernoGames.utils.InfernoGamesUtils;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keystroke-friendly IGDB search. Queries are normalized, each IGDB call fetches a wide result set
+ * keyed by its normalized prefix, and longer queries are answered by filtering the longest cached
+ * prefix whose set is complete (IGDB returned fewer rows than asked for). IGDB ranks by relevance,
+ * so a truncated set says nothing about what a longer query would return. Calls that do need IGDB
+ * wait out a short debounce and are dropped when the same client has typed again meanwhile; when
+ * the lookup pool is saturated they answer empty and degraded instead of failing.
+ */
+@Slf4j
+@Service
+public class IgdbTypeaheadService {
+
+    public static final int DEFAULT_LIMIT = 10;
+    public static final int MAX_LIMIT = 20;
+
+    // Fetch wider than a suggestion list so later keystrokes can be served by filtering
+    private static final int FETCH_LIMIT = 50;
+    private static final int MIN_QUERY_LENGTH = 2;
+    private static final int MAX_CACHED_PREFIXES = 2_000;
+
+    // Failed or empty IGDB answers are only trusted briefly
+    private static final Duration NEGATIVE_TTL = Duration.ofMinutes(1);
+
+    private static final int MAX_TRACKED_CLIENTS = 10_000;
+    private static final Duration CLIENT_IDLE_TTL = Duration.ofMinutes(10);
+
+    private final IGDBService igdbService;
+    private final Executor executor;
+    private final Duration debounce;
+    private final CoalescingCache<String, PrefixResult> prefixCache;
+
+    // Latest request per client (clientId -> ticket); older tickets are superseded
+    private final Map<String, ClientTicket> latestByClient = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    public IgdbTypeaheadService(IGDBService igdbService,
+                                InfernoGamesConfig config,
+                                @Qualifier("typeaheadExecutor") Executor executor) {
+        this.igdbService = igdbService;
+        this.executor = executor;
+        this.debounce = config.getIgdbTypeaheadDebounce();
+        this.prefixCache = new CoalescingCache<>(this::fetch,
+                config.getIgdbTypeaheadCacheTtl(), NEGATIVE_TTL, MAX_CACHED_PREFIXES);
+    }
+
+    /**
+     * Suggestions for a partially typed query. Cache-answerable queries complete immediately;
+     * the rest are debounced per client and resolve as superseded if a newer keystroke arrives first.
+     */
+    public CompletableFuture<TypeaheadResponse> suggest(String query, String clientId, Integer limit) {
+        String normalized = InfernoGamesUtils.normalizeSearchQuery(query);
+        int size = limit == null ? DEFAULT_LIMIT : Math.clamp(limit, 1, MAX_LIMIT);
+
+        if (normalized.length() < MIN_QUERY_LENGTH) {
+            return CompletableFuture.completedFuture(response(normalized, List.of(), true, false));
+        }
+
+        Optional<List<IGDBGameDto>> cached = fromCache(normalized, size);
+        if (cached.isPresent()) {
+            supersede(clientId);
+            return CompletableFuture.completedFuture(response(normalized, cached.get(), true, false));
+        }
+
+        long ticket = supersede(clientId);
+        CompletableFuture<TypeaheadResponse> future = new CompletableFuture<>();
+
+        // The delayer hands the lookup to the bounded pool; a rejection there would otherwise be
+        // swallowed on the delayer thread and leave the request hanging
+        Executor delayed = CompletableFuture.delayedExecutor(debounce.toMillis(), TimeUnit.MILLISECONDS, task -> {
+            try {
+                executor.execute(task);
+            } catch (RejectedExecutionException e) {
+                log.debug("Typeahead pool saturated, answering '{}' without IGDB", normalized);
+                future.complete(TypeaheadResponse.builder()
+                        .query(normalized)
+                        .results(List.of())
+                        .degraded(true)
+                        .build());
+            }
+        });
+
+        delayed.execute(() -> {
+            try {
+                future.complete(lookup(normalized, size, clientId, ticket));
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    private TypeaheadResponse lookup(String normalized, int size, String clientId, long ticket) {
+        if (isSuperseded(clientId, ticket)) {
+            return response(normalized, List.of(), false, true);
+        }
+
+        // A shorter prefix may have landed while this request waited out the debounce
+        Optional<List<IGDBGameDto>> late = fromCache(normalized, size);
+        if (late.isPresent()) {
+            return response(normalized, late.get(), true, false);
+        }
+
+        List<IGDBGameDto> results = prefixCache.get(normalized)
+                .map(result -> result.top(size))
+                .orElse(List.of());
+        return response(normalized, results, false, isSuperseded(clientId, ticket));
+    }
+
+    /**
+     * Answer from the exact query or the longest cached prefix whose result set is complete
+     */
+    private Optional<List<IGDBGameDto>> fromCache(String normalized, int size) {
+        for (int end = normalized.length(); end >= MIN_QUERY_LENGTH; end--) {
+            if (normalized.charAt(end - 1) == ' ') {
+                continue;
+            }
+
+            String prefix = normalized.substring(0, end);
+            if (!prefixCache.contains(prefix)) {
+                continue;
+            }
+
+            Optional<PrefixResult> hit = prefixCache.getIfPresent(prefix);
+            if (end == normalized.length()) {
+                return Optional.of(hit.map(result -> result.top(size)).orElse(List.of()));
+            }
+            // An empty answer may have been a failed call, and a truncated one may have cut off
+            // matches of the longer query - neither is extended
+            if (hit.isPresent() && hit.get().complete()) {
+                return Optional.of(hit.get().matching(normalized, size));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Drop clients that have gone quiet
+     */
+    @Scheduled(fixedDelayString = "PT5M", initialDelayString = "PT5M")
+    public void purgeIdleClients() {
+        long cutoff = System.currentTimeMillis() - CLIENT_IDLE_TTL.toMillis();
+        latestByClient.values().removeIf(ticket -> ticket.issuedAt() < cutoff);
+    }
+
+    public int cachedPrefixCount() {
+        return prefixCache.size();
+    }
+
+    private Optional<PrefixResult> fetch(String normalized) {
+        List<IGDBGameDto> games = igdbService.searchGames(normalized, FETCH_LIMIT);
+        log.debug("IGDB typeahead fetch for '{}' returned {} games", normalized, games.size());
+
+        if (games.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(PrefixResult.of(games, games.size() < FETCH_LIMIT));
+    }
+
+    /**
+     * Issue a new ticket for the client, superseding any request it still has waiting
+     */
+    private long supersede(String clientId) {
+        long ticket = sequence.incrementAndGet();
+        if (clientId == null || clientId.isBlank()) {
+            return ticket;
+        }
+        if (latestByClient.size() >= MAX_TRACKED_CLIENTS && !latestByClient.containsKey(clientId)) {
+            return ticket;
+        }
+
+        latestByClient.put(clientId, new ClientTicket(ticket, System.currentTimeMillis()));
+        return ticket;
+    }
+
+    private boolean isSuperseded(String clientId, long ticket) {
+        if (clientId == null || clientId.isBlank()) {
+            return false;
+        }
+        ClientTicket latest = latestByClient.get(clientId);
+        return latest != null && latest.ticket() != ticket;
+    }
+
+    private static TypeaheadResponse response(String query, List<IGDBGameDto> results, boolean cached, boolean superseded) {
+        return TypeaheadResponse.builder()
+                .query(query)
+                .results(results)
+                .cached(cached)
+                .superseded(superseded)
+                .build();
+    }
+
+    // ─── Internal State ─────────────────────────────────────────────────────────
+
+    private record ClientTicket(long ticket, long issuedAt) {
+    }
+
+    private record Candidate(IGDBGameDto game, List<String> nameTokens) {
+
+        /**
+         * Every query token must start some token of the game's name
+         */
+        boolean matches(String[] queryTokens) {
+            for (String queryToken : queryTokens) {
+                if (nameTokens.stream().noneMatch(token -> token.startsWith(queryToken))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * IGDB results for one normalized prefix. Complete when IGDB returned fewer rows than asked for,
+     * i.e. nothing matching the prefix was cut off.
+     */
+    private record PrefixResult(List<Candidate> candidates, boolean complete) {
+
+        static PrefixResult of(List<IGDBGameDto> games, boolean complete) {
+            return new PrefixResult(games.stream()
+                    .map(game -> new Candidate(game, Arrays.asList(
+                            InfernoGamesUtils.normalizeSearchQuery(game.getName()).split(" "))))
+                    .toList(), complete);
+        }
+
+        List<IGDBGameDto> top(int size) {
+            return candidates.stream().limit(size).map(Candidate::game).toList();
+        }
+
+        List<IGDBGameDto> matching(String normalized, int size) {
+            String[] queryTokens = normalized.split(" ");
+            return candidates.stream()
+                    .filter(candidate -> candidate.matches(queryTokens))
+                    .limit(size)
+                    .map(Candidate::game)
+                    .toList();
+        }
+    }
+
+    // ─── DTOs ───────────────────────────────────────────────────────────────────
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TypeaheadResponse {
+        private String query;
+        private List<IGDBGameDto> results;
+        private boolean cached;
+        private boolean superseded;
+        private boolean degraded;     // The lookup pool was saturated, so IGDB wasn't asked
+    }
+}
@@ -0,0 +1,484 @@
+package com.infernokun.infernoGames.services;
+
+import com.infernokun.infernoGames.events.BacklogGameChangedEvent;
+import com.infernokun.infernoGames.events.IgdbGamesFetchedEvent;
+import com.infernokun.infernoGames.events.SteamLibraryChangedEvent;
+import com.infernokun.infernoGames.models.dto.GameSearchRow;
+import com.infernokun.infernoGames.models.enums.SearchSource;
+import com.infernokun.infernoGames.repositories.GameRepository;
+import com.infernokun.infernoGames.services.IGDBService.IGDBGameDto;
+import com.infernokun.infernoGames.services.SteamService.SteamGameInfo;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * In-memory inverted index over backlog games, owned Steam apps and IGDB games fetched by this
+ * instance. Tokens are accent-folded and lower-cased; queries match exactly, by prefix, or within
+ * a small edit distance found through a trigram index. Kept current from change events, so a
+ * search never touches the database or the network.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchIndexService {
+
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+
+    // IGDB documents are only what passed through this instance - keep the most recent ones
+    private static final int MAX_IGDB_DOCUMENTS = 5000;
+
+    // Match quality per query token; a document's score is the sum over query tokens times field weight
+    private static final double EXACT_MATCH = 1.0;
+    private static final double PREFIX_MATCH = 0.7;
+    private static final double FUZZY_MATCH = 0.45;
+    private static final float TITLE_WEIGHT = 1.0f;
+    private static final float DETAIL_WEIGHT = 0.4f;
+
+    private static final int MAX_PREFIX_EXPANSION = 200;
+    private static final int MIN_FUZZY_LENGTH = 4;
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final GameRepository gameRepository;
+    private final SteamService steamService;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Index state, guarded by lock
+    private final Map<String, SearchDocument> documents = new HashMap<>();
+    private final TreeMap<String, Map<String, Float>> postings = new TreeMap<>();   // token -> (doc key -> field weight)
+    private final Map<String, Set<String>> trigrams = new HashMap<>();              // trigram -> tokens
+    private final LinkedHashSet<String> igdbDocuments = new LinkedHashSet<>();       // insertion order for eviction
+
+    /**
+     * Index the backlog and the Steam library once; afterwards only change events update it.
+     * The backlog is read under the write lock, so a change event committed meanwhile waits
+     * and is applied on top of the snapshot instead of being overwritten by it.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            List<GameSearchRow> backlog = gameRepository.findAllSearchRows();
+
+            // IGDB documents can't be reloaded from anywhere, so keep them
+            documents.keySet().stream()
+                    .filter(key -> !igdbDocuments.contains(key))
+                    .toList()
+                    .forEach(this::remove);
+
+            backlog.forEach(game -> put(backlogDocument(game.id(), game.title(), game.developer(),
+                    game.publisher(), game.coverImageUrl(), game.genres())));
+            steamService.peekOwnedGames().forEach(game -> put(steamDocument(game)));
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("Built search index: {} documents, {} tokens", documents.size(), postings.size());
+    }
+
+    // ─── Change Events ──────────────────────────────────────────────────────────
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBacklogGameChanged(BacklogGameChangedEvent event) {
+        if (event.gameId() == null) {
+            return;
+        }
+        SearchDocument document = event.removed() ? null : backlogDocument(event.gameId(), event.title(),
+                event.developer(), event.publisher(), event.coverImageUrl(), event.genres());
+
+        lock.writeLock().lock();
+        try {
+            remove(key(SearchSource.BACKLOG, String.valueOf(event.gameId())));
+            if (document != null) {
+                put(document);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @EventListener
+    public void onSteamLibraryChanged(SteamLibraryChangedEvent event) {
+        Map<String, Optional<SteamGameInfo>> changed = new HashMap<>();
+        event.appIds().forEach(appId -> changed.put(appId, steamService.peekOwnedGame(appId)));
+
+        lock.writeLock().lock();
+        try {
+            changed.forEach((appId, game) -> {
+                remove(key(SearchSource.STEAM, appId));
+                game.ifPresent(steamGame -> put(steamDocument(steamGame)));
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @EventListener
+    public void onIgdbGamesFetched(IgdbGamesFetchedEvent event) {
+        lock.writeLock().lock();
+        try {
+            for (IGDBGameDto game : event.games()) {
+                if (game.getIgdbId() == null || game.getName() == null) {
+                    continue;
+                }
+                String key = key(SearchSource.IGDB, String.valueOf(game.getIgdbId()));
+                remove(key);
+                put(igdbDocument(game));
+                igdbDocuments.add(key);
+            }
+
+            Iterator<String> oldest = igdbDocuments.iterator();
+            while (igdbDocuments.size() > MAX_IGDB_DOCUMENTS && oldest.hasNext()) {
+                String key = oldest.next();
+                oldest.remove();
+                remove(key);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ─── Search ─────────────────────────────────────────────────────────────────
+
+    /**
+     * Ranked search across sources. Every query token has to match a document, exactly, as a
+     * prefix or within the edit distance allowed for its length.
+     *
+     * @param sources sources to return; facets always count all of them
+     */
+    public SearchResponse search(String query, Set<SearchSource> sources, int limit) {
+        long started = System.nanoTime();
+        List<String> queryTokens = tokenize(query).stream().distinct().toList();
+        if (queryTokens.isEmpty()) {
+            throw new IllegalArgumentException("Search query must contain letters or digits");
+        }
+        int maxResults = Math.clamp(limit, 1, MAX_LIMIT);
+        String normalizedQuery = String.join(" ", queryTokens);
+
+        List<SearchResult> matches = new ArrayList<>();
+        Map<SearchSource, Integer> facets = new EnumMap<>(SearchSource.class);
+        Arrays.stream(SearchSource.values()).forEach(source -> facets.put(source, 0));
+
+        lock.readLock().lock();
+        try {
+            Map<String, Double> scores = null;
+            for (String token : queryTokens) {
+                Map<String, Double> tokenScores = scoreToken(token);
+                if (scores == null) {
+                    scores = tokenScores;
+                } else {
+                    scores.keySet().retainAll(tokenScores.keySet());
+                    for (Map.Entry<String, Double> entry : scores.entrySet()) {
+                        entry.setValue(entry.getValue() + tokenScores.get(entry.getKey()));
+                    }
+                }
+                if (scores.isEmpty()) {
+                    break;
+                }
+            }
+
+            for (Map.Entry<String, Double> entry : scores.entrySet()) {
+                SearchDocument document = documents.get(entry.getKey());
+                facets.merge(document.source(), 1, Integer::sum);
+                if (sources != null && !sources.isEmpty() && !sources.contains(document.source())) {
+                    continue;
+                }
+                matches.add(SearchResult.builder()
+                        .source(document.source())
+                        .id(document.id())
+                        .title(document.title())
+                        .subtitle(document.subtitle())
+                        .imageUrl(document.imageUrl())
+                        .score(entry.getValue() + titleBonus(document, normalizedQuery))
+                        .build());
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        int total = matches.size();
+        List<SearchResult> results = matches.stream()
+                .sorted(Comparator.comparingDouble(SearchResult::getScore).reversed()
+                        .thenComparing(SearchResult::getTitle, String.CASE_INSENSITIVE_ORDER))
+                .limit(maxResults)
+                .toList();
+
+        return SearchResponse.builder()
+                .results(results)
+                .facets(facets)
+                .totalCount(total)
+                .tookMicros((System.nanoTime() - started) / 1000)
+                .build();
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Best match quality of one query token per document, already weighted by field
+     */
+    private Map<String, Double> scoreToken(String token) {
+        Map<String, Double> scores = new HashMap<>();
+
+        addPostings(scores, token, EXACT_MATCH);
+
+        int expanded = 0;
+        for (String candidate : postings.subMap(token, false, token + Character.MAX_VALUE, false).keySet()) {
+            if (++expanded > MAX_PREFIX_EXPANSION) {
+                break;
+            }
+            addPostings(scores, candidate, PREFIX_MATCH);
+        }
+
+        if (token.length() >= MIN_FUZZY_LENGTH) {
+            int maxEdits = token.length() >= 8 ? 2 : 1;
+            for (String candidate : fuzzyCandidates(token)) {
+                int distance = editDistance(token, candidate, maxEdits);
+                if (distance > 0 && distance <= maxEdits) {
+                    addPostings(scores, candidate, FUZZY_MATCH / distance);
+                }
+            }
+        }
+        return scores;
+    }
+
+    private void addPostings(Map<String, Double> scores, String token, double quality) {
+        Map<String, Float> docs = postings.get(token);
+        if (docs != null) {
+            docs.forEach((key, weight) -> scores.merge(key, quality * weight, Math::max));
+        }
+    }
+
+    /**
+     * Indexed tokens sharing enough trigrams with the query token to be within a few edits
+     */
+    private Set<String> fuzzyCandidates(String token) {
+        Map<String, Integer> shared = new HashMap<>();
+        for (String trigram : trigramsOf(token)) {
+            Set<String> tokens = trigrams.get(trigram);
+            if (tokens != null) {
+                tokens.forEach(candidate -> shared.merge(candidate, 1, Integer::sum));
+            }
+        }
+
+        int required = Math.max(1, trigramsOf(token).size() / 3);
+        return shared.entrySet().stream()
+                .filter(entry -> entry.getValue() >= required)
+                .filter(entry -> Math.abs(entry.getKey().length() - token.length()) <= 2)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toSet());
+    }
+
+    private double titleBonus(SearchDocument document, String normalizedQuery) {
+        if (document.normalizedTitle().equals(normalizedQuery)) {
+            return 2.0;
+        }
+        return document.normalizedTitle().startsWith(normalizedQuery) ? 1.0 : 0.0;
+    }
+
+    // ─── Index Maintenance ──────────────────────────────────────────────────────
+
+    private void put(SearchDocument document) {
+        documents.put(document.key(), document);
+        document.tokenWeights().forEach((token, weight) -> {
+            Map<String, Float> docs = postings.computeIfAbsent(token, t -> {
+                addTrigrams(t);
+                return new HashMap<>();
+            });
+            docs.put(document.key(), weight);
+        });
+    }
+
+    private void remove(String key) {
+        SearchDocument document = documents.remove(key);
+        if (document == null) {
+            return;
+        }
+        igdbDocuments.remove(key);
+        for (String token : document.tokenWeights().keySet()) {
+            Map<String, Float> docs = postings.get(token);
+            if (docs != null) {
+                docs.remove(key);
+                if (docs.isEmpty()) {
+                    postings.remove(token);
+                    removeTrigrams(token);
+                }
+            }
+        }
+    }
+
+    private void addTrigrams(String token) {
+        trigramsOf(token).forEach(trigram -> trigrams.computeIfAbsent(trigram, t -> new HashSet<>()).add(token));
+    }
+
+    private void removeTrigrams(String token) {
+        for (String trigram : trigramsOf(token)) {
+            Set<String> tokens = trigrams.get(trigram);
+            if (tokens != null) {
+                tokens.remove(token);
+                if (tokens.isEmpty()) {
+                    trigrams.remove(trigram);
+                }
+            }
+        }
+    }
+
+    // ─── Documents ──────────────────────────────────────────────────────────────
+
+    private SearchDocument backlogDocument(Long id, String title, String developer, String publisher,
+                                           String coverImageUrl, List<String> genres) {
+        return document(SearchSource.BACKLOG, String.valueOf(id), title, developer, coverImageUrl,
+                Stream.concat(Stream.of(developer, publisher), Stream.ofNullable(genres).flatMap(List::stream))
+                        .toList());
+    }
+
+    private SearchDocument steamDocument(SteamGameInfo game) {
+        return document(SearchSource.STEAM, game.getAppId(), game.getName(),
+                String.format("%.1f hours played", game.getPlaytimeForeverHours()), null, game.getGenres());
+    }
+
+    private SearchDocument igdbDocument(IGDBGameDto game) {
+        List<String> details = new ArrayList<>(Arrays.asList(game.getDeveloper(), game.getPublisher()));
+        if (game.getGenres() != null) {
+            details.addAll(game.getGenres());
+        }
+        String subtitle = game.getReleaseYear() != null ? String.valueOf(game.getReleaseYear()) : game.getDeveloper();
+        return document(SearchSource.IGDB, String.valueOf(game.getIgdbId()), game.getName(), subtitle,
+                game.getCoverUrl(), details);
+    }
+
+    private SearchDocument document(SearchSource source, String id, String title, String subtitle,
+                                    String imageUrl, List<String> details) {
+        Map<String, Float> weights = new HashMap<>();
+        if (details != null) {
+            details.stream()
+                    .filter(Objects::nonNull)
+                    .flatMap(detail -> tokenize(detail).stream())
+                    .forEach(token -> weights.put(token, DETAIL_WEIGHT));
+        }
+        List<String> titleTokens = tokenize(title);
+        titleTokens.forEach(token -> weights.put(token, TITLE_WEIGHT));
+
+        String displayTitle = title != null ? title : "";
+        return new SearchDocument(key(source, id), source, id, displayTitle, subtitle, imageUrl,
+                String.join(" ", titleTokens), Map.copyOf(weights));
+    }
+
+    private static String key(SearchSource source, String id) {
+        return source.name() + ":" + id;
+    }
+
+    // ─── Text ───────────────────────────────────────────────────────────────────
+
+    /**
+     * Accent-fold, lower-case and split on anything that isn't a letter or digit
+     */
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String folded = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return Arrays.stream(NON_ALPHANUMERIC.split(folded.toLowerCase(Locale.ROOT)))
+                .filter(token -> !token.isEmpty())
+                .toList();
+    }
+
+    private static List<String> trigramsOf(String token) {
+        String padded = "$" + token + "$";
+        List<String> result = new ArrayList<>(padded.length());
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            result.add(padded.substring(i, i + 3));
+        }
+        return result;
+    }
+
+    /**
+     * Edit distance counting adjacent transpositions as one edit (optimal string alignment).
+     * Returns maxEdits + 1 as soon as the result can no longer be within the bound.
+     */
+    private static int editDistance(String a, String b, int maxEdits) {
+        int[] beforePrevious = new int[b.length() + 1];
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        int previousMin = 0;
+
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    current[j] = Math.min(current[j], beforePrevious[j - 2] + 1);
+                }
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            // A transposition reaches back two rows, so both must be out of range to stop early
+            if (rowMin > maxEdits && previousMin > maxEdits) {
+                return maxEdits + 1;
+            }
+            previousMin = rowMin;
+
+            int[] recycled = beforePrevious;
+            beforePrevious = previous;
+            previous = current;
+            current = recycled;
+        }
+        return previous[b.length()];
+    }
+
+    private record SearchDocument(String key, SearchSource source, String id, String title, String subtitle,
+                                  String imageUrl, String normalizedTitle, Map<String, Float> tokenWeights) {
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SearchResult {
+        private SearchSource source;
+        private String id;
+        private String title;
+        private String subtitle;
+        private String imageUrl;
+        private double score;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SearchResponse {
+        private List<SearchResult> results;
+        private Map<SearchSource, Integer> facets;     // Matches per source before the source filter
+        private int totalCount;                         // Matches within the requested sources
+        private long tookMicros;
+    }
+}
@@ -0,0 +1,266 @@
+package com.infernokun.infernoGames.services;
+
+import com.infernokun.infernoGames.config.InfernoGamesConfig;
+import com.infernokun.infernoGames.models.dto.AchievementSyncTarget;
+import com.infernokun.infernoGames.repositories.GameRepository;
+import com.infernokun.infernoGames.services.SteamService.SteamAchievementProgress;
+import com.infernokun.infernoGames.services.SteamService.SteamGameInfo;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Fills Game.achievements / totalAchievements from the Steam user stats API.
+ * Apps are fetched in parallel on the steamSyncExecutor under SteamService's shared rate limit,
+ * skipped when they haven't been played since the last sync, and written back in JDBC batches.
+ * At most steamSyncConcurrency - 1 fetches are in flight, so library reconciles and polls sharing
+ * that pool always find a free worker instead of queueing behind the whole pass.
+ */
+@Slf4j
+@Service
+public class SteamAchievementSyncService {
+
+    private static final int BATCH_SIZE = 100;
+
+    private final SteamService steamService;
+    private final GameRepository gameRepository;
+    private final GameService gameService;
+    private final JdbcTemplate jdbcTemplate;
+    private final GameEntityCache gameEntityCache;
+    private final InfernoGamesConfig config;
+    private final Executor steamSyncExecutor;
+
+    private final AtomicBoolean syncInProgress = new AtomicBoolean(false);
+
+    public SteamAchievementSyncService(SteamService steamService,
+                                       GameRepository gameRepository,
+                                       GameService gameService,
+                                       JdbcTemplate jdbcTemplate,
+                                       GameEntityCache gameEntityCache,
+                                       InfernoGamesConfig config,
+                                       @Qualifier("steamSyncExecutor") Executor steamSyncExecutor) {
+        this.steamService = steamService;
+        this.gameRepository = gameRepository;
+        this.gameService = gameService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.gameEntityCache = gameEntityCache;
+        this.config = config;
+        this.steamSyncExecutor = steamSyncExecutor;
+    }
+
+    @Scheduled(fixedRateString = "PT12H", initialDelayString = "PT10M")
+    public void scheduledAchievementSync() {
+        if (!steamService.isConfigured()) {
+            log.debug("Steam achievements sync skipped - API not configured");
+            return;
+        }
+        syncAchievements(false);
+    }
+
+    /**
+     * Run one achievements pass over all backlog games linked to a Steam app
+     *
+     * @param force re-fetch every app, ignoring the last-played skip check
+     */
+    public AchievementSyncResult syncAchievements(boolean force) {
+        if (!syncInProgress.compareAndSet(false, true)) {
+            log.debug("Steam achievements sync already in progress, skipping");
+            return AchievementSyncResult.builder().alreadyRunning(true).build();
+        }
+
+        long start = System.currentTimeMillis();
+
+        try {
+            Map<String, SteamGameInfo> owned = steamService.getOwnedGames().stream()
+                    .collect(Collectors.toMap(SteamGameInfo::getAppId, Function.identity(), (a, b) -> a));
+
+            Map<String, Map<String, SteamGameInfo>> ownedByAccount = new HashMap<>();
+            for (String steamId : steamService.getLinkedSteamIds()) {
+                ownedByAccount.put(steamId, steamService.getOwnedGames(steamId).stream()
+                        .collect(Collectors.toMap(SteamGameInfo::getAppId, Function.identity(), (a, b) -> a)));
+            }
+
+            Map<AchievementSyncTarget, String> targets = new LinkedHashMap<>();
+            int skipped = 0;
+
+            for (AchievementSyncTarget target : gameRepository.findAchievementSyncTargets()) {
+                SteamGameInfo steamGame = owned.get(target.steamAppId());
+                Optional<String> owner = steamGame != null ?
+                        resolveOwner(steamGame, ownedByAccount) : Optional.empty();
+
+                if (owner.isEmpty()) {
+                    skipped++;
+                } else if (!force && isUpToDate(target, steamGame)) {
+                    skipped++;
+                } else {
+                    targets.put(target, owner.get());
+                }
+            }
+
+            log.info("Starting Steam achievements sync for {} games ({} skipped)", targets.size(), skipped);
+
+            // Sliding window: the next app is only submitted once an earlier fetch has finished
+            Semaphore inFlight = new Semaphore(Math.max(1, config.getSteamSyncConcurrency() - 1));
+            List<CompletableFuture<Optional<FetchedProgress>>> futures = new ArrayList<>(targets.size());
+            for (Map.Entry<AchievementSyncTarget, String> entry : targets.entrySet()) {
+                try {
+                    inFlight.acquire();
+                } catch (InterruptedException e) {
+                    // Shutting down - apps not submitted are counted as failed and retried next run
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                futures.add(CompletableFuture
+                        .supplyAsync(() -> fetch(entry.getKey(), entry.getValue()), steamSyncExecutor)
+                        .whenComplete((progress, ex) -> inFlight.release()));
+            }
+
+            List<FetchedProgress> fetched = futures.stream()
+                    .map(CompletableFuture::join)
+                    .flatMap(Optional::stream)
+                    .toList();
+
+            int failed = targets.size() - fetched.size();
+            int notModified = (int) fetched.stream().filter(f -> f.progress().isNotModified()).count();
+            int unavailable = (int) fetched.stream().filter(f -> f.progress().isUnavailable()).count();
+
+            int updated = writeResults(fetched.stream().filter(f -> !f.progress().isUnavailable()).toList());
+            if (updated > 0) {
+                gameService.clearAllCaches();
+            }
+
+            AchievementSyncResult result = AchievementSyncResult.builder()
+                    .fetched(fetched.size())
+                    .skipped(skipped)
+                    .notModified(notModified)
+                    .unavailable(unavailable)
+                    .failed(failed)
+                    .updated(updated)
+                    .durationMs(System.currentTimeMillis() - start)
+                    .build();
+
+            log.info("Steam achievements sync completed: {}", result);
+            return result;
+        } finally {
+            syncInProgress.set(false);
+        }
+    }
+
+    public boolean isSyncInProgress() {
+        return syncInProgress.get();
+    }
+
+    /**
+     * An app only needs a re-fetch if it was played after its achievements were last synced
+     */
+    private boolean isUpToDate(AchievementSyncTarget target, SteamGameInfo steamGame) {
+        if (target.steamAchievementsSynced() == null) {
+            return false;
+        }
+        LocalDateTime lastPlayed = steamGame.getLastPlayedDateTime() != null ?
+                steamGame.getLastPlayedDateTime() : target.steamLastPlayed();
+        return lastPlayed == null || target.steamAchievementsSynced().isAfter(lastPlayed);
+    }
+
+    /**
+     * Achievements are per account; read them from the owner with visible stats and the most playtime,
+     * which keeps the choice (and so the stored ETag) stable between runs
+     */
+    private Optional<String> resolveOwner(SteamGameInfo steamGame,
+                                          Map<String, Map<String, SteamGameInfo>> ownedByAccount) {
+        return steamGame.getOwnerSteamIds().stream()
+                .filter(steamId -> {
+                    SteamGameInfo game = ownedByAccount.getOrDefault(steamId, Map.of()).get(steamGame.getAppId());
+                    return game != null && game.isHasCommunityVisibleStats();
+                })
+                .max(Comparator.comparingInt(steamId ->
+                        ownedByAccount.get(steamId).get(steamGame.getAppId()).getPlaytimeForever()));
+    }
+
+    private Optional<FetchedProgress> fetch(AchievementSyncTarget target, String steamId) {
+        SteamAchievementProgress progress = steamService.getAchievementProgress(
+                steamId, target.steamAppId(), target.steamAchievementsEtag());
+        return progress.isFailed() ? Optional.empty() : Optional.of(new FetchedProgress(target.id(), progress));
+    }
+
+    /**
+     * Write fetched progress in JDBC batches. Not-modified apps only get their sync timestamp bumped;
+     * apps whose stats were unavailable never get here, so they keep their counts and are retried next run.
+     * Only the progress statement bumps the row version (and with it the ETags); a touch changes nothing
+     * a client sees.
+     */
+    private int writeResults(List<FetchedProgress> fetched) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        List<Object[]> progressRows = new ArrayList<>();
+        List<Object[]> touchRows = new ArrayList<>();
+
+        for (FetchedProgress f : fetched) {
+            if (f.progress().isNotModified()) {
+                touchRows.add(new Object[]{now, f.gameId()});
+            } else {
+                progressRows.add(new Object[]{
+                        f.progress().getUnlocked(), f.progress().getTotal(), f.progress().getEtag(), now, f.gameId()
+                });
+            }
+        }
+
+        for (int i = 0; i < progressRows.size(); i += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(
+                    "UPDATE games SET achievements = ?, total_achievements = ?, " +
+                            "steam_achievements_etag = ?, steam_achievements_synced = ?, version = version + 1 WHERE id = ?",
+                    progressRows.subList(i, Math.min(i + BATCH_SIZE, progressRows.size())));
+        }
+
+        for (int i = 0; i < touchRows.size(); i += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(
+                    "UPDATE games SET steam_achievements_synced = ? WHERE id = ?",
+                    touchRows.subList(i, Math.min(i + BATCH_SIZE, touchRows.size())));
+        }
+
+        // The batches bypass Hibernate, so its cached copies of these games are now stale
+        gameEntityCache.evict(fetched.stream().map(FetchedProgress::gameId).toList());
+
+        return progressRows.size();
+    }
+
+    private record FetchedProgress(Long gameId, SteamAchievementProgress progress) {
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class AchievementSyncResult {
+        private int fetched;
+        private int skipped;
+        private int notModified;
+        private int unavailable;
+        private int failed;
+        private int updated;
+        private long durationMs;
+        private boolean alreadyRunning;
+    }
+}
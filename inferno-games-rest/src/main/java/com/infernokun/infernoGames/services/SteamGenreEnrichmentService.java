@@ -0,0 +1,391 @@
+package com.infernokun.infernoGames.services;
+
+import com.infernokun.infernoGames.config.InfernoGamesConfig;
+import com.infernokun.infernoGames.models.GenreEnrichmentRun;
+import com.infernokun.infernoGames.models.IgdbGenreCacheEntry;
+import com.infernokun.infernoGames.models.enums.EnrichmentRunStatus;
+import com.infernokun.infernoGames.repositories.GameRepository;
+import com.infernokun.infernoGames.repositories.GenreEnrichmentRunRepository;
+import com.infernokun.infernoGames.services.IGDBService.SteamAppResolution;
+import com.infernokun.infernoGames.services.SteamService.SteamGameInfo;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Staged Steam genre enrichment: select -> resolve -> fetch -> persist.
+ * Apps are split into batches whose stages run on a bounded worker pool, so one batch's
+ * external_games lookup overlaps another's genre fetch and the IGDB rate budget stays busy.
+ * Each persisted batch is durable in the genre cache and checkpointed on the run row;
+ * progress is pushed to SSE subscribers.
+ */
+@Slf4j
+@Service
+public class SteamGenreEnrichmentService {
+
+    private static final long SSE_TIMEOUT_MS = 30 * 60 * 1000; // 30 minutes
+
+    private final SteamService steamService;
+    private final IGDBService igdbService;
+    private final IgdbGenreCacheService igdbGenreCacheService;
+    private final GameRepository gameRepository;
+    private final GenreEnrichmentRunRepository runRepository;
+    private final InfernoGamesConfig config;
+    private final Executor genreEnrichmentExecutor;
+    private final Executor taskExecutor;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicBoolean cancelRequested = new AtomicBoolean(false);
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+
+    // Live counters of the current run
+    private volatile GenreEnrichmentRun currentRun;
+    private final AtomicInteger selected = new AtomicInteger();
+    private final AtomicInteger resolved = new AtomicInteger();
+    private final AtomicInteger fetched = new AtomicInteger();
+    private final AtomicInteger persisted = new AtomicInteger();
+    private final AtomicInteger enriched = new AtomicInteger();
+    private final AtomicInteger failedBatches = new AtomicInteger();
+
+    public SteamGenreEnrichmentService(SteamService steamService,
+                                       IGDBService igdbService,
+                                       IgdbGenreCacheService igdbGenreCacheService,
+                                       GameRepository gameRepository,
+                                       GenreEnrichmentRunRepository runRepository,
+                                       InfernoGamesConfig config,
+                                       @Qualifier("genreEnrichmentExecutor") Executor genreEnrichmentExecutor,
+                                       @Qualifier("taskExecutor") Executor taskExecutor) {
+        this.steamService = steamService;
+        this.igdbService = igdbService;
+        this.igdbGenreCacheService = igdbGenreCacheService;
+        this.gameRepository = gameRepository;
+        this.runRepository = runRepository;
+        this.config = config;
+        this.genreEnrichmentExecutor = genreEnrichmentExecutor;
+        this.taskExecutor = taskExecutor;
+    }
+
+    /**
+     * Resume a run that was still RUNNING when the application stopped
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedRun() {
+        runRepository.findFirstByStatusOrderByStartedAtDesc(EnrichmentRunStatus.RUNNING).ifPresent(run -> {
+            log.info("Resuming interrupted genre enrichment run {} ({}/{} apps persisted)",
+                    run.getId(), run.getPersistedApps(), run.getTotalApps());
+            run.setResumeCount(run.getResumeCount() + 1);
+            start(run);
+        });
+    }
+
+    /**
+     * Start a new enrichment run in the background
+     *
+     * @return false if a run is already in progress
+     */
+    public boolean startEnrichment() {
+        return start(null);
+    }
+
+    /**
+     * Ask the running pipeline to stop. Batches already in a stage finish; queued ones are skipped.
+     */
+    public boolean cancelEnrichment() {
+        if (!running.get()) {
+            return false;
+        }
+        cancelRequested.set(true);
+        log.info("Genre enrichment cancellation requested");
+        return true;
+    }
+
+    public boolean isEnrichmentInProgress() {
+        return running.get();
+    }
+
+    /**
+     * Subscribe to progress events of the current and following runs
+     */
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(SSE_TIMEOUT_MS);
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(() -> emitters.remove(emitter));
+        emitter.onError(e -> emitters.remove(emitter));
+        emitters.add(emitter);
+
+        send(emitter, getProgress());
+        return emitter;
+    }
+
+    /**
+     * Snapshot of the current run, or the last finished one
+     */
+    public EnrichmentProgress getProgress() {
+        GenreEnrichmentRun run = currentRun;
+        if (run == null) {
+            return runRepository.findFirstByOrderByStartedAtDesc()
+                    .map(last -> EnrichmentProgress.builder()
+                            .runId(last.getId())
+                            .status(last.getStatus())
+                            .totalApps(last.getTotalApps())
+                            .persistedApps(last.getPersistedApps())
+                            .enrichedApps(last.getEnrichedApps())
+                            .failedBatches(last.getFailedBatches())
+                            .cachedGenreCount(igdbGenreCacheService.size())
+                            .build())
+                    .orElseGet(() -> EnrichmentProgress.builder()
+                            .cachedGenreCount(igdbGenreCacheService.size())
+                            .build());
+        }
+
+        return EnrichmentProgress.builder()
+                .runId(run.getId())
+                .status(run.getStatus())
+                .totalApps(run.getTotalApps())
+                .selectedApps(selected.get())
+                .resolvedApps(resolved.get())
+                .fetchedApps(fetched.get())
+                .persistedApps(persisted.get())
+                .enrichedApps(enriched.get())
+                .failedBatches(failedBatches.get())
+                .cancelRequested(cancelRequested.get())
+                .cachedGenreCount(igdbGenreCacheService.size())
+                .build();
+    }
+
+    private boolean start(GenreEnrichmentRun resumed) {
+        if (!running.compareAndSet(false, true)) {
+            log.debug("Genre enrichment already in progress, skipping");
+            return false;
+        }
+
+        cancelRequested.set(false);
+
+        try {
+            // The coordinator waits on the batches, so it must not occupy one of the pipeline workers
+            CompletableFuture.runAsync(() -> runPipeline(resumed), taskExecutor)
+                    .whenComplete((ignored, ex) -> {
+                        if (ex != null) {
+                            log.error("Genre enrichment run failed: {}", ex.getMessage());
+                        }
+                        running.set(false);
+                        currentRun = null;
+                    });
+            return true;
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+    }
+
+    private void runPipeline(GenreEnrichmentRun resumed) {
+        // ─── Stage 1: select ─────────────────────────────────────────────────────
+        List<String> appIds = selectAppsNeedingLookup();
+
+        GenreEnrichmentRun run = resumed != null ? resumed : GenreEnrichmentRun.builder()
+                .status(EnrichmentRunStatus.RUNNING)
+                .startedAt(LocalDateTime.now())
+                .build();
+        if (resumed == null) {
+            run.setTotalApps(appIds.size());
+        }
+        run.setUpdatedAt(LocalDateTime.now());
+        currentRun = runRepository.save(run);
+
+        selected.set(appIds.size());
+        resolved.set(0);
+        fetched.set(0);
+        persisted.set(run.getPersistedApps());
+        enriched.set(run.getEnrichedApps());
+        failedBatches.set(run.getFailedBatches());
+        broadcast();
+
+        if (appIds.isEmpty()) {
+            log.debug("No games need IGDB genre enrichment");
+            finish(EnrichmentRunStatus.COMPLETED, null);
+            return;
+        }
+
+        log.info("Starting genre enrichment run {} for {} games", currentRun.getId(), appIds.size());
+
+        int batchSize = Math.max(1, config.getIgdbEnrichmentBatchSize());
+        List<CompletableFuture<Void>> batches = new ArrayList<>();
+
+        for (int i = 0; i < appIds.size(); i += batchSize) {
+            List<String> batch = List.copyOf(appIds.subList(i, Math.min(i + batchSize, appIds.size())));
+
+            batches.add(CompletableFuture
+                    .supplyAsync(() -> resolveStage(batch), genreEnrichmentExecutor)
+                    .thenApplyAsync(this::fetchStage, genreEnrichmentExecutor)
+                    .thenAcceptAsync(this::persistStage, genreEnrichmentExecutor)
+                    .exceptionally(ex -> {
+                        Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+                        if (!(cause instanceof CancellationException)) {
+                            // The batch stays uncached, so the next run (or a resume) picks it up again
+                            failedBatches.incrementAndGet();
+                            currentRun.setLastError(cause.getMessage());
+                            log.warn("Genre enrichment batch failed: {}", cause.getMessage());
+                            broadcast();
+                        }
+                        return null;
+                    }));
+        }
+
+        CompletableFuture.allOf(batches.toArray(CompletableFuture[]::new)).join();
+
+        EnrichmentRunStatus status = cancelRequested.get() ? EnrichmentRunStatus.CANCELLED :
+                failedBatches.get() > 0 && persisted.get() == 0 ? EnrichmentRunStatus.FAILED :
+                        EnrichmentRunStatus.COMPLETED;
+        finish(status, currentRun.getLastError());
+
+        log.info("Genre enrichment run {} {}: {}/{} games enriched, {} failed batches",
+                currentRun.getId(), status, enriched.get(), persisted.get(), failedBatches.get());
+    }
+
+    /**
+     * Owned apps that are neither in the backlog (they have their own genres) nor cached yet
+     */
+    private List<String> selectAppsNeedingLookup() {
+        Set<String> backlogAppIds = new HashSet<>();
+        gameRepository.findAllWithSteamAppId().forEach(game -> backlogAppIds.add(game.getSteamAppId()));
+
+        return steamService.getOwnedGames().stream()
+                .map(SteamGameInfo::getAppId)
+                .filter(appId -> !backlogAppIds.contains(appId))
+                .filter(appId -> !igdbGenreCacheService.contains(appId))
+                .sorted()
+                .toList();
+    }
+
+    // ─── Stage 2: resolve Steam uid -> IGDB id ─────────────────────────────────
+
+    private BatchState resolveStage(List<String> appIds) {
+        checkCancelled();
+        SteamAppResolution resolution = igdbService.resolveSteamAppIds(appIds);
+        resolved.addAndGet(appIds.size());
+        broadcast();
+        return new BatchState(appIds, resolution.answered(), resolution.igdbIds(), Map.of());
+    }
+
+    // ─── Stage 3: fetch genres by IGDB id ──────────────────────────────────────
+
+    private BatchState fetchStage(BatchState state) {
+        checkCancelled();
+        Map<Long, List<String>> genres = igdbService.getGenresByIds(new HashSet<>(state.igdbIds().values()));
+        fetched.addAndGet(state.appIds().size());
+        broadcast();
+        return new BatchState(state.appIds(), state.answered(), state.igdbIds(), genres);
+    }
+
+    // ─── Stage 4: persist to the genre cache and checkpoint ────────────────────
+
+    private void persistStage(BatchState state) {
+        // A batch that got this far is written even if cancellation arrived meanwhile
+        List<IgdbGenreCacheEntry> entries = new ArrayList<>();
+        int batchEnriched = 0;
+
+        for (String appId : state.appIds()) {
+            Long igdbId = state.igdbIds().get(appId);
+            // Only cache what IGDB actually answered; the rest stays uncached and is retried next run
+            if (!state.answered().contains(appId) || (igdbId != null && !state.genres().containsKey(igdbId))) {
+                continue;
+            }
+            List<String> genres = igdbId != null ? state.genres().get(igdbId) : List.of();
+            entries.add(igdbGenreCacheService.buildEntry(appId, igdbId, genres));
+            if (!genres.isEmpty()) {
+                batchEnriched++;
+            }
+        }
+
+        igdbGenreCacheService.putAll(entries);
+        persisted.addAndGet(entries.size());
+        enriched.addAndGet(batchEnriched);
+        checkpoint();
+        broadcast();
+    }
+
+    private void checkCancelled() {
+        if (cancelRequested.get()) {
+            throw new CancellationException();
+        }
+    }
+
+    private synchronized void checkpoint() {
+        GenreEnrichmentRun run = currentRun;
+        run.setPersistedApps(persisted.get());
+        run.setEnrichedApps(enriched.get());
+        run.setFailedBatches(failedBatches.get());
+        run.setUpdatedAt(LocalDateTime.now());
+        currentRun = runRepository.save(run);
+    }
+
+    private synchronized void finish(EnrichmentRunStatus status, String lastError) {
+        GenreEnrichmentRun run = currentRun;
+        run.setStatus(status);
+        run.setLastError(lastError);
+        run.setPersistedApps(persisted.get());
+        run.setEnrichedApps(enriched.get());
+        run.setFailedBatches(failedBatches.get());
+        run.setUpdatedAt(LocalDateTime.now());
+        run.setFinishedAt(LocalDateTime.now());
+        currentRun = runRepository.save(run);
+        broadcast();
+    }
+
+    private void broadcast() {
+        EnrichmentProgress progress = getProgress();
+        emitters.forEach(emitter -> send(emitter, progress));
+    }
+
+    private void send(SseEmitter emitter, EnrichmentProgress progress) {
+        try {
+            emitter.send(SseEmitter.event().name("progress").data(progress));
+        } catch (IOException | IllegalStateException e) {
+            emitters.remove(emitter);
+        }
+    }
+
+    private record BatchState(List<String> appIds, Set<String> answered, Map<String, Long> igdbIds,
+                              Map<Long, List<String>> genres) {
+    }
+
+    private static class CancellationException extends RuntimeException {
+        CancellationException() {
+            super("Genre enrichment cancelled", null, false, false);
+        }
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class EnrichmentProgress {
+        private Long runId;
+        private EnrichmentRunStatus status;
+        private int totalApps;
+        private int selectedApps;
+        private int resolvedApps;
+        private int fetchedApps;
+        private int persistedApps;
+        private int enrichedApps;
+        private int failedBatches;
+        private boolean cancelRequested;
+        private int cachedGenreCount;
+    }
+}
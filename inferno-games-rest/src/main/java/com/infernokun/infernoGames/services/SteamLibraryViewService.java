@@ -0,0 +1,399 @@
+package com.infernokun.infernoGames.services;
+
+import com.infernokun.infernoGames.events.BacklogGameChangedEvent;
+import com.infernokun.infernoGames.events.IgdbGenresChangedEvent;
+import com.infernokun.infernoGames.events.SteamLibraryChangedEvent;
+import com.infernokun.infernoGames.models.Game;
+import com.infernokun.infernoGames.models.enums.SteamLibrarySort;
+import com.infernokun.infernoGames.models.enums.SteamOs;
+import com.infernokun.infernoGames.repositories.GameRepository;
+import com.infernokun.infernoGames.services.SteamService.SteamGameInfo;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Materialized "Steam library ⨝ backlog ⨝ genres" view.
+ * The join is kept per app and only the apps named by a change event are re-joined.
+ * Readers get an immutable snapshot that is republished lazily after changes, so serving
+ * the library never touches the database. Each snapshot carries one precomputed ordering per
+ * sort key, which paged reads walk from a keyset cursor.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SteamLibraryViewService {
+
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 200;
+
+    // Distinct filters whose totals are remembered per snapshot
+    private static final int MAX_CACHED_COUNTS = 256;
+
+    private final SteamService steamService;
+    private final IgdbGenreCacheService igdbGenreCacheService;
+    private final GameRepository gameRepository;
+
+    // Join state, guarded by this
+    private final Map<String, SteamGameInfo> joined = new HashMap<>();
+    private final Map<String, TreeMap<Long, List<String>>> backlogByAppId = new HashMap<>();
+    private final Map<Long, String> appIdByGameId = new HashMap<>();
+    private volatile boolean dirty = true;
+    private long version = 0;
+
+    private volatile SteamLibraryView published =
+            new SteamLibraryView(List.of(), Map.of(), 0, null, new ConcurrentHashMap<>());
+
+    /**
+     * Build the full join once; afterwards only change events update it
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        backlogByAppId.clear();
+        appIdByGameId.clear();
+        for (Game game : gameRepository.findAllWithSteamAppId()) {
+            putBacklogGame(game.getId(), game.getSteamAppId(), game.getGenres());
+        }
+
+        joined.clear();
+        steamService.peekOwnedGames().forEach(game -> rejoin(game.getAppId()));
+        dirty = true;
+
+        log.info("Built Steam library view: {} games, {} linked to the backlog", joined.size(), backlogByAppId.size());
+    }
+
+    /**
+     * Current immutable snapshot of the joined library, sorted by name
+     */
+    public SteamLibraryView getView() {
+        SteamLibraryView view = published;
+        if (!dirty) {
+            return view;
+        }
+
+        synchronized (this) {
+            if (dirty) {
+                Map<SteamLibrarySort, List<SteamGameInfo>> orderings = new EnumMap<>(SteamLibrarySort.class);
+                for (SteamLibrarySort sort : SteamLibrarySort.values()) {
+                    List<SteamGameInfo> ordering = new ArrayList<>(joined.values());
+                    ordering.sort(comparator(sort));
+                    orderings.put(sort, Collections.unmodifiableList(ordering));
+                }
+                published = new SteamLibraryView(orderings.get(SteamLibrarySort.NAME),
+                        Collections.unmodifiableMap(orderings), ++version, LocalDateTime.now(),
+                        new ConcurrentHashMap<>());
+                dirty = false;
+            }
+            return published;
+        }
+    }
+
+    public List<SteamGameInfo> getLibrary() {
+        return getView().games();
+    }
+
+    // ─── Paging ─────────────────────────────────────────────────────────────────
+
+    /**
+     * One page of the joined library in the requested order, optionally filtered.
+     * Cursors carry the last returned item's sort key rather than an offset, so they stay
+     * valid when the snapshot is republished between pages. The total is counted once per
+     * snapshot and filter, so following pages only walk their own items.
+     */
+    public SteamLibraryPage getPage(SteamLibraryQuery query) {
+        SteamLibrarySort sort = query.getSort() != null ? query.getSort() : SteamLibrarySort.NAME;
+        Sort.Direction direction = query.getDirection() != null ? query.getDirection() : defaultDirection(sort);
+        int limit = Math.clamp(query.getLimit(), 1, MAX_PAGE_SIZE);
+
+        SteamLibraryFilter filter = SteamLibraryFilter.of(query);
+        SteamLibraryView view = getView();
+        List<SteamGameInfo> ordering = view.orderings().get(sort);
+        int step = direction.isAscending() ? 1 : -1;
+        int index = query.getCursor() != null ?
+                cursorStart(ordering, sort, direction, query.getCursor()) :
+                (direction.isAscending() ? 0 : ordering.size() - 1);
+
+        List<SteamGameInfo> items = new ArrayList<>(limit);
+        for (; index >= 0 && index < ordering.size() && items.size() < limit; index += step) {
+            SteamGameInfo game = ordering.get(index);
+            if (filter.matches(game)) {
+                items.add(game);
+            }
+        }
+
+        boolean hasMore = false;
+        for (; index >= 0 && index < ordering.size() && !hasMore; index += step) {
+            hasMore = filter.matches(ordering.get(index));
+        }
+
+        return SteamLibraryPage.builder()
+                .items(items)
+                .nextCursor(hasMore ? encodeCursor(sort, direction, items.getLast()) : null)
+                .totalCount(totalCount(view, filter))
+                .sort(sort)
+                .direction(direction)
+                .viewVersion(view.version())
+                .build();
+    }
+
+    private int totalCount(SteamLibraryView view, SteamLibraryFilter filter) {
+        Integer cached = view.totalCounts().get(filter);
+        if (cached != null) {
+            return cached;
+        }
+
+        int count = (int) view.games().stream().filter(filter::matches).count();
+        if (view.totalCounts().size() < MAX_CACHED_COUNTS) {
+            view.totalCounts().put(filter, count);
+        }
+        return count;
+    }
+
+    /**
+     * Ascending order for a sort key; ties are broken by appId so every ordering is total
+     */
+    private Comparator<SteamGameInfo> comparator(SteamLibrarySort sort) {
+        Comparator<SteamGameInfo> key = switch (sort) {
+            case NAME -> Comparator.comparing(SteamLibraryViewService::nameKey, String.CASE_INSENSITIVE_ORDER);
+            case PLAYTIME -> Comparator.comparingInt(SteamGameInfo::getPlaytimeForever);
+            case LAST_PLAYED -> Comparator.comparingLong(SteamGameInfo::getRtimeLastPlayed);
+        };
+        return key.thenComparing(SteamGameInfo::getAppId);
+    }
+
+    private Sort.Direction defaultDirection(SteamLibrarySort sort) {
+        return sort == SteamLibrarySort.NAME ? Sort.Direction.ASC : Sort.Direction.DESC;
+    }
+
+    private static String nameKey(SteamGameInfo game) {
+        return game.getName() != null ? game.getName() : "";
+    }
+
+    // ─── Cursors ────────────────────────────────────────────────────────────────
+
+    private String encodeCursor(SteamLibrarySort sort, Sort.Direction direction, SteamGameInfo last) {
+        String value = switch (sort) {
+            case NAME -> nameKey(last);
+            case PLAYTIME -> String.valueOf(last.getPlaytimeForever());
+            case LAST_PLAYED -> String.valueOf(last.getRtimeLastPlayed());
+        };
+        String raw = String.join("|", sort.name(), direction.name(), last.getAppId(), value);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Index of the first item after the cursor position, found by binary search in the ordering
+     */
+    private int cursorStart(List<SteamGameInfo> ordering, SteamLibrarySort sort, Sort.Direction direction, String cursor) {
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|", 4);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid Steam library cursor");
+        }
+        if (parts.length != 4 || !parts[0].equals(sort.name()) || !parts[1].equals(direction.name())) {
+            throw new IllegalArgumentException("Steam library cursor does not match the requested sort");
+        }
+
+        SteamGameInfo.SteamGameInfoBuilder probe = SteamGameInfo.builder().appId(parts[2]);
+        try {
+            switch (sort) {
+                case NAME -> probe.name(parts[3]);
+                case PLAYTIME -> probe.playtimeForever(Integer.parseInt(parts[3]));
+                case LAST_PLAYED -> probe.rtimeLastPlayed(Long.parseLong(parts[3]));
+            }
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid Steam library cursor");
+        }
+
+        int found = Collections.binarySearch(ordering, probe.build(), comparator(sort));
+        if (found >= 0) {
+            return direction.isAscending() ? found + 1 : found - 1;
+        }
+        int insertionPoint = -found - 1;
+        return direction.isAscending() ? insertionPoint : insertionPoint - 1;
+    }
+
+    // ─── Change Events ──────────────────────────────────────────────────────────
+
+    @EventListener
+    public synchronized void onSteamLibraryChanged(SteamLibraryChangedEvent event) {
+        event.appIds().forEach(this::rejoin);
+    }
+
+    @EventListener
+    public synchronized void onGenresChanged(IgdbGenresChangedEvent event) {
+        if (event.reset()) {
+            new ArrayList<>(joined.keySet()).forEach(this::rejoin);
+        } else {
+            event.steamAppIds().forEach(this::rejoin);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onBacklogGameChanged(BacklogGameChangedEvent event) {
+        String previousAppId = removeBacklogGame(event.gameId());
+
+        if (!event.removed()) {
+            putBacklogGame(event.gameId(), event.steamAppId(), event.genres());
+        }
+
+        if (previousAppId != null) {
+            rejoin(previousAppId);
+        }
+        if (event.steamAppId() != null && !event.steamAppId().equals(previousAppId)) {
+            rejoin(event.steamAppId());
+        }
+    }
+
+    // ─── Join ───────────────────────────────────────────────────────────────────
+
+    private void putBacklogGame(Long gameId, String steamAppId, List<String> genres) {
+        if (gameId == null || steamAppId == null || steamAppId.isEmpty()) {
+            return;
+        }
+        backlogByAppId.computeIfAbsent(steamAppId, id -> new TreeMap<>())
+                .put(gameId, genres != null ? List.copyOf(genres) : List.of());
+        appIdByGameId.put(gameId, steamAppId);
+    }
+
+    private String removeBacklogGame(Long gameId) {
+        String appId = appIdByGameId.remove(gameId);
+        if (appId != null) {
+            TreeMap<Long, List<String>> games = backlogByAppId.get(appId);
+            games.remove(gameId);
+            if (games.isEmpty()) {
+                backlogByAppId.remove(appId);
+            }
+        }
+        return appId;
+    }
+
+    /**
+     * Recompute one app's joined entry. Backlog genres win (the oldest linked game when several
+     * share an app id); otherwise genres come from the IGDB cache.
+     */
+    private void rejoin(String appId) {
+        Optional<SteamGameInfo> steamGame = steamService.peekOwnedGame(appId);
+        if (steamGame.isEmpty()) {
+            if (joined.remove(appId) != null) {
+                dirty = true;
+            }
+            return;
+        }
+
+        SteamGameInfo source = steamGame.get();
+        SteamGameInfo entry = source.toBuilder()
+                .ownerSteamIds(List.copyOf(source.getOwnerSteamIds()))
+                .genres(List.of())
+                .inBacklog(false)
+                .backlogGameId(null)
+                .build();
+
+        TreeMap<Long, List<String>> backlogGames = backlogByAppId.get(appId);
+        if (backlogGames != null) {
+            Map.Entry<Long, List<String>> backlogGame = backlogGames.firstEntry();
+            entry.setInBacklog(true);
+            entry.setBacklogGameId(backlogGame.getKey());
+            entry.setGenres(backlogGame.getValue());
+        } else {
+            igdbGenreCacheService.getGenres(appId).ifPresent(genres -> entry.setGenres(List.copyOf(genres)));
+        }
+
+        joined.put(appId, entry);
+        dirty = true;
+    }
+
+    /**
+     * Immutable published snapshot; entries are owned by the view and must not be modified.
+     * games is the NAME ordering; orderings holds every sort key in ascending order;
+     * totalCounts memoizes page totals per filter for this snapshot only.
+     */
+    public record SteamLibraryView(List<SteamGameInfo> games,
+                                   Map<SteamLibrarySort, List<SteamGameInfo>> orderings,
+                                   long version,
+                                   LocalDateTime builtAt,
+                                   Map<SteamLibraryFilter, Integer> totalCounts) {
+    }
+
+    /**
+     * The filtering part of a query; sort, direction, cursor and limit don't change the total
+     */
+    public record SteamLibraryFilter(Boolean played, Boolean inBacklog, String genre, SteamOs os, String steamId) {
+
+        static SteamLibraryFilter of(SteamLibraryQuery query) {
+            String genre = query.getGenre() == null || query.getGenre().isBlank() ? null :
+                    query.getGenre().toLowerCase(Locale.ROOT);
+            return new SteamLibraryFilter(query.getPlayed(), query.getInBacklog(), genre, query.getOs(),
+                    query.getSteamId());
+        }
+
+        boolean matches(SteamGameInfo game) {
+            if (played != null && played != (game.getPlaytimeForever() > 0)) {
+                return false;
+            }
+            if (inBacklog != null && inBacklog != game.isInBacklog()) {
+                return false;
+            }
+            if (steamId != null && !game.getOwnerSteamIds().contains(steamId)) {
+                return false;
+            }
+            if (os != null && osPlaytime(game, os) <= 0) {
+                return false;
+            }
+            return genre == null || game.getGenres().stream().anyMatch(name -> name.equalsIgnoreCase(genre));
+        }
+
+        private static int osPlaytime(SteamGameInfo game, SteamOs os) {
+            return switch (os) {
+                case WINDOWS -> game.getPlaytimeWindowsForever();
+                case MAC -> game.getPlaytimeMacForever();
+                case LINUX -> game.getPlaytimeLinuxForever();
+                case DECK -> game.getPlaytimeDeckForever();
+            };
+        }
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SteamLibraryQuery {
+        private SteamLibrarySort sort;
+        private Sort.Direction direction;
+        private Boolean played;
+        private Boolean inBacklog;
+        private String genre;
+        private SteamOs os;
+        private String steamId;
+        private String cursor;
+        @Builder.Default
+        private int limit = DEFAULT_PAGE_SIZE;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SteamLibraryPage {
+        private List<SteamGameInfo> items;
+        private String nextCursor;
+        private int totalCount;
+        private SteamLibrarySort sort;
+        private Sort.Direction direction;
+        private long viewVersion;
+    }
+}
@@ -1,27 +1,60 @@
 package com.infernokun.infernoGames.services;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.infernokun.infernoGames.config.InfernoGamesConfig;
+import com.infernokun.infernoGames.config.InfernoGamesConfig.SteamAccount;
+import com.infernokun.infernoGames.events.SteamLibraryChangedEvent;
+import com.infernokun.infernoGames.models.SteamLibrarySnapshot;
+import com.infernokun.infernoGames.models.enums.SteamLibraryState;
+import com.infernokun.infernoGames.repositories.SteamLibrarySnapshotRepository;
+import com.infernokun.infernoGames.utils.CoalescingCache;
+import com.infernokun.infernoGames.utils.RateLimiter;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
-import jakarta.annotation.PostConstruct;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
+/**
+ * Steam Web API access for one or more linked accounts.
+ * Each account owns a library partition (games, snapshot, load state); the household
+ * "union library" is kept up to date incrementally from per-account diffs.
+ */
 @Slf4j
 @Service
 public class SteamService {
@@ -29,36 +62,145 @@ public class SteamService {
     private static final String STEAM_API_URL = "https://api.steampowered.com";
     private static final String PLAYER_SERVICE = "/IPlayerService";
     private static final String STEAM_USER_SERVICE = "/ISteamUser";
+    private static final String STEAM_USER_STATS_SERVICE = "/ISteamUserStats";
     private static final String STORE_API_URL = "https://store.steampowered.com/api";
 
     private final InfernoGamesConfig config;
+    private final SteamLibrarySnapshotRepository snapshotRepository;
+    private final Executor taskExecutor;
+    private final Executor steamSyncExecutor;
+    private final Executor storeWarmupExecutor;
+    private final ApplicationEventPublisher eventPublisher;
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
+    private final RateLimiter rateLimiter;
 
-    // Cache of owned games for quick lookup (appId -> SteamGameInfo)
-    private final Map<String, SteamGameInfo> ownedGamesCache = new ConcurrentHashMap<>();
-    private volatile boolean cacheInitialized = false;
-    private volatile long cacheLastUpdated = 0;
+    // Store appdetails for non-owned apps (appId -> info), including negative entries for invalid ids
+    private final CoalescingCache<String, SteamGameInfo> storeCache;
+    private final RateLimiter storeRateLimiter;
+
+    // Apps taken per warm-up request (~14 minutes of store budget) and those queued but not yet loaded
+    static final int MAX_WARMUP_APPS = 500;
+    private final Set<String> warmupQueued = ConcurrentHashMap.newKeySet();
+
+    // One library partition per linked account (steamId -> library), primary account first
+    private final Map<String, SteamLibrary> libraries;
     private static final long CACHE_TTL_MS = 30 * 60 * 1000; // 30 minutes
 
-    public SteamService(InfernoGamesConfig config) {
+    // Merged view across accounts (appId -> merged info), only touched for apps that changed
+    private final Map<String, SteamGameInfo> unionLibrary = new ConcurrentHashMap<>();
+    private final Object unionLock = new Object();
+
+    public SteamService(InfernoGamesConfig config,
+                        SteamLibrarySnapshotRepository snapshotRepository,
+                        @Qualifier("taskExecutor") Executor taskExecutor,
+                        @Qualifier("steamSyncExecutor") Executor steamSyncExecutor,
+                        @Qualifier("storeWarmupExecutor") Executor storeWarmupExecutor,
+                        ApplicationEventPublisher eventPublisher) {
         this.config = config;
-        this.restTemplate = new RestTemplate();
-        this.objectMapper = new ObjectMapper();
+        this.snapshotRepository = snapshotRepository;
+        this.taskExecutor = taskExecutor;
+        this.steamSyncExecutor = steamSyncExecutor;
+        this.storeWarmupExecutor = storeWarmupExecutor;
+        this.eventPublisher = eventPublisher;
+
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(config.getSteamConnectTimeout());
+        requestFactory.setReadTimeout(config.getSteamReadTimeout());
+        this.restTemplate = new RestTemplate(requestFactory);
+
+        this.objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        this.rateLimiter = new RateLimiter(config.getSteamRequestsPerSecond());
+
+        this.storeRateLimiter = new RateLimiter(config.getSteamStoreRequestsPerSecond());
+        this.storeCache = new CoalescingCache<>(this::fetchStoreAppDetails,
+                config.getSteamStoreCacheTtl(),
+                config.getSteamStoreNegativeCacheTtl(),
+                config.getSteamStoreCacheMaxSize());
+
+        this.libraries = Collections.unmodifiableMap(buildLibraries(config));
     }
 
-    @PostConstruct
-    public void init() {
-        // Initialize the owned games cache on startup
-        if (isConfigured()) {
-            try {
-                refreshOwnedGamesCache();
-                log.info("Steam service initialized with {} owned games", ownedGamesCache.size());
-            } catch (Exception e) {
-                log.warn("Failed to initialize Steam owned games cache: {}", e.getMessage());
+    /**
+     * Primary account from steamClientId, then any extra linked accounts (duplicates ignored)
+     */
+    private static Map<String, SteamLibrary> buildLibraries(InfernoGamesConfig config) {
+        Map<String, SteamLibrary> result = new LinkedHashMap<>();
+
+        if (config.getSteamClientId() != null && !config.getSteamClientId().isEmpty()) {
+            result.put(config.getSteamClientId(), new SteamLibrary(config.getSteamClientId(), "primary"));
+        }
+
+        for (SteamAccount account : config.getSteamAccounts()) {
+            if (account.getSteamId() == null || account.getSteamId().isEmpty()) {
+                continue;
             }
-        } else {
+            String name = account.getName() != null ? account.getName() : account.getSteamId();
+            result.putIfAbsent(account.getSteamId(), new SteamLibrary(account.getSteamId(), name));
+        }
+
+        return result;
+    }
+
+    /**
+     * GET a Steam Web API url under the shared request budget
+     */
+    private ResponseEntity<String> steamGet(String url) {
+        rateLimiter.acquire();
+        return restTemplate.getForEntity(url, String.class);
+    }
+
+    /**
+     * Serve the last persisted libraries right away and load the live ones in the background,
+     * so application startup never waits on the Steam API
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!isConfigured()) {
+            libraries.values().forEach(library -> library.state = SteamLibraryState.NOT_CONFIGURED);
             log.warn("Steam API not configured - missing clientId or clientSecret");
+            return;
+        }
+
+        libraries.values().forEach(this::loadSnapshot);
+
+        long budgetMs = config.getSteamStartupBudget().toMillis();
+        List<FutureTask<Void>> loads = libraries.values().stream()
+                .map(library -> new FutureTask<Void>(() -> refreshLibrary(library), null))
+                .toList();
+        loads.forEach(steamSyncExecutor::execute);
+        CompletableFuture.runAsync(() -> awaitStartupLoad(loads, budgetMs), taskExecutor);
+    }
+
+    /**
+     * Wait for the startup loads up to the budget, then cancel whatever is still running so it
+     * doesn't keep holding sync workers; those accounts stay on their snapshot until the next sync
+     */
+    private void awaitStartupLoad(List<FutureTask<Void>> loads, long budgetMs) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(budgetMs);
+        try {
+            for (FutureTask<Void> load : loads) {
+                load.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            }
+            log.info("Steam service initialized with {} accounts, {} owned games",
+                    libraries.size(), unionLibrary.size());
+        } catch (TimeoutException e) {
+            loads.forEach(load -> load.cancel(true));
+            libraries.values().stream()
+                    .filter(library -> library.state != SteamLibraryState.READY)
+                    .forEach(library -> {
+                        library.lastError = "Startup library load exceeded " + budgetMs + "ms budget";
+                        library.state = library.initialized ? SteamLibraryState.SNAPSHOT : SteamLibraryState.FAILED;
+                    });
+            log.warn("Steam library load did not finish within {}ms - cancelled, serving persisted snapshots",
+                    budgetMs);
+        } catch (InterruptedException e) {
+            loads.forEach(load -> load.cancel(true));
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            log.warn("Steam library startup load failed: {}", e.getMessage());
         }
     }
 
@@ -66,36 +208,137 @@ public class SteamService {
      * Check if Steam API is properly configured
      */
     public boolean isConfigured() {
-        return config.getSteamClientId() != null && !config.getSteamClientId().isEmpty()
+        return !libraries.isEmpty()
                 && config.getSteamClientSecret() != null && !config.getSteamClientSecret().isEmpty();
     }
 
     /**
-     * Refresh the owned games cache from Steam API
+     * Steam id of the primary account, used by the single-account endpoints
+     */
+    public String getPrimarySteamId() {
+        return libraries.isEmpty() ? null : libraries.keySet().iterator().next();
+    }
+
+    /**
+     * Steam ids of all linked accounts, primary first
+     */
+    public List<String> getLinkedSteamIds() {
+        return new ArrayList<>(libraries.keySet());
+    }
+
+    private SteamLibrary requireLibrary(String steamId) {
+        SteamLibrary library = libraries.get(steamId);
+        if (library == null) {
+            throw new IllegalArgumentException("Steam account not linked: " + steamId);
+        }
+        return library;
+    }
+
+    /**
+     * Load an account's last-known library snapshot from the database into its partition
+     */
+    private void loadSnapshot(SteamLibrary library) {
+        try {
+            Optional<SteamLibrarySnapshot> snapshot = snapshotRepository.findById(library.steamId);
+            if (snapshot.isEmpty() || snapshot.get().getPayload() == null) {
+                log.info("No persisted Steam library snapshot for {} - waiting for live load", library.name);
+                return;
+            }
+
+            List<SteamGameInfo> games = objectMapper.readValue(snapshot.get().getPayload(), new TypeReference<>() {
+            });
+
+            library.refreshLock.lock();
+            try {
+                // Don't overwrite a live load that finished first
+                if (library.state == SteamLibraryState.READY) {
+                    return;
+                }
+
+                games.forEach(game -> library.games.put(game.getAppId(), game));
+                library.snapshotFetchedAt = snapshot.get().getFetchedAt();
+                library.lastUpdated = library.snapshotFetchedAt != null ?
+                        library.snapshotFetchedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : 0;
+                library.initialized = true;
+                library.state = SteamLibraryState.SNAPSHOT;
+            } finally {
+                library.refreshLock.unlock();
+            }
+
+            updateUnion(library.games.keySet());
+            log.info("Serving persisted Steam library snapshot for {}: {} games from {}",
+                    library.name, games.size(), library.snapshotFetchedAt);
+        } catch (Exception e) {
+            log.warn("Failed to load persisted Steam library snapshot for {}: {}", library.name, e.getMessage());
+        }
+    }
+
+    /**
+     * Persist an account's partition as its last-known snapshot
+     */
+    private void saveSnapshot(SteamLibrary library) {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            snapshotRepository.save(SteamLibrarySnapshot.builder()
+                    .steamId(library.steamId)
+                    .payload(objectMapper.writeValueAsString(new ArrayList<>(library.games.values())))
+                    .gameCount(library.games.size())
+                    .fetchedAt(now)
+                    .build());
+            library.snapshotFetchedAt = now;
+        } catch (Exception e) {
+            log.warn("Failed to persist Steam library snapshot for {}: {}", library.name, e.getMessage());
+        }
+    }
+
+    /**
+     * Refresh every linked account in parallel. Requests still go through the shared rate limiter,
+     * so adding accounts spreads the same budget rather than multiplying it.
      */
-    @CacheEvict(value = "steamOwnedGames", allEntries = true)
     public void refreshOwnedGamesCache() {
+        refreshOwnedGamesCache(libraries.keySet());
+    }
+
+    /**
+     * Refresh the given linked accounts in parallel and wait for all of them
+     */
+    public void refreshOwnedGamesCache(Collection<String> steamIds) {
         if (!isConfigured()) {
             log.warn("Cannot refresh Steam cache - API not configured");
             return;
         }
 
+        List<SteamLibrary> targets = steamIds.stream().map(this::requireLibrary).toList();
+        CompletableFuture.allOf(targets.stream()
+                        .map(library -> CompletableFuture.runAsync(() -> refreshLibrary(library), steamSyncExecutor))
+                        .toArray(CompletableFuture[]::new))
+                .join();
+    }
+
+    private void refreshLibrary(SteamLibrary library) {
+        library.refreshLock.lock();
         try {
             String url = String.format(
                     "%s%s/GetOwnedGames/v1?key=%s&steamid=%s&include_appinfo=1&include_played_free_games=1",
                     STEAM_API_URL, PLAYER_SERVICE,
                     config.getSteamClientSecret(),
-                    config.getSteamClientId()
+                    library.steamId
             );
 
-            ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
+            ResponseEntity<String> response = steamGet(url);
+
+            // Cancelled (startup budget ran out) while waiting on Steam - drop the late answer
+            if (Thread.currentThread().isInterrupted()) {
+                log.info("Steam library refresh for {} cancelled", library.name);
+                return;
+            }
 
             if (response.getBody() != null) {
                 JsonNode root = objectMapper.readTree(response.getBody());
                 JsonNode gamesNode = root.path("response").path("games");
 
                 if (gamesNode.isArray()) {
-                    ownedGamesCache.clear();
+                    Map<String, SteamGameInfo> fresh = new HashMap<>();
 
                     for (JsonNode gameNode : gamesNode) {
                         SteamGameInfo gameInfo = SteamGameInfo.builder()
@@ -114,40 +357,208 @@ public class SteamService {
                                 .inBacklog(false)
                                 .build();
 
-                        ownedGamesCache.put(gameInfo.getAppId(), gameInfo);
+                        fresh.put(gameInfo.getAppId(), gameInfo);
                     }
 
-                    cacheInitialized = true;
-                    cacheLastUpdated = System.currentTimeMillis();
-                    log.info("Steam owned games cache refreshed: {} games loaded", ownedGamesCache.size());
+                    // Only apps that were added, removed or changed need their union entry rebuilt
+                    Set<String> changed = new HashSet<>(library.games.keySet());
+                    changed.removeAll(fresh.keySet());
+                    fresh.forEach((appId, game) -> {
+                        if (!game.hasSameSteamData(library.games.get(appId))) {
+                            changed.add(appId);
+                        }
+                    });
+
+                    // Swap contents without ever exposing an empty cache to readers
+                    library.games.keySet().retainAll(fresh.keySet());
+                    library.games.putAll(fresh);
+                    updateUnion(changed);
+
+                    library.initialized = true;
+                    library.lastUpdated = System.currentTimeMillis();
+                    library.state = SteamLibraryState.READY;
+                    library.lastError = null;
+                    saveSnapshot(library);
+                    log.info("Steam owned games cache refreshed for {}: {} games loaded, {} changed",
+                            library.name, library.games.size(), changed.size());
                 }
             }
         } catch (Exception e) {
-            log.error("Failed to refresh Steam owned games cache: {}", e.getMessage());
+            library.lastError = e.getMessage();
+            if (library.state != SteamLibraryState.READY) {
+                library.state = library.initialized ? SteamLibraryState.SNAPSHOT : SteamLibraryState.FAILED;
+            }
+            log.error("Failed to refresh Steam owned games cache for {}: {}", library.name, e.getMessage());
+        } finally {
+            library.refreshLock.unlock();
         }
     }
 
     /**
-     * Check if the cache needs refreshing
+     * Refresh an account on the task executor unless a refresh is already queued or running for it
      */
-    private void ensureCacheValid() {
-        if (!cacheInitialized || System.currentTimeMillis() - cacheLastUpdated > CACHE_TTL_MS) {
-            refreshOwnedGamesCache();
+    private void refreshLibraryAsync(SteamLibrary library) {
+        if (library.refreshLock.isLocked() || !library.refreshQueued.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            CompletableFuture.runAsync(() -> {
+                try {
+                    refreshLibrary(library);
+                } finally {
+                    library.refreshQueued.set(false);
+                }
+            }, taskExecutor);
+        } catch (RejectedExecutionException e) {
+            // Executor saturated - the next request or scheduled sync tries again
+            library.refreshQueued.set(false);
+        }
+    }
+
+    /**
+     * Rebuild the union entries for the given apps from the accounts that own them
+     */
+    private void updateUnion(Collection<String> appIds) {
+        if (appIds.isEmpty()) {
+            return;
+        }
+
+        synchronized (unionLock) {
+            for (String appId : appIds) {
+                SteamGameInfo merged = mergeOwners(appId);
+                if (merged == null) {
+                    unionLibrary.remove(appId);
+                } else {
+                    unionLibrary.put(appId, merged);
+                }
+            }
+        }
+
+        eventPublisher.publishEvent(new SteamLibraryChangedEvent(Set.copyOf(appIds)));
+    }
+
+    /**
+     * Merge one app across accounts: playtimes are summed, last played is the latest of any owner
+     */
+    private SteamGameInfo mergeOwners(String appId) {
+        SteamGameInfo merged = null;
+
+        for (SteamLibrary library : libraries.values()) {
+            SteamGameInfo game = library.games.get(appId);
+            if (game == null) {
+                continue;
+            }
+
+            if (merged == null) {
+                merged = SteamGameInfo.builder()
+                        .appId(appId)
+                        .name(game.getName())
+                        .imgIconUrl(game.getImgIconUrl())
+                        .genres(new ArrayList<>())
+                        .ownerSteamIds(new ArrayList<>())
+                        .build();
+            }
+
+            merged.setPlaytimeForever(merged.getPlaytimeForever() + game.getPlaytimeForever());
+            merged.setPlaytimeWindowsForever(merged.getPlaytimeWindowsForever() + game.getPlaytimeWindowsForever());
+            merged.setPlaytimeMacForever(merged.getPlaytimeMacForever() + game.getPlaytimeMacForever());
+            merged.setPlaytimeLinuxForever(merged.getPlaytimeLinuxForever() + game.getPlaytimeLinuxForever());
+            merged.setPlaytimeDeckForever(merged.getPlaytimeDeckForever() + game.getPlaytimeDeckForever());
+            merged.setPlaytimeDisconnected(merged.getPlaytimeDisconnected() + game.getPlaytimeDisconnected());
+            merged.setRtimeLastPlayed(Math.max(merged.getRtimeLastPlayed(), game.getRtimeLastPlayed()));
+            merged.setHasCommunityVisibleStats(merged.isHasCommunityVisibleStats() || game.isHasCommunityVisibleStats());
+            merged.getOwnerSteamIds().add(library.steamId);
+        }
+
+        return merged;
+    }
+
+    /**
+     * Get the load state of the primary account for health reporting
+     */
+    public SteamLibraryStatus getLibraryStatus() {
+        String primary = getPrimarySteamId();
+        if (primary == null) {
+            return SteamLibraryStatus.builder().state(SteamLibraryState.NOT_CONFIGURED).build();
+        }
+        return toStatus(libraries.get(primary));
+    }
+
+    /**
+     * Get the load state of every linked account
+     */
+    public List<SteamLibraryStatus> getLibraryStatuses() {
+        return libraries.values().stream().map(this::toStatus).toList();
+    }
+
+    private SteamLibraryStatus toStatus(SteamLibrary library) {
+        return SteamLibraryStatus.builder()
+                .steamId(library.steamId)
+                .name(library.name)
+                .state(library.state)
+                .gameCount(library.games.size())
+                .lastUpdated(library.lastUpdated > 0 ?
+                        LocalDateTime.ofInstant(Instant.ofEpochMilli(library.lastUpdated), ZoneId.systemDefault()) :
+                        null)
+                .snapshotFetchedAt(library.snapshotFetchedAt)
+                .lastError(library.lastError)
+                .build();
+    }
+
+    /**
+     * Check if an account's partition needs refreshing
+     */
+    private void ensureCacheValid(SteamLibrary library) {
+        if (!library.initialized) {
+            // Never fetch on the request thread. While the startup load is in flight there is nothing
+            // to add; after it failed (FAILED, reported DEGRADED) retry in the background and serve empty.
+            if (library.state != SteamLibraryState.LOADING) {
+                refreshLibraryAsync(library);
+            }
+        } else if (System.currentTimeMillis() - library.lastUpdated > CACHE_TTL_MS) {
+            // Serve what we have and revalidate in the background
+            refreshLibraryAsync(library);
         }
     }
 
+    private void ensureCacheValid() {
+        libraries.values().forEach(this::ensureCacheValid);
+    }
+
     /**
-     * Get all owned games from Steam
+     * Get all owned games across linked accounts (the union library)
      */
-    @Cacheable(value = "steamOwnedGames")
     public List<SteamGameInfo> getOwnedGames() {
         ensureCacheValid();
-        return new ArrayList<>(ownedGamesCache.values());
+        return new ArrayList<>(unionLibrary.values());
     }
 
     /**
-     * Check if a game is owned on Steam by app ID
-     * Returns the game info if owned, empty optional if not
+     * Current union entry for an app without triggering a refresh, for views kept in sync by events
+     */
+    public Optional<SteamGameInfo> peekOwnedGame(String appId) {
+        return Optional.ofNullable(unionLibrary.get(appId));
+    }
+
+    /**
+     * Current union library without triggering a refresh
+     */
+    public List<SteamGameInfo> peekOwnedGames() {
+        return new ArrayList<>(unionLibrary.values());
+    }
+
+    /**
+     * Get the games owned by one linked account
+     */
+    public List<SteamGameInfo> getOwnedGames(String steamId) {
+        SteamLibrary library = requireLibrary(steamId);
+        ensureCacheValid(library);
+        return new ArrayList<>(library.games.values());
+    }
+
+    /**
+     * Check if a game is owned on Steam by app ID on any linked account
+     * Returns the merged game info if owned, empty optional if not
      */
     public Optional<SteamGameInfo> checkOwnership(String appId) {
         if (appId == null || appId.isEmpty()) {
@@ -155,7 +566,7 @@ public class SteamService {
         }
 
         ensureCacheValid();
-        return Optional.ofNullable(ownedGamesCache.get(appId));
+        return Optional.ofNullable(unionLibrary.get(appId));
     }
 
     /**
@@ -180,36 +591,97 @@ public class SteamService {
     }
 
     /**
-     * Get game info from Steam Store API (for games not owned)
+     * Get game info from Steam Store API (for games not owned), served from the store cache
      */
     private Optional<SteamGameInfo> getGameInfoFromStore(String appId) {
-        try {
-            String url = String.format("%s/appdetails?appids=%s", STORE_API_URL, appId);
-            ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
+        if (appId == null || appId.isEmpty() || !appId.chars().allMatch(Character::isDigit)) {
+            return Optional.empty();
+        }
+        return storeCache.get(appId);
+    }
 
-            if (response.getBody() != null) {
-                JsonNode root = objectMapper.readTree(response.getBody());
-                JsonNode appData = root.path(appId);
+    /**
+     * Fetch appdetails from the Steam Store.
+     * Returns empty for app ids the store rejects (negatively cached); throws on transport
+     * errors so transient failures are not cached.
+     */
+    private Optional<SteamGameInfo> fetchStoreAppDetails(String appId) {
+        String url = String.format("%s/appdetails?appids=%s", STORE_API_URL, appId);
 
-                if (appData.path("success").asBoolean(false)) {
-                    JsonNode data = appData.path("data");
-                    return Optional.of(SteamGameInfo.builder()
-                            .appId(appId)
-                            .name(data.path("name").asText())
-                            .imgIconUrl(null) // Store API doesn't provide icon URL in same format
-                            .playtimeForever(0)
-                            .genres(new ArrayList<>())
-                            .inBacklog(false)
-                            .build());
-                }
+        storeRateLimiter.acquire();
+        ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
+
+        if (response.getBody() == null) {
+            return Optional.empty();
+        }
+
+        try {
+            JsonNode appData = objectMapper.readTree(response.getBody()).path(appId);
+
+            if (appData.path("success").asBoolean(false)) {
+                JsonNode data = appData.path("data");
+                return Optional.of(SteamGameInfo.builder()
+                        .appId(appId)
+                        .name(data.path("name").asText())
+                        .imgIconUrl(null) // Store API doesn't provide icon URL in same format
+                        .playtimeForever(0)
+                        .genres(new ArrayList<>())
+                        .inBacklog(false)
+                        .build());
             }
         } catch (Exception e) {
-            log.debug("Failed to get store info for app {}: {}", appId, e.getMessage());
+            log.debug("Failed to parse store info for app {}: {}", appId, e.getMessage());
         }
 
         return Optional.empty();
     }
 
+    /**
+     * Load store metadata for a list of app ids in the background.
+     * Owned, cached and already queued apps are skipped, at most MAX_WARMUP_APPS are taken per call,
+     * and they load one at a time on the warm-up worker under the store rate limit.
+     */
+    public Map<String, Object> warmStoreCache(Collection<String> appIds) {
+        List<String> toLoad = appIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .filter(appId -> !unionLibrary.containsKey(appId))
+                .filter(appId -> !storeCache.contains(appId))
+                .filter(appId -> !warmupQueued.contains(appId))
+                .limit(MAX_WARMUP_APPS)
+                .toList();
+
+        int queued = 0;
+        for (String appId : toLoad) {
+            if (!warmupQueued.add(appId)) {
+                continue;
+            }
+            try {
+                storeWarmupExecutor.execute(() -> {
+                    try {
+                        getGameInfoFromStore(appId);
+                    } finally {
+                        warmupQueued.remove(appId);
+                    }
+                });
+                queued++;
+            } catch (RejectedExecutionException e) {
+                // Warm-up queue is full; the rest can be requested again once it drains
+                warmupQueued.remove(appId);
+                break;
+            }
+        }
+
+        log.info("Warming Steam store cache for {} of {} requested apps", queued, appIds.size());
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("requested", appIds.size());
+        result.put("queued", queued);
+        result.put("pending", warmupQueued.size());
+        result.put("cachedEntries", storeCache.size());
+        return result;
+    }
+
     /**
      * Get playtime data for a specific game
      */
@@ -230,23 +702,34 @@ public class SteamService {
     }
 
     /**
-     * Get recently played games from Steam
+     * Get recently played games from Steam for the primary account
      */
     public List<SteamGameInfo> getRecentlyPlayedGames(int count) {
         if (!isConfigured()) {
             return Collections.emptyList();
         }
+        return getRecentlyPlayedGames(getPrimarySteamId(), count);
+    }
+
+    /**
+     * Get recently played games from Steam for one linked account
+     */
+    public List<SteamGameInfo> getRecentlyPlayedGames(String steamId, int count) {
+        if (!isConfigured()) {
+            return Collections.emptyList();
+        }
+        requireLibrary(steamId);
 
         try {
             String url = String.format(
                     "%s%s/GetRecentlyPlayedGames/v1?key=%s&steamid=%s&count=%d",
                     STEAM_API_URL, PLAYER_SERVICE,
                     config.getSteamClientSecret(),
-                    config.getSteamClientId(),
+                    steamId,
                     count
             );
 
-            ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
+            ResponseEntity<String> response = steamGet(url);
 
             if (response.getBody() != null) {
                 JsonNode root = objectMapper.readTree(response.getBody());
@@ -260,6 +743,7 @@ public class SteamService {
                                 .name(gameNode.path("name").asText())
                                 .playtimeForever(gameNode.path("playtime_forever").asInt(0))
                                 .playtimeWindowsForever(gameNode.path("playtime_windows_forever").asInt(0))
+                                .playtimeMacForever(gameNode.path("playtime_mac_forever").asInt(0))
                                 .playtimeLinuxForever(gameNode.path("playtime_linux_forever").asInt(0))
                                 .playtimeDeckForever(gameNode.path("playtime_deck_forever").asInt(0))
                                 .imgIconUrl(gameNode.path("img_icon_url").asText(null))
@@ -269,30 +753,85 @@ public class SteamService {
                 }
             }
         } catch (Exception e) {
-            log.error("Failed to get recently played games: {}", e.getMessage());
+            log.error("Failed to get recently played games for {}: {}", steamId, e.getMessage());
         }
 
         return Collections.emptyList();
     }
 
     /**
-     * Search owned games by name
+     * Apply one account's recently-played results to its partition.
+     * Only apps whose playtime moved are touched; returns their updated union entries.
+     */
+    public List<SteamGameInfo> applyRecentlyPlayed(String steamId, List<SteamGameInfo> recentGames) {
+        SteamLibrary library = requireLibrary(steamId);
+        List<String> changed = new ArrayList<>();
+        long now = Instant.now().getEpochSecond();
+
+        // Same lock as a full reconcile, so a poll can't interleave with its swap or snapshot write
+        library.refreshLock.lock();
+        try {
+            for (SteamGameInfo recent : recentGames) {
+                SteamGameInfo cached = library.games.get(recent.getAppId());
+
+                if (cached == null) {
+                    // Newly acquired game - the next full reconcile will pick up its full app info
+                    continue;
+                }
+
+                // Playtime only grows; a poll answered before a reconcile that finished meanwhile is stale
+                if (recent.getPlaytimeForever() <= cached.getPlaytimeForever()) {
+                    continue;
+                }
+
+                // Entries are shared with readers, so replace them instead of mutating in place
+                library.games.put(cached.getAppId(), cached.toBuilder()
+                        .playtimeForever(recent.getPlaytimeForever())
+                        .playtimeWindowsForever(recent.getPlaytimeWindowsForever())
+                        .playtimeMacForever(recent.getPlaytimeMacForever())
+                        .playtimeLinuxForever(recent.getPlaytimeLinuxForever())
+                        .playtimeDeckForever(recent.getPlaytimeDeckForever())
+                        // GetRecentlyPlayedGames has no last-played time; playtime moved since the last poll
+                        .rtimeLastPlayed(now)
+                        .build());
+                changed.add(cached.getAppId());
+            }
+
+            if (changed.isEmpty()) {
+                return Collections.emptyList();
+            }
+
+            updateUnion(changed);
+            saveSnapshot(library);
+        } finally {
+            library.refreshLock.unlock();
+        }
+        log.debug("Applied recently played deltas for {} Steam games on {}", changed.size(), library.name);
+
+        return changed.stream()
+                .map(unionLibrary::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * Search owned games across linked accounts by name
      */
     public List<SteamGameInfo> searchOwnedGames(String query) {
         ensureCacheValid();
         String lowerQuery = query.toLowerCase();
-        return ownedGamesCache.values().stream()
+        return unionLibrary.values().stream()
                 .filter(game -> game.getName() != null && game.getName().toLowerCase().contains(lowerQuery))
                 .sorted(Comparator.comparing(SteamGameInfo::getName))
                 .collect(Collectors.toList());
     }
 
     /**
-     * Get games with playtime, sorted by most played
+     * Get games with playtime across linked accounts, sorted by most played
      */
     public List<SteamGameInfo> getMostPlayedGames(int limit) {
         ensureCacheValid();
-        return ownedGamesCache.values().stream()
+        return unionLibrary.values().stream()
                 .filter(game -> game.getPlaytimeForever() > 0)
                 .sorted(Comparator.comparingInt(SteamGameInfo::getPlaytimeForever).reversed())
                 .limit(limit)
@@ -300,25 +839,37 @@ public class SteamService {
     }
 
     /**
-     * Get total Steam library stats
+     * Get total Steam library stats across linked accounts
      */
     public SteamLibraryStats getLibraryStats() {
         ensureCacheValid();
+        return computeLibraryStats(unionLibrary.values());
+    }
+
+    /**
+     * Get Steam library stats for one linked account
+     */
+    public SteamLibraryStats getLibraryStats(String steamId) {
+        SteamLibrary library = requireLibrary(steamId);
+        ensureCacheValid(library);
+        return computeLibraryStats(library.games.values());
+    }
 
-        int totalGames = ownedGamesCache.size();
-        int playedGames = (int) ownedGamesCache.values().stream()
+    private SteamLibraryStats computeLibraryStats(Collection<SteamGameInfo> games) {
+        int totalGames = games.size();
+        int playedGames = (int) games.stream()
                 .filter(g -> g.getPlaytimeForever() > 0)
                 .count();
-        int totalPlaytimeMinutes = ownedGamesCache.values().stream()
+        int totalPlaytimeMinutes = games.stream()
                 .mapToInt(SteamGameInfo::getPlaytimeForever)
                 .sum();
-        int deckPlaytimeMinutes = ownedGamesCache.values().stream()
+        int deckPlaytimeMinutes = games.stream()
                 .mapToInt(SteamGameInfo::getPlaytimeDeckForever)
                 .sum();
-        int windowsPlaytimeMinutes = ownedGamesCache.values().stream()
+        int windowsPlaytimeMinutes = games.stream()
                 .mapToInt(SteamGameInfo::getPlaytimeWindowsForever)
                 .sum();
-        int linuxPlaytimeMinutes = ownedGamesCache.values().stream()
+        int linuxPlaytimeMinutes = games.stream()
                 .mapToInt(SteamGameInfo::getPlaytimeLinuxForever)
                 .sum();
 
@@ -338,6 +889,99 @@ public class SteamService {
                 .build();
     }
 
+    /**
+     * Get a linked account's achievement progress for one app.
+     * Sends If-None-Match when an ETag from the previous fetch is known. Marked unavailable when the
+     * player's stats can't be read (private profile, app without stats), failed on transport errors.
+     */
+    public SteamAchievementProgress getAchievementProgress(String steamId, String appId, String etag) {
+        String url = String.format(
+                "%s%s/GetPlayerAchievements/v1?key=%s&steamid=%s&appid=%s",
+                STEAM_API_URL, STEAM_USER_STATS_SERVICE,
+                config.getSteamClientSecret(),
+                steamId,
+                appId
+        );
+
+        try {
+            HttpHeaders headers = new HttpHeaders();
+            if (etag != null && !etag.isEmpty()) {
+                headers.setIfNoneMatch(etag);
+            }
+
+            rateLimiter.acquire();
+            ResponseEntity<String> response = restTemplate.exchange(
+                    url, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+
+            if (response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+                return SteamAchievementProgress.builder().appId(appId).notModified(true).etag(etag).build();
+            }
+
+            JsonNode stats = objectMapper.readTree(response.getBody()).path("playerstats");
+            JsonNode achievementsNode = stats.path("achievements");
+
+            if (stats.path("success").asBoolean(false)) {
+                if (!achievementsNode.isArray()) {
+                    // Stats are visible but the app reports no achievements for the player; use the schema total
+                    return SteamAchievementProgress.builder()
+                            .appId(appId)
+                            .unlocked(0)
+                            .total(getSchemaAchievementCount(appId))
+                            .etag(response.getHeaders().getETag())
+                            .build();
+                }
+
+                int unlocked = 0;
+                for (JsonNode achievement : achievementsNode) {
+                    if (achievement.path("achieved").asInt(0) == 1) {
+                        unlocked++;
+                    }
+                }
+
+                return SteamAchievementProgress.builder()
+                        .appId(appId)
+                        .unlocked(unlocked)
+                        .total(achievementsNode.size())
+                        .etag(response.getHeaders().getETag())
+                        .build();
+            }
+            log.debug("Player achievements unavailable for app {}: {}", appId, stats.path("error").asText(""));
+        } catch (HttpClientErrorException e) {
+            // 400/403/404: the app has no stats or the profile's game details are private
+            log.debug("No player achievements for app {}: {}", appId, e.getStatusCode());
+        } catch (Exception e) {
+            log.warn("Failed to get player achievements for app {}: {}", appId, e.getMessage());
+            return SteamAchievementProgress.builder().appId(appId).failed(true).build();
+        }
+
+        // Nothing readable - not the same as zero unlocked, so the stored counts must be left alone
+        return SteamAchievementProgress.builder().appId(appId).unavailable(true).build();
+    }
+
+    /**
+     * Get the number of achievements an app defines from its stats schema
+     */
+    private int getSchemaAchievementCount(String appId) {
+        try {
+            String url = String.format(
+                    "%s%s/GetSchemaForGame/v2?key=%s&appid=%s",
+                    STEAM_API_URL, STEAM_USER_STATS_SERVICE,
+                    config.getSteamClientSecret(),
+                    appId
+            );
+
+            ResponseEntity<String> response = steamGet(url);
+            if (response.getBody() != null) {
+                JsonNode achievements = objectMapper.readTree(response.getBody())
+                        .path("game").path("availableGameStats").path("achievements");
+                return achievements.isArray() ? achievements.size() : 0;
+            }
+        } catch (Exception e) {
+            log.debug("Failed to get achievement schema for app {}: {}", appId, e.getMessage());
+        }
+        return 0;
+    }
+
     /**
      * Build icon URL for a Steam game
      */
@@ -357,24 +1001,44 @@ public class SteamService {
     }
 
     /**
-     * Get Steam user profile information using ISteamUser API
+     * Get the primary account's Steam user profile
      */
-    @Cacheable(value = "steamUserProfile", key = "#root.method.name")
+    @Cacheable(value = "steamUserProfile", key = "#root.target.primarySteamId")
     public Optional<SteamUserProfile> getUserProfile() {
         if (!isConfigured()) {
             log.warn("Cannot get Steam user profile - API not configured");
             return Optional.empty();
         }
+        return fetchUserProfile(getPrimarySteamId());
+    }
+
+    /**
+     * Get a linked account's Steam user profile, cached per steam id
+     */
+    @Cacheable(value = "steamUserProfile", key = "#steamId")
+    public Optional<SteamUserProfile> getUserProfile(String steamId) {
+        if (!isConfigured()) {
+            log.warn("Cannot get Steam user profile - API not configured");
+            return Optional.empty();
+        }
+        requireLibrary(steamId);
+        return fetchUserProfile(steamId);
+    }
+
+    /**
+     * Get Steam user profile information using ISteamUser API
+     */
+    private Optional<SteamUserProfile> fetchUserProfile(String steamId) {
 
         try {
             String url = String.format(
                     "%s%s/GetPlayerSummaries/v2?key=%s&steamids=%s",
                     STEAM_API_URL, STEAM_USER_SERVICE,
                     config.getSteamClientSecret(),
-                    config.getSteamClientId()
+                    steamId
             );
 
-            ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
+            ResponseEntity<String> response = steamGet(url);
 
             if (response.getBody() != null) {
                 JsonNode root = objectMapper.readTree(response.getBody());
@@ -469,7 +1133,7 @@ public class SteamService {
     }
 
     @Data
-    @Builder
+    @Builder(toBuilder = true)
     @NoArgsConstructor
     @AllArgsConstructor
     public static class SteamGameInfo {
@@ -485,6 +1149,10 @@ public class SteamService {
         private long rtimeLastPlayed;         // Unix timestamp of last played
         private int playtimeDisconnected;     // Offline playtime in minutes
 
+        // Linked accounts owning the app (union library only)
+        @Builder.Default
+        private List<String> ownerSteamIds = new ArrayList<>();
+
         // Enrichment fields (populated when cross-referenced with backlog)
         @Builder.Default
         private List<String> genres = new ArrayList<>();
@@ -499,6 +1167,23 @@ public class SteamService {
             if (rtimeLastPlayed <= 0) return null;
             return LocalDateTime.ofInstant(Instant.ofEpochSecond(rtimeLastPlayed), ZoneId.systemDefault());
         }
+
+        /**
+         * Compare only the fields Steam reports, ignoring backlog enrichment
+         */
+        public boolean hasSameSteamData(SteamGameInfo other) {
+            return other != null
+                    && Objects.equals(name, other.name)
+                    && Objects.equals(imgIconUrl, other.imgIconUrl)
+                    && playtimeForever == other.playtimeForever
+                    && playtimeWindowsForever == other.playtimeWindowsForever
+                    && playtimeMacForever == other.playtimeMacForever
+                    && playtimeLinuxForever == other.playtimeLinuxForever
+                    && playtimeDeckForever == other.playtimeDeckForever
+                    && playtimeDisconnected == other.playtimeDisconnected
+                    && rtimeLastPlayed == other.rtimeLastPlayed
+                    && hasCommunityVisibleStats == other.hasCommunityVisibleStats;
+        }
     }
 
     @Data
@@ -517,6 +1202,34 @@ public class SteamService {
         private LocalDateTime lastPlayed;
     }
 
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SteamAchievementProgress {
+        private String appId;
+        private int unlocked;
+        private int total;
+        private String etag;
+        private boolean notModified;
+        private boolean unavailable;
+        private boolean failed;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SteamLibraryStatus {
+        private String steamId;
+        private String name;
+        private SteamLibraryState state;
+        private int gameCount;
+        private LocalDateTime lastUpdated;
+        private LocalDateTime snapshotFetchedAt;
+        private String lastError;
+    }
+
     @Data
     @Builder
     @NoArgsConstructor
@@ -535,4 +1248,25 @@ public class SteamService {
         private double linuxPlaytimeHours;
         private double playedPercentage;
     }
-}
\ No newline at end of file
+
+    /**
+     * Per-account library partition: owned games plus its own load state and refresh lock
+     */
+    private static final class SteamLibrary {
+        final String steamId;
+        final String name;
+        final Map<String, SteamGameInfo> games = new ConcurrentHashMap<>();
+        final ReentrantLock refreshLock = new ReentrantLock();
+        final AtomicBoolean refreshQueued = new AtomicBoolean(false);
+        volatile boolean initialized = false;
+        volatile long lastUpdated = 0;
+        volatile SteamLibraryState state = SteamLibraryState.LOADING;
+        volatile LocalDateTime snapshotFetchedAt;
+        volatile String lastError;
+
+        SteamLibrary(String steamId, String name) {
+            this.steamId = steamId;
+            this.name = name;
+        }
+    }
+}
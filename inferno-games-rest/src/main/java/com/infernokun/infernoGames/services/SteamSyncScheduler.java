@@ -1,5 +1,7 @@
 package com.infernokun.infernoGames.services;
 
+import com.infernokun.infernoGames.config.InfernoGamesConfig;
+import com.infernokun.infernoGames.config.InfernoGamesConfig.SteamAccount;
 import com.infernokun.infernoGames.models.Game;
 import com.infernokun.infernoGames.models.enums.GamePlatform;
 import com.infernokun.infernoGames.repositories.GameRepository;
@@ -9,12 +11,16 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Component
@@ -23,61 +29,259 @@ public class SteamSyncScheduler {
     private final SteamService steamService;
     private final GameRepository gameRepository;
     private final GameService gameService;
+    private final InfernoGamesConfig config;
+    private final SteamGenreEnrichmentService genreEnrichmentService;
+    private final TransactionTemplate transactionTemplate;
+
+    // Tiered sync state per linked account (steamId -> due times and adaptive recent-poll interval)
+    private final Map<String, AccountSyncState> accountStates = new ConcurrentHashMap<>();
 
     /**
-     * Sync Steam playtime data every 6 hours
-     * This updates playtime information for all games that have a Steam App ID
+     * Drive the tiered Steam sync for every linked account.
+     * Polls GetRecentlyPlayedGames every few minutes, backing off while nothing is being played,
+     * and runs the full GetOwnedGames reconcile only every 6-24 hours depending on activity.
+     * Accounts whose full reconcile falls due together are refreshed in parallel. Both tiers are
+     * first due one interval after startup, which has just loaded the libraries.
+     *
+     * Steam calls run outside any transaction; backlog writes run in their own through the
+     * TransactionTemplate, since this is a self-invocation that @Transactional would not cover.
      */
-    @Scheduled(fixedRateString = "PT6H", initialDelayString = "PT1M")
-    @Transactional
-    public void syncSteamPlaytime() {
+    @Scheduled(fixedDelayString = "PT1M", initialDelayString = "PT1M")
+    public void runTieredSync() {
         if (!steamService.isConfigured()) {
             log.debug("Steam sync skipped - API not configured");
             return;
         }
 
-        log.info("Starting scheduled Steam playtime sync...");
+        Instant now = Instant.now();
+        List<String> fullSyncDue = new ArrayList<>();
+
+        for (String steamId : steamService.getLinkedSteamIds()) {
+            AccountSyncState state = stateFor(steamId);
+            if (!now.isBefore(state.nextFullSyncAt)) {
+                fullSyncDue.add(steamId);
+                // The full reconcile already covers recent activity
+                state.nextRecentPollAt = now.plus(state.currentRecentPollInterval(config));
+            } else if (!now.isBefore(state.nextRecentPollAt)) {
+                syncRecentlyPlayed(steamId);
+            }
+        }
 
-        try {
-            // Refresh the Steam cache first
-            steamService.refreshOwnedGamesCache();
+        if (!fullSyncDue.isEmpty()) {
+            syncSteamPlaytime(fullSyncDue);
+        }
+    }
+
+    /**
+     * Sync only the games played in the last two weeks, for every linked account
+     */
+    public int syncRecentlyPlayed() {
+        if (!steamService.isConfigured()) {
+            return 0;
+        }
 
-            // Get all games with Steam App IDs
-            List<Game> steamGames = gameRepository.findAll().stream()
-                    .filter(game -> game.getSteamAppId() != null && !game.getSteamAppId().isEmpty())
-                    .toList();
+        int updatedCount = 0;
+        for (String steamId : steamService.getLinkedSteamIds()) {
+            updatedCount += syncRecentlyPlayed(steamId);
+        }
+        return updatedCount;
+    }
 
-            int updatedCount = 0;
-            int errorCount = 0;
+    /**
+     * Sync one account's games played in the last two weeks.
+     * Applies playtime deltas to that account's Steam cache and updates just the matching backlog rows.
+     */
+    private int syncRecentlyPlayed(String steamId) {
+        AccountSyncState state = stateFor(steamId);
+        int updatedCount = 0;
 
-            for (Game game : steamGames) {
-                try {
-                    Optional<SteamGameInfo> steamInfo = steamService.checkOwnership(game.getSteamAppId());
+        try {
+            List<SteamGameInfo> changed = steamService.applyRecentlyPlayed(
+                    steamId, steamService.getRecentlyPlayedGames(steamId, 0));
 
-                    if (steamInfo.isPresent()) {
-                        SteamGameInfo info = steamInfo.get();
-                        boolean changed = updateGameFromSteam(game, info);
+            if (!changed.isEmpty()) {
+                Map<String, SteamGameInfo> changedByAppId = changed.stream()
+                        .collect(Collectors.toMap(SteamGameInfo::getAppId, Function.identity()));
 
-                        if (changed) {
+                Integer saved = transactionTemplate.execute(status -> {
+                    List<Game> toSave = new ArrayList<>();
+                    for (Game game : gameRepository.findBySteamAppIdIn(changedByAppId.keySet())) {
+                        if (updateGameFromSteam(game, changedByAppId.get(game.getSteamAppId()))) {
                             game.setSteamLastSynced(LocalDateTime.now());
-                            gameRepository.save(game);
-                            updatedCount++;
-                            log.debug("Updated Steam data for: {} ({})", game.getTitle(), game.getSteamAppId());
+                            toSave.add(game);
                         }
                     }
-                } catch (Exception e) {
-                    errorCount++;
-                    log.warn("Failed to sync Steam data for game '{}' (appId: {}): {}",
-                            game.getTitle(), game.getSteamAppId(), e.getMessage());
+                    gameRepository.saveAll(toSave);
+                    return toSave.size();
+                });
+
+                updatedCount = saved;
+                if (updatedCount > 0) {
+                    // After commit, so a concurrent read can't re-cache the old rows
+                    gameService.clearAllCaches();
                 }
+
+                state.lastActivityAt = Instant.now();
+                log.info("Recently played sync for {}: {} Steam games changed, {} backlog games updated",
+                        steamId, changed.size(), updatedCount);
+            }
+
+            adaptRecentPollInterval(steamId, state, !changed.isEmpty());
+        } catch (Exception e) {
+            log.warn("Recently played Steam sync failed for {}: {}", steamId, e.getMessage());
+            adaptRecentPollInterval(steamId, state, false);
+        }
+
+        return updatedCount;
+    }
+
+    /**
+     * Full library reconcile of every linked account
+     */
+    public void syncSteamPlaytime() {
+        syncSteamPlaytime(steamService.getLinkedSteamIds());
+    }
+
+    /**
+     * Full library reconcile.
+     * Refreshes the given accounts' owned games lists in parallel, then updates every backlog
+     * game that has a Steam App ID from the merged library.
+     */
+    private void syncSteamPlaytime(List<String> steamIds) {
+        if (!steamService.isConfigured()) {
+            log.debug("Steam sync skipped - API not configured");
+            return;
+        }
+
+        log.info("Starting full Steam library reconcile for {} accounts...", steamIds.size());
+
+        try {
+            // Refresh the Steam caches first
+            steamService.refreshOwnedGamesCache(steamIds);
+
+            // Backlog updates in one transaction, after the Steam calls have finished
+            ReconcileResult result = transactionTemplate.execute(status -> reconcileBacklog());
+
+            if (result.updated() > 0) {
+                gameService.clearAllCaches();
+                Instant now = Instant.now();
+                steamIds.forEach(steamId -> stateFor(steamId).lastActivityAt = now);
             }
 
             log.info("Steam sync completed: {} games updated, {} errors out of {} total Steam games",
-                    updatedCount, errorCount, steamGames.size());
+                    result.updated(), result.errors(), result.total());
 
         } catch (Exception e) {
             log.error("Steam sync failed: {}", e.getMessage(), e);
+        } finally {
+            steamIds.forEach(steamId -> scheduleNextFullSync(steamId, stateFor(steamId)));
+        }
+    }
+
+    /**
+     * Update every backlog game that has a Steam App ID from the merged library
+     */
+    private ReconcileResult reconcileBacklog() {
+        List<Game> steamGames = gameRepository.findAllWithSteamAppId();
+
+        int updatedCount = 0;
+        int errorCount = 0;
+
+        for (Game game : steamGames) {
+            try {
+                Optional<SteamGameInfo> steamInfo = steamService.checkOwnership(game.getSteamAppId());
+
+                if (steamInfo.isPresent() && updateGameFromSteam(game, steamInfo.get())) {
+                    game.setSteamLastSynced(LocalDateTime.now());
+                    gameRepository.save(game);
+                    updatedCount++;
+                    log.debug("Updated Steam data for: {} ({})", game.getTitle(), game.getSteamAppId());
+                }
+            } catch (Exception e) {
+                errorCount++;
+                log.warn("Failed to sync Steam data for game '{}' (appId: {}): {}",
+                        game.getTitle(), game.getSteamAppId(), e.getMessage());
+            }
+        }
+
+        return new ReconcileResult(updatedCount, errorCount, steamGames.size());
+    }
+
+    /**
+     * Sync state of an account; a new one is first due one interval from now, since the
+     * startup load has just fetched its library
+     */
+    private AccountSyncState stateFor(String steamId) {
+        return accountStates.computeIfAbsent(steamId, id -> {
+            AccountSyncState state = new AccountSyncState();
+            Instant now = Instant.now();
+            state.nextRecentPollAt = now.plus(config.getSteamRecentPollMinInterval());
+            state.nextFullSyncAt = now.plus(config.getSteamFullSyncMinInterval());
+            return state;
+        });
+    }
+
+    /**
+     * Shrink the recent-poll interval to the minimum on activity, otherwise double it up to the maximum
+     */
+    private void adaptRecentPollInterval(String steamId, AccountSyncState state, boolean active) {
+        Duration min = config.getSteamRecentPollMinInterval();
+        Duration max = accountOverride(steamId, SteamAccount::getRecentPollMaxInterval,
+                config.getSteamRecentPollMaxInterval());
+
+        Duration next = active ? min : state.currentRecentPollInterval(config).multipliedBy(2);
+        if (next.compareTo(max) > 0) {
+            next = max;
+        }
+
+        state.recentPollInterval = next;
+        state.nextRecentPollAt = Instant.now().plus(next);
+    }
+
+    /**
+     * Reconcile sooner while games are being played (new purchases, refunds and
+     * playtime corrections only show up in GetOwnedGames), rarely while idle
+     */
+    private void scheduleNextFullSync(String steamId, AccountSyncState state) {
+        Instant now = Instant.now();
+        boolean activeSinceLastSync = state.lastActivityAt != null
+                && (state.lastFullSyncAt == null || state.lastActivityAt.isAfter(state.lastFullSyncAt));
+
+        state.nextFullSyncAt = now.plus(activeSinceLastSync ?
+                config.getSteamFullSyncMinInterval() :
+                accountOverride(steamId, SteamAccount::getFullSyncMaxInterval, config.getSteamFullSyncMaxInterval()));
+        state.lastFullSyncAt = now;
+    }
+
+    /**
+     * Per-account interval override from the linked account config, if one is set
+     */
+    private Duration accountOverride(String steamId, Function<SteamAccount, Duration> getter, Duration fallback) {
+        return config.getSteamAccounts().stream()
+                .filter(account -> steamId.equals(account.getSteamId()))
+                .map(getter)
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElse(fallback);
+    }
+
+    /**
+     * Get the tiered sync schedule of every linked account for the status endpoint
+     */
+    public Map<String, Object> getSyncStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        for (String steamId : steamService.getLinkedSteamIds()) {
+            AccountSyncState state = stateFor(steamId);
+
+            Map<String, Object> account = new HashMap<>();
+            account.put("recentPollInterval", state.currentRecentPollInterval(config).toString());
+            account.put("nextRecentPollAt", state.nextRecentPollAt.toString());
+            account.put("nextFullSyncAt", state.nextFullSyncAt.toString());
+            account.put("lastFullSyncAt", state.lastFullSyncAt != null ? state.lastFullSyncAt.toString() : null);
+            account.put("lastActivityAt", state.lastActivityAt != null ? state.lastActivityAt.toString() : null);
+            status.put(steamId, account);
         }
+        return status;
     }
 
     /**
@@ -204,7 +408,7 @@ public class SteamSyncScheduler {
 
     /**
      * Enrich Steam library with IGDB genres in background
-     * Runs every 1 day, but only processes if not already running
+     * Runs every 1 day; the pipeline itself refuses to start a second concurrent run
      */
     @Scheduled(fixedRateString = "PT24H", initialDelayString = "PT30S")
     public void enrichSteamGenres() {
@@ -214,14 +418,29 @@ public class SteamSyncScheduler {
         }
 
         log.debug("Starting scheduled Steam genre enrichment...");
-        gameService.enrichSteamLibraryGenresInBackground();
+        genreEnrichmentService.startEnrichment();
     }
 
     /**
      * Manually trigger genre enrichment
      */
-    public void triggerGenreEnrichment() {
+    public boolean triggerGenreEnrichment() {
         log.info("Manually triggering Steam genre enrichment");
-        gameService.enrichSteamLibraryGenresInBackground();
+        return genreEnrichmentService.startEnrichment();
+    }
+
+    private record ReconcileResult(int updated, int errors, int total) {
+    }
+
+    private static class AccountSyncState {
+        volatile Instant nextRecentPollAt;
+        volatile Instant nextFullSyncAt;
+        volatile Duration recentPollInterval;
+        volatile Instant lastActivityAt;
+        volatile Instant lastFullSyncAt;
+
+        Duration currentRecentPollInterval(InfernoGamesConfig config) {
+            return recentPollInterval != null ? recentPollInterval : config.getSteamRecentPollMinInterval();
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,126 @@
+package com.infernokun.infernoGames.utils;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Bounded in-process cache with separate TTLs for hits and misses.
+ * Concurrent lookups for the same key share a single load. A loader that returns
+ * Optional.empty() is negatively cached; a loader that throws is not cached at all.
+ */
+@Slf4j
+public class CoalescingCache<K, V> {
+
+    private final Function<K, Optional<V>> loader;
+    private final long ttlMs;
+    private final long negativeTtlMs;
+    private final int maxSize;
+
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final Map<K, CompletableFuture<Optional<V>>> inFlight = new ConcurrentHashMap<>();
+
+    public CoalescingCache(Function<K, Optional<V>> loader, Duration ttl, Duration negativeTtl, int maxSize) {
+        this.loader = loader;
+        this.ttlMs = ttl.toMillis();
+        this.negativeTtlMs = negativeTtl.toMillis();
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Get a cached value, loading it once if missing or expired
+     */
+    public Optional<V> get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry != null && !entry.isExpired()) {
+            return entry.value();
+        }
+
+        CompletableFuture<Optional<V>> load = new CompletableFuture<>();
+        CompletableFuture<Optional<V>> existing = inFlight.putIfAbsent(key, load);
+
+        if (existing != null) {
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                return Optional.empty();
+            }
+        }
+
+        try {
+            Optional<V> value = loader.apply(key);
+            put(key, value);
+            load.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            log.debug("Cache load failed for {}: {}", key, e.getMessage());
+            load.completeExceptionally(e);
+            return Optional.empty();
+        } finally {
+            inFlight.remove(key, load);
+        }
+    }
+
+    /**
+     * Live positive value for the key without triggering a load
+     */
+    public Optional<V> getIfPresent(K key) {
+        Entry<V> entry = entries.get(key);
+        return entry != null && !entry.isExpired() ? entry.value() : Optional.empty();
+    }
+
+    /**
+     * True when the key has a live entry, positive or negative
+     */
+    public boolean contains(K key) {
+        Entry<V> entry = entries.get(key);
+        return entry != null && !entry.isExpired();
+    }
+
+    public void put(K key, Optional<V> value) {
+        long ttl = value.isPresent() ? ttlMs : negativeTtlMs;
+        entries.put(key, new Entry<>(value, System.currentTimeMillis() + ttl));
+
+        if (entries.size() > maxSize) {
+            evict();
+        }
+    }
+
+    public void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Drop expired entries first, then arbitrary ones until back under the bound
+     */
+    private void evict() {
+        entries.values().removeIf(Entry::isExpired);
+
+        Iterator<K> keys = entries.keySet().iterator();
+        while (entries.size() > maxSize && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    private record Entry<V>(Optional<V> value, long expiresAt) {
+        boolean isExpired() {
+            return System.currentTimeMillis() > expiresAt;
+        }
+    }
+}
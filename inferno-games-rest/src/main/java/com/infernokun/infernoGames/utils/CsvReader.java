@@ -0,0 +1,113 @@
+package com.infernokun.infernoGames.utils;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal streaming RFC 4180 reader: comma separated, double-quoted fields with "" escapes,
+ * quoted fields may span lines, CRLF or LF record endings. Reads one record at a time.
+ */
+public class CsvReader {
+
+    private final Reader reader;
+    private int line = 1;
+    private int recordLine = 1;
+    private int pending = -2;
+
+    public CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Next record's fields, or null at end of input. Blank lines are skipped.
+     */
+    public List<String> readRecord() throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean sawAny = false;
+        recordLine = line;
+
+        while (true) {
+            int c = next();
+            if (c == -1) {
+                if (quoted) {
+                    throw new IOException("Unterminated quoted field starting on line " + recordLine);
+                }
+                if (!sawAny) {
+                    return null;
+                }
+                fields.add(field.toString());
+                return fields;
+            }
+
+            if (quoted) {
+                if (c == '"') {
+                    int peek = next();
+                    if (peek == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        pushBack(peek);
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                }
+                continue;
+            }
+
+            switch (c) {
+                case '"' -> {
+                    quoted = true;
+                    sawAny = true;
+                }
+                case ',' -> {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                    sawAny = true;
+                }
+                case '\r' -> {
+                    // Swallowed; the following \n ends the record
+                }
+                case '\n' -> {
+                    line++;
+                    if (!sawAny && field.isEmpty()) {
+                        recordLine = line;
+                        continue;
+                    }
+                    fields.add(field.toString());
+                    return fields;
+                }
+                default -> {
+                    field.append((char) c);
+                    sawAny = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Line on which the most recently read record started
+     */
+    public int getRecordLine() {
+        return recordLine;
+    }
+
+    private int next() throws IOException {
+        if (pending != -2) {
+            int c = pending;
+            pending = -2;
+            return c;
+        }
+        return reader.read();
+    }
+
+    private void pushBack(int c) {
+        pending = c;
+    }
+}
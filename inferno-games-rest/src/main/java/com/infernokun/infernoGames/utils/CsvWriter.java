@@ -0,0 +1,41 @@
+package com.infernokun.infernoGames.utils;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * RFC 4180 writer matching {@link CsvReader}: fields containing commas, quotes or line breaks are
+ * quoted with "" escapes, records end in CRLF, and null fields are written empty.
+ */
+public class CsvWriter {
+
+    private final Writer writer;
+
+    public CsvWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    public void writeRecord(List<String> fields) throws IOException {
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeField(fields.get(i));
+        }
+        writer.write("\r\n");
+    }
+
+    private void writeField(String field) throws IOException {
+        if (field == null || field.isEmpty()) {
+            return;
+        }
+        if (field.chars().noneMatch(c -> c == ',' || c == '"' || c == '\n' || c == '\r')) {
+            writer.write(field);
+            return;
+        }
+        writer.write('"');
+        writer.write(field.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
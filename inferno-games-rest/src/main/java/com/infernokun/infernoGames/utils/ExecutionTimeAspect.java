@@ -38,7 +38,9 @@ public class ExecutionTimeAspect {
                             .pageSize(apiResponse.getPageSize() != null ? apiResponse.getPageSize() : 0)
                             .build();
 
-                    return ResponseEntity.status(responseEntity.getStatusCode()).body(updatedResponse);
+                    return ResponseEntity.status(responseEntity.getStatusCode())
+                            .headers(responseEntity.getHeaders())
+                            .body(updatedResponse);
                 }
             }
 
@@ -0,0 +1,121 @@
+package com.infernokun.infernoGames.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.infernokun.infernoGames.models.Game;
+import com.infernokun.infernoGames.models.dto.GameRequest;
+import com.infernokun.infernoGames.models.enums.GameStatus;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import static java.util.Map.entry;
+
+/**
+ * RFC 7396 merge patch over a Game. Only members present in the patch are written; an explicit null
+ * clears the field, or resets it to its create-time default where the column always has a value.
+ * Identity fields (ids, IGDB/Steam links) and Steam-synced data are not patchable.
+ */
+public final class GameMergePatch {
+
+    private GameMergePatch() {
+    }
+
+    private record Field(Function<Game, Object> getter, BiConsumer<Game, GameRequest> setter) {
+    }
+
+    private static final Map<String, Field> FIELDS = Map.ofEntries(
+            entry("title", new Field(Game::getTitle,
+                    (game, patch) -> game.setTitle(required(patch.getTitle(), "title")))),
+            entry("description", new Field(Game::getDescription,
+                    (game, patch) -> game.setDescription(patch.getDescription()))),
+            entry("developer", new Field(Game::getDeveloper,
+                    (game, patch) -> game.setDeveloper(patch.getDeveloper()))),
+            entry("publisher", new Field(Game::getPublisher,
+                    (game, patch) -> game.setPublisher(patch.getPublisher()))),
+            entry("releaseYear", new Field(Game::getReleaseYear,
+                    (game, patch) -> game.setReleaseYear(patch.getReleaseYear()))),
+            entry("genre", new Field(Game::getGenre,
+                    (game, patch) -> game.setGenre(patch.getGenre()))),
+            entry("genres", new Field(Game::getGenres,
+                    (game, patch) -> game.setGenres(patch.getGenres() != null ? patch.getGenres() : new ArrayList<>()))),
+            entry("coverImageUrl", new Field(Game::getCoverImageUrl,
+                    (game, patch) -> game.setCoverImageUrl(patch.getCoverImageUrl()))),
+            entry("screenshotUrls", new Field(Game::getScreenshotUrls,
+                    (game, patch) -> game.setScreenshotUrls(patch.getScreenshotUrls() != null ? patch.getScreenshotUrls() : new ArrayList<>()))),
+            entry("platform", new Field(Game::getPlatform,
+                    (game, patch) -> game.setPlatform(patch.getPlatform()))),
+            entry("platforms", new Field(Game::getPlatforms,
+                    (game, patch) -> game.setPlatforms(patch.getPlatforms() != null ? patch.getPlatforms() : new ArrayList<>()))),
+            entry("status", new Field(Game::getStatus, GameMergePatch::applyStatus)),
+            entry("rating", new Field(Game::getRating,
+                    (game, patch) -> game.setRating(patch.getRating()))),
+            entry("playtimeHours", new Field(Game::getPlaytimeHours,
+                    (game, patch) -> game.setPlaytimeHours(patch.getPlaytimeHours() != null ? patch.getPlaytimeHours() : 0.0))),
+            entry("completionPercentage", new Field(Game::getCompletionPercentage,
+                    (game, patch) -> game.setCompletionPercentage(patch.getCompletionPercentage() != null ? patch.getCompletionPercentage() : 0))),
+            entry("startedAt", new Field(Game::getStartedAt,
+                    (game, patch) -> game.setStartedAt(patch.getStartedAt()))),
+            entry("completedAt", new Field(Game::getCompletedAt,
+                    (game, patch) -> game.setCompletedAt(patch.getCompletedAt()))),
+            entry("notes", new Field(Game::getNotes,
+                    (game, patch) -> game.setNotes(patch.getNotes()))),
+            entry("favorite", new Field(Game::getFavorite,
+                    (game, patch) -> game.setFavorite(patch.getFavorite() != null ? patch.getFavorite() : false))),
+            entry("dlc", new Field(Game::getDlc,
+                    (game, patch) -> game.setDlc(patch.getDlc() != null ? patch.getDlc() : false))),
+            entry("achievements", new Field(Game::getAchievements,
+                    (game, patch) -> game.setAchievements(patch.getAchievements() != null ? patch.getAchievements() : 0))),
+            entry("totalAchievements", new Field(Game::getTotalAchievements,
+                    (game, patch) -> game.setTotalAchievements(patch.getTotalAchievements() != null ? patch.getTotalAchievements() : 0)))
+    );
+
+    /**
+     * Members of the patch that aren't patchable Game fields
+     */
+    public static Set<String> unknownFields(JsonNode patch) {
+        Set<String> unknown = new TreeSet<>();
+        patch.fieldNames().forEachRemaining(name -> {
+            if (!FIELDS.containsKey(name)) {
+                unknown.add(name);
+            }
+        });
+        return unknown;
+    }
+
+    /**
+     * Write the members present in the patch, taking their typed values from the bound request,
+     * and return the names of the fields whose value actually changed
+     */
+    public static Set<String> apply(Game game, JsonNode patch, GameRequest values) {
+        Set<String> changed = new TreeSet<>();
+        patch.fieldNames().forEachRemaining(name -> {
+            Field field = FIELDS.get(name);
+            Object before = field.getter().apply(game);
+            field.setter().accept(game, values);
+            if (!Objects.equals(before, field.getter().apply(game))) {
+                changed.add(name);
+            }
+        });
+        return changed;
+    }
+
+    private static void applyStatus(Game game, GameRequest patch) {
+        GameStatus status = required(patch.getStatus(), "status");
+        // Same timestamp handling as a regular update
+        if (status != game.getStatus()) {
+            game.updateStatus(status);
+        }
+    }
+
+    private static <T> T required(T value, String field) {
+        if (value == null) {
+            throw new IllegalArgumentException(field + " cannot be removed");
+        }
+        return value;
+    }
+}
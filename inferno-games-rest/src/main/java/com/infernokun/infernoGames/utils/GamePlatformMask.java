@@ -0,0 +1,72 @@
+package com.infernokun.infernoGames.utils;
+
+import com.infernokun.infernoGames.models.enums.GamePlatform;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Map;
+
+/**
+ * Platform sets packed into an int using each GamePlatform's fixed bit (games.platform_mask).
+ */
+public final class GamePlatformMask {
+
+    // Platform by bit position; unassigned bits stay null and are ignored when decoding
+    private static final GamePlatform[] PLATFORMS = new GamePlatform[Integer.SIZE];
+
+    static {
+        for (GamePlatform platform : GamePlatform.values()) {
+            int bit = platform.getBit();
+            if (bit < 0 || bit >= Integer.SIZE || PLATFORMS[bit] != null) {
+                throw new IllegalStateException("Invalid or duplicate platform bit " + bit + " for " + platform);
+            }
+            PLATFORMS[bit] = platform;
+        }
+    }
+
+    private GamePlatformMask() {
+    }
+
+    public static int bit(GamePlatform platform) {
+        return 1 << platform.getBit();
+    }
+
+    public static int toMask(Collection<GamePlatform> platforms) {
+        int mask = 0;
+        if (platforms != null) {
+            for (GamePlatform platform : platforms) {
+                if (platform != null) {
+                    mask |= bit(platform);
+                }
+            }
+        }
+        return mask;
+    }
+
+    public static EnumSet<GamePlatform> toSet(Integer mask) {
+        EnumSet<GamePlatform> platforms = EnumSet.noneOf(GamePlatform.class);
+        int remaining = mask != null ? mask : 0;
+        while (remaining != 0) {
+            GamePlatform platform = PLATFORMS[Integer.numberOfTrailingZeros(remaining)];
+            if (platform != null) {
+                platforms.add(platform);
+            }
+            remaining &= remaining - 1;
+        }
+        return platforms;
+    }
+
+    /**
+     * Add count to every platform whose bit is set in the mask
+     */
+    public static void addCounts(Map<GamePlatform, Long> counts, int mask, long count) {
+        int remaining = mask;
+        while (remaining != 0) {
+            GamePlatform platform = PLATFORMS[Integer.numberOfTrailingZeros(remaining)];
+            if (platform != null) {
+                counts.merge(platform, count, Long::sum);
+            }
+            remaining &= remaining - 1;
+        }
+    }
+}
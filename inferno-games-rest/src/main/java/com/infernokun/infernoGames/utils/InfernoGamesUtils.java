@@ -1,29 +1,23 @@
 package com.infernokun.infernoGames.utils;
 
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.Base64;
+import java.util.Locale;
+import java.util.regex.Pattern;
 
 public class InfernoGamesUtils {
 
     private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern APOSTROPHES = Pattern.compile("['\u2019]");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
     public static String formatDateTime(LocalDateTime dateTime) {
         return dateTime != null ? dateTime.format(FORMATTER) : null;
     }
 
-    public static String createEtag(byte[] bytes) {
-        try {
-            MessageDigest md = MessageDigest.getInstance("MD5");
-            byte[] digest = md.digest(bytes);
-            return Base64.getEncoder().encodeToString(digest);
-        } catch (NoSuchAlgorithmException e) {
-            return String.valueOf(bytes.length);
-        }
-    }
-
     public static String truncateString(String str, int maxLength) {
         if (str == null) return null;
         return str.length() > maxLength ? str.substring(0, maxLength) + "..." : str;
@@ -35,4 +29,15 @@ public class InfernoGamesUtils {
                 .replaceAll("[^a-zA-Z0-9\\s]", "")
                 .toLowerCase();
     }
+
+    /**
+     * Canonical form of a search query: lowercase, accents and apostrophes dropped,
+     * other punctuation treated as whitespace and runs of whitespace collapsed
+     */
+    public static String normalizeSearchQuery(String query) {
+        if (query == null) return "";
+        String folded = DIACRITICS.matcher(Normalizer.normalize(query, Normalizer.Form.NFD)).replaceAll("");
+        folded = APOSTROPHES.matcher(folded.toLowerCase(Locale.ROOT)).replaceAll("");
+        return SEPARATORS.matcher(folded).replaceAll(" ").trim();
+    }
 }
@@ -0,0 +1,42 @@
+package com.infernokun.infernoGames.utils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Minimal blocking rate limiter that spaces permits evenly.
+ * Shared between worker threads so parallel fan-out still respects one request budget.
+ */
+public class RateLimiter {
+
+    private final long intervalNanos;
+    private long nextFreeSlot;
+
+    public RateLimiter(double permitsPerSecond) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive");
+        }
+        this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+        this.nextFreeSlot = System.nanoTime();
+    }
+
+    /**
+     * Block until the next permit is available
+     */
+    public void acquire() {
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            long slot = Math.max(now, nextFreeSlot);
+            nextFreeSlot = slot + intervalNanos;
+            waitNanos = slot - now;
+        }
+
+        if (waitNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -4,9 +4,11 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.infernokun.infernoGames.models.Game;
 import com.infernokun.infernoGames.models.dto.GameRequest;
+import com.infernokun.infernoGames.models.enums.ExportFormat;
 import com.infernokun.infernoGames.models.enums.GamePlatform;
 import com.infernokun.infernoGames.models.enums.GameStatus;
 import com.infernokun.infernoGames.repositories.GameRepository;
+import com.infernokun.infernoGames.services.GameExportService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -20,6 +22,8 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
@@ -117,6 +121,44 @@ class GameIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("Merge Patch Tests")
+    class MergePatchTests {
+
+        @Test
+        @DisplayName("should change only the members in the patch")
+        void mergePatch_ChangesOnlyPresentMembers() throws Exception {
+            Game game = gameRepository.save(Game.builder()
+                    .title("Patch Target")
+                    .description("Long description that should survive")
+                    .notes("Old notes")
+                    .rating(6)
+                    .status(GameStatus.NOT_STARTED)
+                    .build());
+
+            mockMvc.perform(patch("/api/games/" + game.getId())
+                            .contentType("application/merge-patch+json")
+                            .content("{\"rating\": 9, \"notes\": null, \"status\": \"IN_PROGRESS\"}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.rating", is(9)))
+                    .andExpect(jsonPath("$.data.notes").doesNotExist())
+                    .andExpect(jsonPath("$.data.startedAt").exists())
+                    .andExpect(jsonPath("$.data.title", is("Patch Target")))
+                    .andExpect(jsonPath("$.data.description", is("Long description that should survive")));
+        }
+
+        @Test
+        @DisplayName("should reject members that cannot be patched")
+        void mergePatch_RejectsUnknownMembers() throws Exception {
+            Game game = gameRepository.save(Game.builder().title("Patch Target").build());
+
+            mockMvc.perform(patch("/api/games/" + game.getId())
+                            .contentType("application/merge-patch+json")
+                            .content("{\"steamPlaytimeDeckMinutes\": 600}"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
     @Nested
     @DisplayName("Status Flow Tests")
     class StatusFlowTests {
@@ -420,6 +462,114 @@ class GameIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("Bulk Import Tests")
+    class BulkImportTests {
+
+        @Test
+        @DisplayName("should import CSV rows and report duplicates and invalid rows")
+        void importCsv_ReportsEveryRow() throws Exception {
+            gameRepository.save(Game.builder().title("Already Here").igdbId(7L).build());
+
+            String csv = """
+                    title,igdb_id,platforms,genres,rating,status
+                    "Hades, Supergiant",1113,PC;NINTENDO_SWITCH,Roguelike;Action,9,completed
+                    Already Here Again,7,,,,
+                    Too Good,,,,11,
+                    Hades Copy,1113,,,,
+                    """;
+
+            mockMvc.perform(post("/api/games/import")
+                            .contentType("text/csv")
+                            .content(csv))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.total", is(4)))
+                    .andExpect(jsonPath("$.data.imported", is(1)))
+                    .andExpect(jsonPath("$.data.duplicates", is(2)))
+                    .andExpect(jsonPath("$.data.invalid", is(1)))
+                    .andExpect(jsonPath("$.data.rows[0].status", is("IMPORTED")))
+                    .andExpect(jsonPath("$.data.rows[2].line", is(4)))
+                    .andExpect(jsonPath("$.data.rows[2].status", is("INVALID")));
+
+            Game imported = gameRepository.findByIgdbId(1113L).orElseThrow();
+            assertThat(imported.getTitle()).isEqualTo("Hades, Supergiant");
+            assertThat(imported.getPlatforms()).containsExactly(GamePlatform.PC, GamePlatform.NINTENDO_SWITCH);
+            assertThat(imported.getGenres()).containsExactly("Roguelike", "Action");
+            assertThat(imported.getStatus()).isEqualTo(GameStatus.COMPLETED);
+            assertThat(gameRepository.count()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("should reject bodies that are neither CSV nor NDJSON")
+        void importUnsupportedType_ReturnsError() throws Exception {
+            mockMvc.perform(post("/api/games/import")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("[]"))
+                    .andExpect(status().is4xxClientError());
+        }
+    }
+
+    @Nested
+    @DisplayName("Export Tests")
+    class ExportTests {
+
+        @Autowired
+        private GameExportService gameExportService;
+
+        @Test
+        @DisplayName("should stream every game as NDJSON")
+        void exportNdjson_WritesOneLinePerGame() throws Exception {
+            gameRepository.save(Game.builder().title("Hades").igdbId(1113L)
+                    .platforms(List.of(GamePlatform.PC)).genres(List.of("Roguelike")).build());
+            gameRepository.save(Game.builder().title("Celeste").build());
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            long rows = gameExportService.export(ExportFormat.NDJSON, out);
+
+            List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+            assertThat(rows).isEqualTo(2);
+            assertThat(lines).hasSize(2);
+            GameRequest first = objectMapper.readValue(lines.get(0), GameRequest.class);
+            assertThat(first.getTitle()).isEqualTo("Hades");
+            assertThat(first.getPlatforms()).containsExactly(GamePlatform.PC);
+            assertThat(first.getGenres()).containsExactly("Roguelike");
+        }
+
+        @Test
+        @DisplayName("should stream CSV that the import accepts")
+        void exportCsv_RoundTripsThroughImport() throws Exception {
+            gameRepository.save(Game.builder().title("Hades, Supergiant").igdbId(1113L)
+                    .platforms(List.of(GamePlatform.PC, GamePlatform.NINTENDO_SWITCH)).build());
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            gameExportService.export(ExportFormat.CSV, out);
+            gameRepository.deleteAll();
+
+            mockMvc.perform(post("/api/games/import")
+                            .contentType("text/csv")
+                            .content(out.toByteArray()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.imported", is(1)));
+
+            Game restored = gameRepository.findByIgdbId(1113L).orElseThrow();
+            assertThat(restored.getTitle()).isEqualTo("Hades, Supergiant");
+            assertThat(restored.getPlatforms()).containsExactly(GamePlatform.PC, GamePlatform.NINTENDO_SWITCH);
+        }
+
+        @Test
+        @DisplayName("GET /api/games/export should stream an attachment")
+        void exportEndpoint_StreamsAttachment() throws Exception {
+            MvcResult result = mockMvc.perform(get("/api/games/export").param("format", "CSV"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("Content-Disposition", containsString("inferno-games.csv")))
+                    .andExpect(content().string(startsWith(String.join(",", GameExportService.CSV_COLUMNS))));
+        }
+    }
+
     @Nested
     @DisplayName("Cache Tests")
     class CacheTests {
@@ -497,4 +647,43 @@ class GameIntegrationTest {
                     "https://example.com/1.jpg", "https://example.com/2.jpg");
         }
     }
+
+    @Nested
+    @DisplayName("Conditional GET Tests")
+    class ConditionalGetTests {
+
+        @Test
+        @DisplayName("a write should move the library and game ETags so the next conditional GET refetches")
+        void writeThenConditionalGet() throws Exception {
+            Game game = gameRepository.save(Game.builder()
+                    .title("ETag Game")
+                    .platform(GamePlatform.PC)
+                    .status(GameStatus.NOT_STARTED)
+                    .build());
+
+            String libraryEtag = mockMvc.perform(get("/api/games"))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getHeader("ETag");
+            String gameEtag = mockMvc.perform(get("/api/games/" + game.getId()))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getHeader("ETag");
+
+            mockMvc.perform(get("/api/games").header("If-None-Match", libraryEtag))
+                    .andExpect(status().isNotModified());
+            mockMvc.perform(get("/api/games/" + game.getId()).header("If-None-Match", gameEtag))
+                    .andExpect(status().isNotModified());
+
+            mockMvc.perform(post("/api/games/" + game.getId() + "/favorite"))
+                    .andExpect(status().isOk());
+
+            mockMvc.perform(get("/api/games").header("If-None-Match", libraryEtag))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", not(libraryEtag)))
+                    .andExpect(jsonPath("$.data[0].favorite", is(true)));
+            mockMvc.perform(get("/api/games/" + game.getId()).header("If-None-Match", gameEtag))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", not(gameEtag)))
+                    .andExpect(jsonPath("$.data.favorite", is(true)));
+        }
+    }
 }
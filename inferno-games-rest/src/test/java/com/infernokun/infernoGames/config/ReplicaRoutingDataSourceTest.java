@@ -0,0 +1,168 @@
+package com.infernokun.infernoGames.config;
+
+import com.infernokun.infernoGames.config.ReplicaRoutingDataSource.Target;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReplicaRoutingDataSource Tests")
+class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica;
+
+    @Mock
+    private JdbcTemplate replicaJdbcTemplate;
+
+    @Mock
+    private Connection primaryConnection;
+
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() {
+        routing = new ReplicaRoutingDataSource(primary, replica, replicaJdbcTemplate, Duration.ofSeconds(1));
+        routing.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Nested
+    @DisplayName("Replica Health")
+    class ReplicaHealthTests {
+
+        @Test
+        @DisplayName("read-write transactions should always use the primary")
+        void readWrite_UsesPrimary() {
+            replicaLag(10.0);
+
+            assertThat(routing.determineCurrentLookupKey()).isEqualTo(Target.PRIMARY);
+        }
+
+        @Test
+        @DisplayName("read-only transactions should use a replica within the lag limit")
+        void readOnly_UsesHealthyReplica() {
+            replicaLag(10.0);
+
+            assertThat(readOnlyTarget()).isEqualTo(Target.REPLICA);
+        }
+
+        @Test
+        @DisplayName("a lagging replica should leave reads on the primary")
+        void readOnly_LaggingReplica() {
+            replicaLag(5_000.0);
+
+            assertThat(routing.isReplicaUsable()).isFalse();
+            assertThat(readOnlyTarget()).isEqualTo(Target.PRIMARY);
+        }
+
+        @Test
+        @DisplayName("an unreachable or disconnected replica should leave reads on the primary")
+        void readOnly_UnusableReplica() {
+            replicaLag(10.0);
+            doThrow(new IllegalStateException("connection refused"))
+                    .when(replicaJdbcTemplate).queryForObject(ReplicaRoutingDataSource.LAG_SQL, Double.class);
+            routing.checkReplicaLag();
+
+            assertThat(readOnlyTarget()).isEqualTo(Target.PRIMARY);
+
+            // No WAL receiver: the lag query answers null
+            replicaLag(null);
+
+            assertThat(readOnlyTarget()).isEqualTo(Target.PRIMARY);
+        }
+    }
+
+    @Nested
+    @DisplayName("Recent Writes")
+    class RecentWriteTests {
+
+        @BeforeEach
+        void setUp() throws SQLException {
+            replicaLag(10.0);
+            when(primary.getConnection()).thenReturn(primaryConnection);
+        }
+
+        @Test
+        @DisplayName("a committed write should hold reads on the primary for the lag window")
+        void committedWrite_HoldsReadsOnPrimary() throws SQLException {
+            TransactionSynchronization commit = readWriteTransaction("UPDATE games SET favorite = true WHERE id = ?");
+
+            assertThat(readOnlyTarget()).isEqualTo(Target.REPLICA);
+
+            commit.afterCommit();
+
+            assertThat(readOnlyTarget()).isEqualTo(Target.PRIMARY);
+        }
+
+        @Test
+        @DisplayName("read-write transactions that only read should not hold reads on the primary")
+        void readOnlyWork_KeepsReplica() throws SQLException {
+            readWriteTransaction("SELECT * FROM games WHERE id = ?").afterCommit();
+
+            assertThat(readOnlyTarget()).isEqualTo(Target.REPLICA);
+        }
+
+        @Test
+        @DisplayName("a rolled back write should not hold reads on the primary")
+        void rolledBackWrite_KeepsReplica() throws SQLException {
+            readWriteTransaction("/* insert Game */ insert into games (title) values (?)")
+                    .afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+            assertThat(readOnlyTarget()).isEqualTo(Target.REPLICA);
+        }
+
+        /**
+         * Run one statement on a read-write connection and return the transaction's synchronization
+         */
+        private TransactionSynchronization readWriteTransaction(String sql) throws SQLException {
+            TransactionSynchronizationManager.initSynchronization();
+            routing.getConnection().prepareStatement(sql);
+            verify(primaryConnection).prepareStatement(sql);
+
+            TransactionSynchronization synchronization = TransactionSynchronizationManager.getSynchronizations().getFirst();
+            TransactionSynchronizationManager.clearSynchronization();
+            return synchronization;
+        }
+    }
+
+    private void replicaLag(Double lagMillis) {
+        doReturn(lagMillis).when(replicaJdbcTemplate).queryForObject(ReplicaRoutingDataSource.LAG_SQL, Double.class);
+        routing.checkReplicaLag();
+    }
+
+    private Object readOnlyTarget() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        try {
+            return routing.determineCurrentLookupKey();
+        } finally {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        }
+    }
+}
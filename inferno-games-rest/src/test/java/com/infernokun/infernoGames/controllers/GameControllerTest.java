@@ -3,10 +3,24 @@ package com.infernokun.infernoGames.controllers;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.infernokun.infernoGames.models.Game;
+import com.infernokun.infernoGames.models.dto.GameListQuery;
 import com.infernokun.infernoGames.models.dto.GameRequest;
+import com.infernokun.infernoGames.models.dto.GameSummary;
 import com.infernokun.infernoGames.models.enums.GamePlatform;
 import com.infernokun.infernoGames.models.enums.GameStatus;
+import com.infernokun.infernoGames.models.enums.GenreMatch;
+import com.infernokun.infernoGames.services.GameChangeTracker;
+import com.infernokun.infernoGames.services.GameExportService;
+import com.infernokun.infernoGames.services.GameImportService;
+import com.infernokun.infernoGames.services.GameSearchService;
+import com.infernokun.infernoGames.services.GameSearchService.SearchHit;
+import com.infernokun.infernoGames.services.GameSearchService.SearchPage;
 import com.infernokun.infernoGames.services.GameService;
+import com.infernokun.infernoGames.services.IgdbTypeaheadService;
+import com.infernokun.infernoGames.services.IgdbTypeaheadService.TypeaheadResponse;
+import com.infernokun.infernoGames.services.SteamAchievementSyncService;
+import com.infernokun.infernoGames.services.SteamGenreEnrichmentService;
+import com.infernokun.infernoGames.services.SteamSyncScheduler;
 import com.infernokun.infernoGames.services.IGDBService.IGDBGameDto;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,9 +31,11 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -38,6 +54,30 @@ class GameControllerTest {
     @MockitoBean
     private GameService gameService;
 
+    @MockitoBean
+    private SteamSyncScheduler steamSyncScheduler;
+
+    @MockitoBean
+    private SteamAchievementSyncService steamAchievementSyncService;
+
+    @MockitoBean
+    private SteamGenreEnrichmentService steamGenreEnrichmentService;
+
+    @MockitoBean
+    private GameSearchService gameSearchService;
+
+    @MockitoBean
+    private IgdbTypeaheadService igdbTypeaheadService;
+
+    @MockitoBean
+    private GameImportService gameImportService;
+
+    @MockitoBean
+    private GameExportService gameExportService;
+
+    @MockitoBean
+    private GameChangeTracker gameChangeTracker;
+
     private ObjectMapper objectMapper;
     private Game testGame;
     private GameRequest testRequest;
@@ -90,7 +130,7 @@ class GameControllerTest {
         @DisplayName("GET /api/games should return all games")
         void getAllGames_ReturnsAllGames() throws Exception {
             Game game2 = Game.builder().id(2L).title("Another Game").build();
-            when(gameService.getAllGames()).thenReturn(List.of(testGame, game2));
+            when(gameService.getAllGames()).thenReturn(List.of(GameSummary.from(testGame), GameSummary.from(game2)));
 
             mockMvc.perform(get("/api/games"))
                     .andExpect(status().isOk())
@@ -111,6 +151,39 @@ class GameControllerTest {
                     .andExpect(jsonPath("$.data", hasSize(0)));
         }
 
+        @Test
+        @DisplayName("GET /api/games should tag the response with the library ETag")
+        void getAllGames_SetsEtag() throws Exception {
+            when(gameChangeTracker.libraryEtag()).thenReturn("W/\"games-1-5\"");
+            when(gameService.getAllGames()).thenReturn(List.of(GameSummary.from(testGame)));
+
+            mockMvc.perform(get("/api/games"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", "W/\"games-1-5\""));
+        }
+
+        @Test
+        @DisplayName("GET /api/games should answer a matching If-None-Match with 304 without reading")
+        void getAllGames_NotModified() throws Exception {
+            when(gameChangeTracker.libraryEtag()).thenReturn("W/\"games-1-5\"");
+
+            mockMvc.perform(get("/api/games").header("If-None-Match", "W/\"games-1-5\""))
+                    .andExpect(status().isNotModified());
+
+            verifyNoInteractions(gameService);
+        }
+
+        @Test
+        @DisplayName("GET /api/games/{id} should answer a matching If-None-Match with 304 without reading")
+        void getGameById_NotModified() throws Exception {
+            when(gameChangeTracker.gameEtag(1L)).thenReturn("W/\"game-1-1-3\"");
+
+            mockMvc.perform(get("/api/games/1").header("If-None-Match", "W/\"game-1-1-3\""))
+                    .andExpect(status().isNotModified());
+
+            verifyNoInteractions(gameService);
+        }
+
         @Test
         @DisplayName("GET /api/games/{id} should return game by id")
         void getGameById_ReturnsGame() throws Exception {
@@ -227,7 +300,7 @@ class GameControllerTest {
         @Test
         @DisplayName("GET /api/games/search should search games by query")
         void searchGames_ReturnsResults() throws Exception {
-            when(gameService.searchGames("Test")).thenReturn(List.of(testGame));
+            when(gameService.searchGames("Test", 50)).thenReturn(List.of(GameSummary.from(testGame)));
 
             mockMvc.perform(get("/api/games/search")
                             .param("query", "Test"))
@@ -235,31 +308,60 @@ class GameControllerTest {
                     .andExpect(jsonPath("$.data", hasSize(1)))
                     .andExpect(jsonPath("$.data[0].title", is("Test Game")));
 
-            verify(gameService).searchGames("Test");
+            verify(gameService).searchGames("Test", 50);
+        }
+
+        @Test
+        @DisplayName("GET /api/games/search/fulltext should return ranked hits")
+        void fullTextSearch_ReturnsRankedHits() throws Exception {
+            SearchPage page = SearchPage.builder()
+                    .items(List.of(SearchHit.builder()
+                            .game(GameSummary.from(testGame))
+                            .rank(0.6)
+                            .highlight("<mark>Test</mark> Game")
+                            .build()))
+                    .totalCount(1)
+                    .page(0)
+                    .size(20)
+                    .fullText(true)
+                    .build();
+            when(gameSearchService.search("test", 0, 20)).thenReturn(page);
+
+            mockMvc.perform(get("/api/games/search/fulltext")
+                            .param("query", "test"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.items", hasSize(1)))
+                    .andExpect(jsonPath("$.data.items[0].game.title", is("Test Game")))
+                    .andExpect(jsonPath("$.data.items[0].highlight", is("<mark>Test</mark> Game")))
+                    .andExpect(jsonPath("$.totalCount", is(1)));
         }
 
         @Test
         @DisplayName("GET /api/games/search/advanced should search with multiple criteria")
         void advancedSearch_UsesAllCriteria() throws Exception {
-            when(gameService.advancedSearch("Test", GameStatus.IN_PROGRESS, GamePlatform.PC, "Action"))
-                    .thenReturn(List.of(testGame));
+            when(gameService.advancedSearch("Test", GameStatus.IN_PROGRESS, GamePlatform.PC, "Action",
+                    List.of("RPG", "Shooter"), GenreMatch.ALL, 50))
+                    .thenReturn(List.of(GameSummary.from(testGame)));
 
             mockMvc.perform(get("/api/games/search/advanced")
                             .param("title", "Test")
                             .param("status", "IN_PROGRESS")
                             .param("platform", "PC")
-                            .param("genre", "Action"))
+                            .param("genre", "Action")
+                            .param("genres", "RPG", "Shooter")
+                            .param("genreMatch", "ALL"))
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.data", hasSize(1)));
 
-            verify(gameService).advancedSearch("Test", GameStatus.IN_PROGRESS, GamePlatform.PC, "Action");
+            verify(gameService).advancedSearch("Test", GameStatus.IN_PROGRESS, GamePlatform.PC, "Action",
+                    List.of("RPG", "Shooter"), GenreMatch.ALL, 50);
         }
 
         @Test
         @DisplayName("GET /api/games/search/advanced should work with partial criteria")
         void advancedSearch_WorksWithPartialCriteria() throws Exception {
-            when(gameService.advancedSearch(null, GameStatus.COMPLETED, null, null))
-                    .thenReturn(List.of(testGame));
+            when(gameService.advancedSearch(null, GameStatus.COMPLETED, null, null, null, GenreMatch.ANY, 50))
+                    .thenReturn(List.of(GameSummary.from(testGame)));
 
             mockMvc.perform(get("/api/games/search/advanced")
                             .param("status", "COMPLETED"))
@@ -271,7 +373,7 @@ class GameControllerTest {
         @DisplayName("GET /api/games/status/{status} should return games by status")
         void getGamesByStatus_ReturnsFilteredGames() throws Exception {
             testGame.setStatus(GameStatus.IN_PROGRESS);
-            when(gameService.getGamesByStatus(GameStatus.IN_PROGRESS)).thenReturn(List.of(testGame));
+            when(gameService.getGamesByStatus(GameStatus.IN_PROGRESS, 50)).thenReturn(List.of(GameSummary.from(testGame)));
 
             mockMvc.perform(get("/api/games/status/IN_PROGRESS"))
                     .andExpect(status().isOk())
@@ -279,10 +381,23 @@ class GameControllerTest {
                     .andExpect(jsonPath("$.data[0].status", is("IN_PROGRESS")));
         }
 
+        @Test
+        @DisplayName("GET /api/games/status/{status} should pass the limit and report the capped page size")
+        void getGamesByStatus_ReportsCappedPageSize() throws Exception {
+            when(gameService.getGamesByStatus(GameStatus.NOT_STARTED, 5000)).thenReturn(List.of());
+
+            mockMvc.perform(get("/api/games/status/NOT_STARTED")
+                            .param("limit", "5000"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.pageSize", is(GameListQuery.MAX_PAGE_SIZE)));
+
+            verify(gameService).getGamesByStatus(GameStatus.NOT_STARTED, 5000);
+        }
+
         @Test
         @DisplayName("GET /api/games/platform/{platform} should return games by platform")
         void getGamesByPlatform_ReturnsFilteredGames() throws Exception {
-            when(gameService.getGamesByPlatform(GamePlatform.PC)).thenReturn(List.of(testGame));
+            when(gameService.getGamesByPlatform(GamePlatform.PC, 50)).thenReturn(List.of(GameSummary.from(testGame)));
 
             mockMvc.perform(get("/api/games/platform/PC"))
                     .andExpect(status().isOk())
@@ -294,7 +409,7 @@ class GameControllerTest {
         @DisplayName("GET /api/games/favorites should return favorite games")
         void getFavoriteGames_ReturnsFavorites() throws Exception {
             testGame.setFavorite(true);
-            when(gameService.getFavoriteGames()).thenReturn(List.of(testGame));
+            when(gameService.getFavoriteGames(50)).thenReturn(List.of(GameSummary.from(testGame)));
 
             mockMvc.perform(get("/api/games/favorites"))
                     .andExpect(status().isOk())
@@ -305,7 +420,7 @@ class GameControllerTest {
         @Test
         @DisplayName("GET /api/games/recent should return recently added games")
         void getRecentlyAddedGames_ReturnsRecent() throws Exception {
-            when(gameService.getRecentlyAddedGames()).thenReturn(List.of(testGame));
+            when(gameService.getRecentlyAddedGames()).thenReturn(List.of(GameSummary.from(testGame)));
 
             mockMvc.perform(get("/api/games/recent"))
                     .andExpect(status().isOk())
@@ -318,7 +433,7 @@ class GameControllerTest {
         @DisplayName("GET /api/games/completed should return recently completed games")
         void getRecentlyCompletedGames_ReturnsCompleted() throws Exception {
             testGame.setStatus(GameStatus.COMPLETED);
-            when(gameService.getRecentlyCompletedGames()).thenReturn(List.of(testGame));
+            when(gameService.getRecentlyCompletedGames()).thenReturn(List.of(GameSummary.from(testGame)));
 
             mockMvc.perform(get("/api/games/completed"))
                     .andExpect(status().isOk())
@@ -387,6 +502,26 @@ class GameControllerTest {
             verify(gameService).searchIGDB("test");
         }
 
+        @Test
+        @DisplayName("GET /api/games/igdb/typeahead should return suggestions for the client")
+        void typeaheadIGDB_ReturnsSuggestions() throws Exception {
+            IGDBGameDto igdbGame = IGDBGameDto.builder().igdbId(1025L).name("The Legend of Zelda").build();
+            when(igdbTypeaheadService.suggest("Zeld", "tab-1", null)).thenReturn(CompletableFuture.completedFuture(
+                    TypeaheadResponse.builder().query("zeld").results(List.of(igdbGame)).cached(true).build()));
+
+            MvcResult result = mockMvc.perform(get("/api/games/igdb/typeahead")
+                            .param("query", "Zeld")
+                            .header("X-Client-Id", "tab-1"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.query", is("zeld")))
+                    .andExpect(jsonPath("$.data.cached", is(true)))
+                    .andExpect(jsonPath("$.data.results[0].name", is("The Legend of Zelda")));
+        }
+
         @Test
         @DisplayName("GET /api/games/igdb/{igdbId} should return IGDB game")
         void getIGDBGameById_ReturnsGame() throws Exception {
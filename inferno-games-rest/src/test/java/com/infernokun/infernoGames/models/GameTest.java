@@ -231,6 +231,15 @@ class GameTest {
             assertThat(game.getPlatforms()).containsExactly(GamePlatform.NINTENDO_SWITCH);
         }
 
+        @Test
+        @DisplayName("setPlatforms should pack each platform's fixed bit into the mask")
+        void setPlatforms_UsesFixedBits() {
+            game.setPlatforms(List.of(GamePlatform.PC, GamePlatform.NINTENDO_SWITCH, GamePlatform.OTHER));
+
+            // Persisted values: these must never change
+            assertThat(game.getPlatformMask()).isEqualTo(1 | 1 << 7 | 1 << 12);
+        }
+
         @Test
         @DisplayName("setScreenshotUrls should update screenshot URLs")
         void setScreenshotUrls_UpdatesScreenshots() {
@@ -1,8 +1,16 @@
 package com.infernokun.infernoGames.repositories;
 
 import com.infernokun.infernoGames.models.Game;
+import com.infernokun.infernoGames.models.dto.GameCursor;
+import com.infernokun.infernoGames.models.dto.GameListQuery;
+import com.infernokun.infernoGames.models.dto.GameSummary;
 import com.infernokun.infernoGames.models.enums.GamePlatform;
+import com.infernokun.infernoGames.models.enums.GameSort;
 import com.infernokun.infernoGames.models.enums.GameStatus;
+import com.infernokun.infernoGames.models.enums.GenreMatch;
+import com.infernokun.infernoGames.services.GameService;
+import com.infernokun.infernoGames.utils.GamePlatformMask;
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -10,11 +18,14 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -291,6 +302,23 @@ class GameRepositoryTest {
             assertThat(found).hasSize(1);
             assertThat(found.getFirst().getTitle()).isEqualTo("Alpha Game");
         }
+
+        @Test
+        @DisplayName("searchSummariesByGenres should match any or all of the genres")
+        void searchSummariesByGenres_MatchesAnyOrAll() {
+            game1.setGenres(new ArrayList<>(List.of("Action", "Shooter")));
+            game2.setGenres(new ArrayList<>(List.of("Action", "RPG")));
+            entityManager.flush();
+
+            List<GameSummary> any = gameRepository.searchSummariesByGenres(
+                    null, null, null, null, List.of("Shooter", "RPG"), GenreMatch.ANY, 50);
+            List<GameSummary> all = gameRepository.searchSummariesByGenres(
+                    null, null, null, null, List.of("Action", "RPG"), GenreMatch.ALL, 50);
+
+            assertThat(any).extracting(GameSummary::getTitle).containsExactlyInAnyOrder("Alpha Game", "Beta Game");
+            assertThat(all).extracting(GameSummary::getTitle).containsExactly("Beta Game");
+            assertThat(all).extracting(GameSummary::getIgdbId).containsExactly(1002L);
+        }
     }
 
     @Nested
@@ -365,6 +393,25 @@ class GameRepositoryTest {
             assertThat(page.getTotalElements()).isEqualTo(2);
             assertThat(page.getTotalPages()).isEqualTo(2);
         }
+
+        @Test
+        @DisplayName("owned platform queries should filter by bitmask")
+        void ownedPlatformQueries_FilterByBitmask() {
+            game1.setPlatforms(List.of(GamePlatform.PC, GamePlatform.NINTENDO_SWITCH));
+            game2.setPlatforms(List.of(GamePlatform.PLAYSTATION_5, GamePlatform.NINTENDO_SWITCH));
+            entityManager.flush();
+            entityManager.clear();
+
+            int ps5OrPc = GamePlatformMask.toMask(List.of(GamePlatform.PLAYSTATION_5, GamePlatform.PC));
+            int ps5AndSwitch = GamePlatformMask.toMask(List.of(GamePlatform.PLAYSTATION_5, GamePlatform.NINTENDO_SWITCH));
+
+            assertThat(gameRepository.findSummariesOnAnyPlatform(ps5OrPc, Limit.unlimited()))
+                    .extracting(GameSummary::getTitle).containsExactlyInAnyOrder("Alpha Game", "Beta Game");
+            assertThat(gameRepository.findSummariesOnAllPlatforms(ps5AndSwitch, Limit.unlimited()))
+                    .extracting(GameSummary::getTitle).containsExactly("Beta Game");
+            assertThat(gameRepository.findById(game2.getId()).orElseThrow().getPlatforms())
+                    .containsExactly(GamePlatform.PLAYSTATION_5, GamePlatform.NINTENDO_SWITCH);
+        }
     }
 
     @Nested
@@ -537,6 +584,156 @@ class GameRepositoryTest {
             assertThat(page.getContent()).hasSize(3);
             assertThat(page.getNumber()).isEqualTo(1);
         }
+
+        @Test
+        @DisplayName("findKeysetPage should continue after the cursor by title")
+        void findKeysetPage_ByTitle_ContinuesAfterCursor() {
+            GameListQuery query = GameListQuery.builder().sort(GameSort.TITLE).build();
+
+            List<GameSummary> first = gameRepository.findKeysetPage(query, null, 2);
+            GameCursor cursor = GameCursor.after(first.getLast(), GameSort.TITLE, Sort.Direction.ASC);
+            List<GameSummary> second = gameRepository.findKeysetPage(query, cursor, 2);
+
+            assertThat(first).extracting(GameSummary::getTitle).containsExactly("Alpha Game", "Beta Game");
+            assertThat(second).extracting(GameSummary::getTitle).containsExactly("Gamma Test");
+            assertThat(gameRepository.countMatching(query)).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("findKeysetPage should sort unrated games last and page through them")
+        void findKeysetPage_ByRating_PutsNullsLast() {
+            GameListQuery query = GameListQuery.builder().sort(GameSort.RATING).build();
+
+            List<GameSummary> first = gameRepository.findKeysetPage(query, null, 2);
+            GameCursor cursor = GameCursor.decode(
+                    GameCursor.after(first.getLast(), GameSort.RATING, Sort.Direction.DESC).encode());
+            List<GameSummary> second = gameRepository.findKeysetPage(query, cursor, 2);
+
+            assertThat(first).extracting(GameSummary::getRating).containsExactly(9, 8);
+            assertThat(second).extracting(GameSummary::getTitle).containsExactly("Gamma Test");
+        }
+
+        @Test
+        @DisplayName("findKeysetPage should run from rated into unrated games and page within them by id")
+        void findKeysetPage_ByRating_ContinuesThroughNulls() {
+            Game unrated = entityManager.persist(Game.builder()
+                    .title("Delta Game")
+                    .platform(GamePlatform.PC)
+                    .status(GameStatus.NOT_STARTED)
+                    .build());
+            entityManager.flush();
+            GameListQuery query = GameListQuery.builder().sort(GameSort.RATING).build();
+
+            List<GameSummary> first = gameRepository.findKeysetPage(query, null, 3);
+            GameCursor cursor = GameCursor.decode(
+                    GameCursor.after(first.getLast(), GameSort.RATING, Sort.Direction.DESC).encode());
+            List<GameSummary> second = gameRepository.findKeysetPage(query, cursor, 3);
+
+            // Unrated games follow in descending id order
+            assertThat(first).extracting(GameSummary::getRating).containsExactly(9, 8, null);
+            assertThat(first.getLast().getId()).isEqualTo(unrated.getId());
+            assertThat(second).extracting(GameSummary::getTitle).containsExactly("Gamma Test");
+        }
+
+        @Test
+        @DisplayName("findKeysetPage should apply filters in both the rated and unrated parts")
+        void findKeysetPage_ByRating_Filtered() {
+            GameListQuery query = GameListQuery.builder()
+                    .sort(GameSort.RATING)
+                    .status(GameStatus.NOT_STARTED)
+                    .build();
+
+            assertThat(gameRepository.findKeysetPage(query, null, 10))
+                    .extracting(GameSummary::getStatus)
+                    .containsOnly(GameStatus.NOT_STARTED)
+                    .hasSize((int) gameRepository.countMatching(query));
+        }
+    }
+
+    @Nested
+    @DisplayName("Atomic Updates")
+    class AtomicUpdates {
+
+        @Test
+        @DisplayName("toggleFavorite should flip the flag and bump the version")
+        void toggleFavorite_FlipsAndBumpsVersion() {
+            Long version = game2.getVersion();
+
+            Game toggled = gameRepository.toggleFavorite(game2.getId()).orElseThrow();
+            boolean favoriteAfterFirstToggle = toggled.getFavorite();
+            Game toggledBack = gameRepository.toggleFavorite(game2.getId()).orElseThrow();
+
+            assertThat(favoriteAfterFirstToggle).isTrue();
+            assertThat(toggledBack.getFavorite()).isFalse();
+            assertThat(toggledBack.getVersion()).isEqualTo(version + 2);
+        }
+
+        @Test
+        @DisplayName("updateStatus should stamp startedAt only on the first IN_PROGRESS")
+        void updateStatus_InProgress_KeepsExistingStartedAt() {
+            LocalDateTime startedAt = game2.getStartedAt();
+
+            Game started = gameRepository.updateStatus(game1.getId(), GameStatus.IN_PROGRESS).orElseThrow();
+            Game restarted = gameRepository.updateStatus(game2.getId(), GameStatus.IN_PROGRESS).orElseThrow();
+
+            assertThat(started.getStatus()).isEqualTo(GameStatus.IN_PROGRESS);
+            assertThat(started.getStartedAt()).isNotNull();
+            assertThat(restarted.getStartedAt()).isEqualToIgnoringNanos(startedAt);
+        }
+
+        @Test
+        @DisplayName("updateStatus should stamp completedAt and full completion on COMPLETED")
+        void updateStatus_Completed_SetsCompletion() {
+            Game completed = gameRepository.updateStatus(game2.getId(), GameStatus.COMPLETED).orElseThrow();
+
+            assertThat(completed.getStatus()).isEqualTo(GameStatus.COMPLETED);
+            assertThat(completed.getCompletedAt()).isNotNull();
+            assertThat(completed.getCompletionPercentage()).isEqualTo(100);
+        }
+
+        @Test
+        @DisplayName("atomic updates should return empty for unknown ids")
+        void atomicUpdates_UnknownId_ReturnEmpty() {
+            assertThat(gameRepository.toggleDlc(999_999L)).isEmpty();
+            assertThat(gameRepository.updateStatus(999_999L, GameStatus.COMPLETED)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Lazy Detail Columns")
+    class LazyDetailColumns {
+
+        @BeforeEach
+        void detach() {
+            entityManager.clear();
+        }
+
+        @Test
+        @DisplayName("list loads should leave the details group unloaded")
+        void listLoad_SkipsDetailsGroup() {
+            List<Game> games = gameRepository.findByPlatform(GamePlatform.PC);
+
+            assertThat(games).hasSize(2).allSatisfy(game -> {
+                assertThat(Hibernate.isPropertyInitialized(game, "title")).isTrue();
+                assertThat(Hibernate.isPropertyInitialized(game, "description")).isFalse();
+                assertThat(Hibernate.isPropertyInitialized(game, "screenshotUrls")).isFalse();
+                assertThat(Hibernate.isPropertyInitialized(game, "notes")).isFalse();
+            });
+        }
+
+        @Test
+        @DisplayName("detail loads should initialize the whole details group")
+        void getGameById_InitializesDetailsGroup() {
+            // getGameById only needs the repository; the rest of the service is unused here
+            GameService gameService = new GameService(gameRepository, null, null, null, null, null, null, null);
+
+            Game game = gameService.getGameById(game1.getId());
+
+            assertThat(Hibernate.isPropertyInitialized(game, "description")).isTrue();
+            assertThat(Hibernate.isPropertyInitialized(game, "screenshotUrls")).isTrue();
+            assertThat(Hibernate.isPropertyInitialized(game, "notes")).isTrue();
+            assertThat(game.getDescription()).isEqualTo("First test game");
+        }
     }
 
     @Nested
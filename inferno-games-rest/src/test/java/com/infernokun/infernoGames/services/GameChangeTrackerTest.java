@@ -0,0 +1,96 @@
+package com.infernokun.infernoGames.services;
+
+import com.infernokun.infernoGames.config.PostgresSchemaInitializer;
+import com.infernokun.infernoGames.models.Game;
+import com.infernokun.infernoGames.models.dto.GameLibraryVersion;
+import com.infernokun.infernoGames.repositories.GameRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GameChangeTracker Tests")
+class GameChangeTrackerTest {
+
+    @Mock
+    private GameRepository gameRepository;
+
+    @Mock
+    private PostgresSchemaInitializer schema;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private Cache gameCache;
+
+    @Mock
+    private jakarta.persistence.Cache secondLevelCache;
+
+    @InjectMocks
+    private GameChangeTracker gameChangeTracker;
+
+    @Test
+    @DisplayName("libraryEtag should read the change counter when it is in place")
+    void libraryEtag_ReadsCounter() {
+        when(schema.isLibraryVersionReady()).thenReturn(true);
+        when(gameRepository.findLibraryChangeCount()).thenReturn(42L);
+
+        assertThat(gameChangeTracker.libraryEtag()).isEqualTo("W/\"games-42\"");
+        verify(gameRepository, never()).findLibraryVersion();
+    }
+
+    @Test
+    @DisplayName("libraryEtag should fall back to the aggregate without the counter")
+    void libraryEtag_FallsBackToAggregate() {
+        when(schema.isLibraryVersionReady()).thenReturn(false);
+        when(gameRepository.findLibraryVersion()).thenReturn(new GameLibraryVersion(3L, 7L, 12L));
+
+        assertThat(gameChangeTracker.libraryEtag()).isEqualTo("W/\"games-3-7-12\"");
+    }
+
+    @Test
+    @DisplayName("gameEtag should use the cached game's version without a query")
+    void gameEtag_UsesCachedGame() {
+        when(cacheManager.getCache("game")).thenReturn(gameCache);
+        when(gameCache.get(1L, Game.class)).thenReturn(Game.builder().id(1L).version(4L).build());
+
+        assertThat(gameChangeTracker.gameEtag(1L)).isEqualTo("W/\"game-1-4\"");
+        verifyNoInteractions(gameRepository, entityManagerFactory);
+    }
+
+    @Test
+    @DisplayName("gameEtag should read the version by id when no cache holds the game")
+    void gameEtag_FallsBackToVersionQuery() {
+        when(cacheManager.getCache("game")).thenReturn(gameCache);
+        when(entityManagerFactory.getCache()).thenReturn(secondLevelCache);
+        when(secondLevelCache.contains(Game.class, 1L)).thenReturn(false);
+        when(gameRepository.findVersionById(1L)).thenReturn(Optional.of(5L));
+
+        assertThat(gameChangeTracker.gameEtag(1L)).isEqualTo("W/\"game-1-5\"");
+        verify(gameRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("gameEtag should be null for an unknown game")
+    void gameEtag_NullWhenMissing() {
+        when(entityManagerFactory.getCache()).thenReturn(secondLevelCache);
+        when(gameRepository.findVersionById(9L)).thenReturn(Optional.empty());
+
+        assertThat(gameChangeTracker.gameEtag(9L)).isNull();
+    }
+}
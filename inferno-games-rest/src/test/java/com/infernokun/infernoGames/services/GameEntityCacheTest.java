@@ -0,0 +1,131 @@
+package com.infernokun.infernoGames.services;
+
+import com.infernokun.infernoGames.config.InfernoGamesConfig;
+import com.infernokun.infernoGames.models.Game;
+import com.infernokun.infernoGames.models.enums.GamePlatform;
+import com.infernokun.infernoGames.models.enums.GameStatus;
+import com.infernokun.infernoGames.repositories.GameRepository;
+import com.infernokun.infernoGames.services.SteamService.SteamAchievementProgress;
+import com.infernokun.infernoGames.services.SteamService.SteamGameInfo;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Runs with the second-level and query caches on, configured as in the local profile
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=true",
+        "spring.jpa.properties.hibernate.cache.region.factory_class=jcache",
+        "spring.jpa.properties.hibernate.javax.cache.provider=org.ehcache.jsr107.EhcacheCachingProvider",
+        "spring.jpa.properties.hibernate.javax.cache.uri=classpath:ehcache.xml",
+        "spring.jpa.properties.hibernate.javax.cache.missing_cache_strategy=fail",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@ActiveProfiles("test")
+@Import(GameEntityCache.class)
+@DisplayName("GameEntityCache Tests")
+class GameEntityCacheTest {
+
+    private static final String STEAM_ID = "76561198000000001";
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private GameEntityCache gameEntityCache;
+
+    private Statistics statistics;
+    private Game game;
+
+    @BeforeEach
+    void setUp() {
+        game = entityManager.persistFlushFind(Game.builder()
+                .title("Hades")
+                .platform(GamePlatform.PC)
+                .status(GameStatus.IN_PROGRESS)
+                .igdbId(1001L)
+                .steamAppId("10")
+                .achievements(1)
+                .totalAchievements(10)
+                .build());
+        entityManager.clear();
+
+        entityManagerFactory.getCache().evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("a second load by id should be served from the games region")
+    void findById_HitsEntityRegion() {
+        gameRepository.findById(game.getId());
+        entityManager.clear();
+        gameRepository.findById(game.getId());
+
+        assertThat(statistics.getDomainDataRegionStatistics(Game.CACHE_REGION).getPutCount()).isEqualTo(1);
+        assertThat(statistics.getDomainDataRegionStatistics(Game.CACHE_REGION).getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("a repeated lookup by IGDB id should be served from the lookup region")
+    void findByIgdbId_HitsLookupRegion() {
+        gameRepository.findByIgdbId(1001L);
+        entityManager.clear();
+        Game found = gameRepository.findByIgdbId(1001L).orElseThrow();
+
+        assertThat(found.getId()).isEqualTo(game.getId());
+        assertThat(statistics.getQueryRegionStatistics(Game.LOOKUP_CACHE_REGION).getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("the JDBC achievement write should evict the games it updated")
+    void achievementSync_EvictsWrittenGames() {
+        gameRepository.findById(game.getId());
+        entityManager.clear();
+        assertThat(entityManagerFactory.getCache().contains(Game.class, game.getId())).isTrue();
+
+        SteamService steamService = mock(SteamService.class);
+        SteamGameInfo owned = SteamGameInfo.builder()
+                .appId("10")
+                .hasCommunityVisibleStats(true)
+                .ownerSteamIds(List.of(STEAM_ID))
+                .build();
+        when(steamService.getOwnedGames()).thenReturn(List.of(owned));
+        when(steamService.getLinkedSteamIds()).thenReturn(List.of(STEAM_ID));
+        when(steamService.getOwnedGames(STEAM_ID)).thenReturn(List.of(owned));
+        when(steamService.getAchievementProgress(STEAM_ID, "10", null)).thenReturn(
+                SteamAchievementProgress.builder().appId("10").unlocked(7).total(10).etag("\"a\"").build());
+
+        new SteamAchievementSyncService(steamService, gameRepository, mock(GameService.class),
+                jdbcTemplate, gameEntityCache, new InfernoGamesConfig(), Runnable::run).syncAchievements(true);
+
+        assertThat(entityManagerFactory.getCache().contains(Game.class, game.getId())).isFalse();
+        assertThat(gameRepository.findById(game.getId())).get()
+                .extracting(Game::getAchievements).isEqualTo(7);
+    }
+}
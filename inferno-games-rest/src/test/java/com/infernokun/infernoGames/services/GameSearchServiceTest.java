@@ -0,0 +1,27 @@
+package com.infernokun.infernoGames.services;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("GameSearchService Tests")
+class GameSearchServiceTest {
+
+    @Test
+    @DisplayName("highlights should escape the game text and only mark ts_headline's matches")
+    void toHtmlHighlight_EscapesSourceText() {
+        String headline = "\uE000Hades\uE001 - <img src=x onerror=alert(1)> & \"friends\"";
+
+        assertThat(GameSearchService.toHtmlHighlight(headline)).isEqualTo(
+                "<mark>Hades</mark> - &lt;img src=x onerror=alert(1)&gt; &amp; &quot;friends&quot;");
+    }
+
+    @Test
+    @DisplayName("literal mark tags in the game text should stay inert")
+    void toHtmlHighlight_EscapesLiteralTags() {
+        assertThat(GameSearchService.toHtmlHighlight("<mark>not a match</mark>"))
+                .isEqualTo("&lt;mark&gt;not a match&lt;/mark&gt;");
+        assertThat(GameSearchService.toHtmlHighlight(null)).isNull();
+    }
+}
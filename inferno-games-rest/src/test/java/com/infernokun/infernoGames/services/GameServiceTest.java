@@ -1,11 +1,21 @@
 package com.infernokun.infernoGames.services;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.infernokun.infernoGames.models.Game;
+import com.infernokun.infernoGames.models.dto.GameCursor;
+import com.infernokun.infernoGames.models.dto.GameListQuery;
+import com.infernokun.infernoGames.models.dto.GamePage;
 import com.infernokun.infernoGames.models.dto.GameRequest;
+import com.infernokun.infernoGames.models.dto.GameSummary;
+import com.infernokun.infernoGames.models.dto.PlatformMaskCount;
 import com.infernokun.infernoGames.models.enums.GamePlatform;
+import com.infernokun.infernoGames.models.enums.GameSort;
 import com.infernokun.infernoGames.models.enums.GameStatus;
 import com.infernokun.infernoGames.repositories.GameRepository;
 import com.infernokun.infernoGames.services.IGDBService.IGDBGameDto;
+import com.infernokun.infernoGames.utils.GamePlatformMask;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -15,12 +25,20 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 import java.util.*;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,6 +51,12 @@ class GameServiceTest {
     @Mock
     private IGDBService igdbService;
 
+    @Mock
+    private Validator validator;
+
+    @Mock
+    private CacheManager cacheManager;
+
     @InjectMocks
     private GameService gameService;
 
@@ -86,21 +110,22 @@ class GameServiceTest {
         @DisplayName("getAllGames should return all games ordered by title")
         void getAllGames_ReturnsAllGames() {
             Game game2 = Game.builder().id(2L).title("Another Game").build();
-            when(gameRepository.findAllByOrderByTitleAsc()).thenReturn(List.of(game2, testGame));
+            when(gameRepository.findAllSummaries())
+                    .thenReturn(List.of(GameSummary.from(game2), GameSummary.from(testGame)));
 
-            List<Game> result = gameService.getAllGames();
+            List<GameSummary> result = gameService.getAllGames();
 
             assertThat(result).hasSize(2);
             assertThat(result.getFirst().getTitle()).isEqualTo("Another Game");
-            verify(gameRepository).findAllByOrderByTitleAsc();
+            verify(gameRepository).findAllSummaries();
         }
 
         @Test
         @DisplayName("getAllGames should return empty list when no games exist")
         void getAllGames_ReturnsEmptyList() {
-            when(gameRepository.findAllByOrderByTitleAsc()).thenReturn(Collections.emptyList());
+            when(gameRepository.findAllSummaries()).thenReturn(Collections.emptyList());
 
-            List<Game> result = gameService.getAllGames();
+            List<GameSummary> result = gameService.getAllGames();
 
             assertThat(result).isEmpty();
         }
@@ -208,6 +233,65 @@ class GameServiceTest {
             assertThat(result.getStartedAt()).isNotNull();
         }
 
+        @Test
+        @DisplayName("patchGame should write only the members present and evict only what they reach")
+        void patchGame_AppliesPresentMembersOnly() {
+            Cache gameCache = mock(Cache.class);
+            when(cacheManager.getCache(anyString()))
+                    .thenAnswer(invocation -> "game".equals(invocation.getArgument(0)) ? gameCache : null);
+            when(gameRepository.findById(1L)).thenReturn(Optional.of(testGame));
+            when(gameRepository.save(any(Game.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            ObjectNode patch = new ObjectMapper().createObjectNode().put("notes", "Replay on hard").putNull("publisher");
+            Game result = gameService.patchGame(1L, patch);
+
+            assertThat(result.getNotes()).isEqualTo("Replay on hard");
+            assertThat(result.getPublisher()).isNull();
+            assertThat(result.getRating()).isEqualTo(8);
+            assertThat(result.getDescription()).isEqualTo("A test game description");
+            verify(gameCache).evict(1L);
+            verify(cacheManager, never()).getCache("gameStats");
+        }
+
+        @Test
+        @DisplayName("patchGame should only evict once the transaction commits")
+        void patchGame_EvictsAfterCommit() {
+            Cache gameCache = mock(Cache.class);
+            when(cacheManager.getCache(anyString()))
+                    .thenAnswer(invocation -> "game".equals(invocation.getArgument(0)) ? gameCache : null);
+            when(gameRepository.findById(1L)).thenReturn(Optional.of(testGame));
+            when(gameRepository.save(any(Game.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                gameService.patchGame(1L, new ObjectMapper().createObjectNode().put("notes", "Replay on hard"));
+
+                verify(gameCache, never()).evict(any());
+
+                TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+
+            verify(gameCache).evict(1L);
+        }
+
+        @Test
+        @DisplayName("patchGame should reject unknown members and removing the title")
+        void patchGame_RejectsInvalidPatches() {
+            ObjectMapper mapper = new ObjectMapper();
+
+            assertThatThrownBy(() -> gameService.patchGame(1L, mapper.createObjectNode().put("igdbId", 5)))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("igdbId");
+
+            when(gameRepository.findById(1L)).thenReturn(Optional.of(testGame));
+            assertThatThrownBy(() -> gameService.patchGame(1L, mapper.createObjectNode().putNull("title")))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("title cannot be removed");
+            verify(gameRepository, never()).save(any(Game.class));
+        }
+
         @Test
         @DisplayName("deleteGame should delete existing game")
         void deleteGame_DeletesGame() {
@@ -237,58 +321,38 @@ class GameServiceTest {
     class StatusOperations {
 
         @Test
-        @DisplayName("updateGameStatus should update to IN_PROGRESS and set startedAt")
-        void updateGameStatus_ToInProgress() {
-            testGame.setStartedAt(null);
-            when(gameRepository.findById(1L)).thenReturn(Optional.of(testGame));
-            when(gameRepository.save(any(Game.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        @DisplayName("updateGameStatus should apply the change in one atomic update")
+        void updateGameStatus_UsesAtomicUpdate() {
+            testGame.setStatus(GameStatus.IN_PROGRESS);
+            when(gameRepository.updateStatus(1L, GameStatus.IN_PROGRESS)).thenReturn(Optional.of(testGame));
 
             Game result = gameService.updateGameStatus(1L, GameStatus.IN_PROGRESS);
 
             assertThat(result.getStatus()).isEqualTo(GameStatus.IN_PROGRESS);
-            assertThat(result.getStartedAt()).isNotNull();
+            verify(gameRepository, never()).findById(any());
+            verify(gameRepository, never()).save(any(Game.class));
         }
 
         @Test
-        @DisplayName("updateGameStatus should update to COMPLETED and set completedAt")
-        void updateGameStatus_ToCompleted() {
-            testGame.setCompletedAt(null);
-            when(gameRepository.findById(1L)).thenReturn(Optional.of(testGame));
-            when(gameRepository.save(any(Game.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        @DisplayName("updateGameStatus should throw when the game does not exist")
+        void updateGameStatus_ThrowsWhenNotFound() {
+            when(gameRepository.updateStatus(999L, GameStatus.COMPLETED)).thenReturn(Optional.empty());
 
-            Game result = gameService.updateGameStatus(1L, GameStatus.COMPLETED);
-
-            assertThat(result.getStatus()).isEqualTo(GameStatus.COMPLETED);
-            assertThat(result.getCompletedAt()).isNotNull();
-            assertThat(result.getCompletionPercentage()).isEqualTo(100);
-        }
-
-        @Test
-        @DisplayName("updateGameStatus should not override existing startedAt")
-        void updateGameStatus_PreservesExistingStartedAt() {
-            LocalDateTime originalStartedAt = LocalDateTime.of(2024, 1, 1, 10, 0);
-            testGame.setStartedAt(originalStartedAt);
-            when(gameRepository.findById(1L)).thenReturn(Optional.of(testGame));
-            when(gameRepository.save(any(Game.class))).thenAnswer(invocation -> invocation.getArgument(0));
-
-            Game result = gameService.updateGameStatus(1L, GameStatus.IN_PROGRESS);
-
-            assertThat(result.getStartedAt()).isEqualTo(originalStartedAt);
+            assertThatThrownBy(() -> gameService.updateGameStatus(999L, GameStatus.COMPLETED))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Game not found with id: 999");
         }
 
         @Test
         @DisplayName("toggleFavorite should toggle favorite status")
         void toggleFavorite_TogglesFavorite() {
-            testGame.setFavorite(false);
-            when(gameRepository.findById(1L)).thenReturn(Optional.of(testGame));
-            when(gameRepository.save(any(Game.class))).thenAnswer(invocation -> invocation.getArgument(0));
+            testGame.setFavorite(true);
+            when(gameRepository.toggleFavorite(1L)).thenReturn(Optional.of(testGame));
 
             Game result = gameService.toggleFavorite(1L);
-            assertThat(result.getFavorite()).isTrue();
 
-            // Toggle again
-            result = gameService.toggleFavorite(1L);
-            assertThat(result.getFavorite()).isFalse();
+            assertThat(result.getFavorite()).isTrue();
+            verify(gameRepository, never()).save(any(Game.class));
         }
     }
 
@@ -299,10 +363,10 @@ class GameServiceTest {
         @Test
         @DisplayName("searchGames should find games by title")
         void searchGames_FindsByTitle() {
-            when(gameRepository.findByTitleContainingIgnoreCase("Test"))
-                    .thenReturn(List.of(testGame));
+            when(gameRepository.findSummariesByTitleContaining("Test", Limit.of(50)))
+                    .thenReturn(List.of(GameSummary.from(testGame)));
 
-            List<Game> result = gameService.searchGames("Test");
+            List<GameSummary> result = gameService.searchGames("Test", 50);
 
             assertThat(result).hasSize(1);
             assertThat(result.getFirst().getTitle()).isEqualTo("Test Game");
@@ -311,34 +375,34 @@ class GameServiceTest {
         @Test
         @DisplayName("getGamesByStatus should return games with specific status")
         void getGamesByStatus_ReturnsFilteredGames() {
-            when(gameRepository.findByStatus(GameStatus.IN_PROGRESS))
-                    .thenReturn(List.of(testGame));
+            when(gameRepository.findSummariesByStatus(GameStatus.IN_PROGRESS, Limit.of(50)))
+                    .thenReturn(List.of(GameSummary.from(testGame)));
 
-            List<Game> result = gameService.getGamesByStatus(GameStatus.IN_PROGRESS);
+            List<GameSummary> result = gameService.getGamesByStatus(GameStatus.IN_PROGRESS, 50);
 
             assertThat(result).hasSize(1);
-            verify(gameRepository).findByStatus(GameStatus.IN_PROGRESS);
+            verify(gameRepository).findSummariesByStatus(GameStatus.IN_PROGRESS, Limit.of(50));
         }
 
         @Test
         @DisplayName("getGamesByPlatform should return games for specific platform")
         void getGamesByPlatform_ReturnsFilteredGames() {
-            when(gameRepository.findByPlatform(GamePlatform.PC))
-                    .thenReturn(List.of(testGame));
+            when(gameRepository.findSummariesByPlatform(GamePlatform.PC, Limit.of(50)))
+                    .thenReturn(List.of(GameSummary.from(testGame)));
 
-            List<Game> result = gameService.getGamesByPlatform(GamePlatform.PC);
+            List<GameSummary> result = gameService.getGamesByPlatform(GamePlatform.PC, 50);
 
             assertThat(result).hasSize(1);
-            verify(gameRepository).findByPlatform(GamePlatform.PC);
+            verify(gameRepository).findSummariesByPlatform(GamePlatform.PC, Limit.of(50));
         }
 
         @Test
         @DisplayName("getFavoriteGames should return only favorite games")
         void getFavoriteGames_ReturnsFavorites() {
             testGame.setFavorite(true);
-            when(gameRepository.findByFavoriteTrue()).thenReturn(List.of(testGame));
+            when(gameRepository.findFavoriteSummaries(Limit.of(50))).thenReturn(List.of(GameSummary.from(testGame)));
 
-            List<Game> result = gameService.getFavoriteGames();
+            List<GameSummary> result = gameService.getFavoriteGames(50);
 
             assertThat(result).hasSize(1);
             assertThat(result.getFirst().getFavorite()).isTrue();
@@ -347,38 +411,97 @@ class GameServiceTest {
         @Test
         @DisplayName("advancedSearch should use all criteria")
         void advancedSearch_UsesAllCriteria() {
-            when(gameRepository.searchGames("Test", GameStatus.IN_PROGRESS, GamePlatform.PC, "Action"))
-                    .thenReturn(List.of(testGame));
+            when(gameRepository.searchSummaries(
+                    "Test", GameStatus.IN_PROGRESS, GamePlatform.PC, "Action", Limit.of(50)))
+                    .thenReturn(List.of(GameSummary.from(testGame)));
 
-            List<Game> result = gameService.advancedSearch("Test", GameStatus.IN_PROGRESS, GamePlatform.PC, "Action");
+            List<GameSummary> result = gameService.advancedSearch(
+                    "Test", GameStatus.IN_PROGRESS, GamePlatform.PC, "Action", 50);
 
             assertThat(result).hasSize(1);
-            verify(gameRepository).searchGames("Test", GameStatus.IN_PROGRESS, GamePlatform.PC, "Action");
+            verify(gameRepository).searchSummaries(
+                    "Test", GameStatus.IN_PROGRESS, GamePlatform.PC, "Action", Limit.of(50));
+        }
+
+        @Test
+        @DisplayName("unpaged list queries should cap the requested limit")
+        void getGamesByStatus_CapsLimit() {
+            Limit cap = Limit.of(GameListQuery.MAX_PAGE_SIZE);
+            when(gameRepository.findSummariesByStatus(GameStatus.NOT_STARTED, cap)).thenReturn(List.of());
+
+            gameService.getGamesByStatus(GameStatus.NOT_STARTED, 100_000);
+
+            verify(gameRepository).findSummariesByStatus(GameStatus.NOT_STARTED, cap);
         }
 
         @Test
         @DisplayName("getRecentlyAddedGames should return most recently added")
         void getRecentlyAddedGames_ReturnsRecent() {
-            when(gameRepository.findTop10ByOrderByCreatedAtDesc())
-                    .thenReturn(List.of(testGame));
+            when(gameRepository.findRecentlyAddedSummaries(Limit.of(10)))
+                    .thenReturn(List.of(GameSummary.from(testGame)));
 
-            List<Game> result = gameService.getRecentlyAddedGames();
+            List<GameSummary> result = gameService.getRecentlyAddedGames();
 
             assertThat(result).hasSize(1);
-            verify(gameRepository).findTop10ByOrderByCreatedAtDesc();
+            verify(gameRepository).findRecentlyAddedSummaries(Limit.of(10));
         }
 
         @Test
         @DisplayName("getRecentlyCompletedGames should return completed games")
         void getRecentlyCompletedGames_ReturnsCompleted() {
             testGame.setStatus(GameStatus.COMPLETED);
-            when(gameRepository.findByStatusOrderByCompletedAtDesc(GameStatus.COMPLETED))
-                    .thenReturn(List.of(testGame));
+            when(gameRepository.findRecentlyCompletedSummaries(GameStatus.COMPLETED, Limit.of(50)))
+                    .thenReturn(List.of(GameSummary.from(testGame)));
 
-            List<Game> result = gameService.getRecentlyCompletedGames();
+            List<GameSummary> result = gameService.getRecentlyCompletedGames();
 
             assertThat(result).hasSize(1);
-            verify(gameRepository).findByStatusOrderByCompletedAtDesc(GameStatus.COMPLETED);
+            verify(gameRepository).findRecentlyCompletedSummaries(GameStatus.COMPLETED, Limit.of(50));
+        }
+
+        @Test
+        @DisplayName("getGamePage should return a next cursor when more rows exist")
+        void getGamePage_ReturnsNextCursor() {
+            Game game2 = Game.builder().id(2L).title("Zeta Game").build();
+            GameListQuery query = GameListQuery.builder().limit(1).build();
+            when(gameRepository.findKeysetPage(query, null, 2))
+                    .thenReturn(List.of(GameSummary.from(testGame), GameSummary.from(game2)));
+            when(gameRepository.countMatching(query)).thenReturn(2L);
+
+            GamePage page = gameService.getGamePage(query);
+
+            assertThat(page.getItems()).extracting(GameSummary::getId).containsExactly(testGame.getId());
+            assertThat(page.getTotalCount()).isEqualTo(2);
+            GameCursor cursor = GameCursor.decode(page.getNextCursor());
+            assertThat(cursor.id()).isEqualTo(testGame.getId());
+            assertThat(cursor.value()).isEqualTo("Test Game");
+        }
+
+        @Test
+        @DisplayName("getGamePage should count a filter once for all of its pages")
+        void getGamePage_CountsOncePerFilter() {
+            when(cacheManager.getCache("gamePages")).thenReturn(new ConcurrentMapCache("gamePages"));
+            GameListQuery firstPage = GameListQuery.builder().limit(1).build();
+            GameListQuery secondPage = GameListQuery.builder().limit(1)
+                    .cursor(GameCursor.after(GameSummary.from(testGame), GameSort.TITLE, Sort.Direction.ASC).encode())
+                    .build();
+            when(gameRepository.findKeysetPage(any(), any(), anyInt())).thenReturn(List.of());
+            when(gameRepository.countMatching(firstPage)).thenReturn(7L);
+
+            assertThat(gameService.getGamePage(firstPage).getTotalCount()).isEqualTo(7);
+            assertThat(gameService.getGamePage(secondPage).getTotalCount()).isEqualTo(7);
+
+            verify(gameRepository, times(1)).countMatching(any());
+        }
+
+        @Test
+        @DisplayName("getGamePage should reject a cursor from a different sort")
+        void getGamePage_RejectsMismatchedCursor() {
+            String cursor = GameCursor.after(GameSummary.from(testGame), GameSort.RATING, Sort.Direction.DESC).encode();
+            GameListQuery query = GameListQuery.builder().sort(GameSort.TITLE).cursor(cursor).build();
+
+            assertThatThrownBy(() -> gameService.getGamePage(query))
+                    .isInstanceOf(IllegalArgumentException.class);
         }
     }
 
@@ -398,8 +521,11 @@ class GameServiceTest {
             when(gameRepository.countByFavoriteTrue()).thenReturn(3L);
             when(gameRepository.getTotalPlaytime()).thenReturn(150.5);
             when(gameRepository.getAverageRating()).thenReturn(7.8);
-            when(gameRepository.findByPlatform(any())).thenReturn(Collections.emptyList());
-            when(gameRepository.findAllByOrderByTitleAsc()).thenReturn(List.of(testGame));
+            when(gameRepository.countByPlatformMask()).thenReturn(List.of(
+                    new PlatformMaskCount(GamePlatform.PC,
+                            GamePlatformMask.toMask(List.of(GamePlatform.PC, GamePlatform.PLAYSTATION_5)), 2),
+                    new PlatformMaskCount(GamePlatform.NINTENDO_SWITCH, null, 1)));
+            when(gameRepository.findAllSummaries()).thenReturn(List.of(GameSummary.from(testGame)));
 
             Map<String, Object> stats = gameService.getGameStats();
 
@@ -413,6 +539,8 @@ class GameServiceTest {
             assertThat(stats.get("totalPlaytime")).isEqualTo(150.5);
             assertThat(stats.get("averageRating")).isEqualTo(7.8);
             assertThat(stats.get("completionRate")).isEqualTo(50L);
+            assertThat(stats.get("platformBreakdown"))
+                    .isEqualTo(Map.of("PC", 2L, "PLAYSTATION_5", 2L, "NINTENDO_SWITCH", 1L));
         }
 
         @Test
@@ -423,8 +551,8 @@ class GameServiceTest {
             when(gameRepository.countByFavoriteTrue()).thenReturn(0L);
             when(gameRepository.getTotalPlaytime()).thenReturn(null);
             when(gameRepository.getAverageRating()).thenReturn(null);
-            when(gameRepository.findByPlatform(any())).thenReturn(Collections.emptyList());
-            when(gameRepository.findAllByOrderByTitleAsc()).thenReturn(Collections.emptyList());
+            when(gameRepository.countByPlatformMask()).thenReturn(Collections.emptyList());
+            when(gameRepository.findAllSummaries()).thenReturn(Collections.emptyList());
 
             Map<String, Object> stats = gameService.getGameStats();
 
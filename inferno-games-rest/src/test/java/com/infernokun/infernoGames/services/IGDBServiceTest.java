@@ -0,0 +1,96 @@
+package com.infernokun.infernoGames.services;
+
+import com.infernokun.infernoGames.config.InfernoGamesConfig;
+import com.infernokun.infernoGames.services.IGDBService.SteamAppResolution;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpMethod;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.*;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IGDBService Tests")
+class IGDBServiceTest {
+
+    private static final String EXTERNAL_GAMES_URL = "https://api.igdb.com/v4/external_games";
+
+    @Mock
+    private SteamService steamService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private IGDBService igdbService;
+    private MockRestServiceServer server;
+
+    @BeforeEach
+    void setUp() {
+        InfernoGamesConfig config = new InfernoGamesConfig();
+        config.setIgdbClientId("client");
+        config.setIgdbClientSecret("secret");
+        config.setIgdbRequestsPerSecond(1_000);
+
+        igdbService = new IGDBService(config, steamService, eventPublisher);
+        server = MockRestServiceServer.bindTo((RestTemplate) ReflectionTestUtils.getField(igdbService, "restTemplate"))
+                .build();
+        server.expect(requestTo(startsWith("https://id.twitch.tv/oauth2/token")))
+                .andRespond(withSuccess("{\"access_token\":\"token\",\"expires_in\":3600}", APPLICATION_JSON));
+    }
+
+    @Test
+    @DisplayName("resolveSteamAppIds should page past a full page instead of truncating")
+    void resolveSteamAppIds_PagesUntilShortPage() {
+        // uid 1 has so many external_games rows that they fill the first page on their own
+        String fullPage = IntStream.range(0, 500)
+                .mapToObj(i -> "{\"game\":" + (1000 + i) + ",\"uid\":\"1\"}")
+                .collect(Collectors.joining(",", "[", "]"));
+
+        server.expect(requestTo(EXTERNAL_GAMES_URL))
+                .andExpect(method(HttpMethod.POST))
+                .andExpect(content().string(containsString("uid = (\"1\",\"2\",\"3\")")))
+                .andExpect(content().string(containsString("offset 0;")))
+                .andRespond(withSuccess(fullPage, APPLICATION_JSON));
+        server.expect(requestTo(EXTERNAL_GAMES_URL))
+                .andExpect(content().string(containsString("offset 500;")))
+                .andRespond(withSuccess("[{\"game\":42,\"uid\":\"2\"}]", APPLICATION_JSON));
+
+        SteamAppResolution resolution = igdbService.resolveSteamAppIds(List.of("1", "2", "3", "not-a-uid"));
+
+        server.verify();
+        assertThat(resolution.igdbIds()).containsExactlyInAnyOrderEntriesOf(Map.of("1", 1000L, "2", 42L));
+        // 3 was looked up and IGDB has no match; the non-numeric id was never asked
+        assertThat(resolution.answered()).containsExactlyInAnyOrder("1", "2", "3");
+    }
+
+    @Test
+    @DisplayName("getGenresByIds should stop after a short first page")
+    void getGenresByIds_SinglePage() {
+        server.expect(requestTo("https://api.igdb.com/v4/games"))
+                .andExpect(content().string(containsString("where id = (7);")))
+                .andExpect(content().string(containsString("offset 0;")))
+                .andRespond(withSuccess("[{\"id\":7,\"genres\":[{\"name\":\"RPG\"},{\"name\":\"Indie\"}]}]", APPLICATION_JSON));
+
+        Map<Long, List<String>> genres = igdbService.getGenresByIds(List.of(7L));
+
+        server.verify();
+        assertThat(genres).containsEntry(7L, List.of("RPG", "Indie"));
+    }
+}
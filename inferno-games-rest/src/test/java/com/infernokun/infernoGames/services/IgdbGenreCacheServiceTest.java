@@ -0,0 +1,167 @@
+package com.infernokun.infernoGames.services;
+
+import com.infernokun.infernoGames.config.InfernoGamesConfig;
+import com.infernokun.infernoGames.events.IgdbGenresChangedEvent;
+import com.infernokun.infernoGames.models.IgdbGenreCacheEntry;
+import com.infernokun.infernoGames.repositories.IgdbGenreCacheRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IgdbGenreCacheService Tests")
+class IgdbGenreCacheServiceTest {
+
+    @Mock
+    private IgdbGenreCacheRepository repository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private InfernoGamesConfig config;
+    private IgdbGenreCacheService cacheService;
+
+    @BeforeEach
+    void setUp() {
+        config = new InfernoGamesConfig();
+        config.setIgdbGenreCacheTtl(Duration.ofDays(30));
+        config.setIgdbGenreNegativeCacheTtl(Duration.ofDays(7));
+        cacheService = new IgdbGenreCacheService(repository, config, eventPublisher);
+    }
+
+    @Nested
+    @DisplayName("Entries")
+    class EntryTests {
+
+        @Test
+        @DisplayName("empty genres should build a negative entry with the shorter TTL")
+        void buildEntry_NegativeUsesNegativeTtl() {
+            LocalDateTime before = LocalDateTime.now();
+
+            IgdbGenreCacheEntry negative = cacheService.buildEntry("10", null, List.of());
+            IgdbGenreCacheEntry positive = cacheService.buildEntry("20", 7L, List.of("RPG"));
+
+            assertThat(negative.isNegative()).isTrue();
+            assertThat(negative.getExpiresAt()).isBetween(before.plusDays(7), LocalDateTime.now().plusDays(7));
+            assertThat(positive.isNegative()).isFalse();
+            assertThat(positive.getExpiresAt()).isAfter(before.plusDays(29));
+            assertThat(positive.getCacheVersion()).isEqualTo(IgdbGenreCacheService.CACHE_VERSION);
+        }
+
+        @Test
+        @DisplayName("negative entries should be known but carry no genres")
+        void putNegative_ContainsWithEmptyGenres() {
+            cacheService.putNegative("10");
+            cacheService.put("20", 7L, List.of("RPG", "Indie"));
+
+            assertThat(cacheService.contains("10")).isTrue();
+            assertThat(cacheService.getGenres("10")).contains(List.of());
+            assertThat(cacheService.getGenres("20")).contains(List.of("RPG", "Indie"));
+            assertThat(cacheService.getGenres("30")).isEmpty();
+            assertThat(cacheService.getAllGenres()).containsOnlyKeys("20");
+            verify(eventPublisher).publishEvent(new IgdbGenresChangedEvent(Set.of("10"), false));
+        }
+
+        @Test
+        @DisplayName("expired entries should read as unknown")
+        void getGenres_ExpiredIsUnknown() {
+            cacheService.putAll(List.of(entry("10", LocalDateTime.now().minusMinutes(1))));
+
+            assertThat(cacheService.contains("10")).isFalse();
+            assertThat(cacheService.getGenres("10")).isEqualTo(Optional.empty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Store Sync")
+    class SyncTests {
+
+        @BeforeEach
+        void setUp() {
+            when(repository.findByCacheVersionAndExpiresAtAfter(eq(IgdbGenreCacheService.CACHE_VERSION), any()))
+                    .thenReturn(List.of(entry("10", LocalDateTime.now().plusDays(1))));
+            cacheService.reload();
+            clearInvocations(eventPublisher);
+        }
+
+        @Test
+        @DisplayName("reload should replace the local copy and publish a reset")
+        void reload_ReplacesEntries() {
+            when(repository.findByCacheVersionAndExpiresAtAfter(eq(IgdbGenreCacheService.CACHE_VERSION), any()))
+                    .thenReturn(List.of(entry("20", LocalDateTime.now().plusDays(1))));
+
+            cacheService.reload();
+
+            assertThat(cacheService.contains("10")).isFalse();
+            assertThat(cacheService.contains("20")).isTrue();
+            verify(eventPublisher).publishEvent(new IgdbGenresChangedEvent(Set.of(), true));
+        }
+
+        @Test
+        @DisplayName("incremental sync should pick up other replicas' rows and skip outdated versions")
+        void syncFromStore_PullsChangedRows() {
+            IgdbGenreCacheEntry outdated = entry("30", LocalDateTime.now().plusDays(1));
+            outdated.setCacheVersion(IgdbGenreCacheService.CACHE_VERSION - 1);
+            when(repository.findByFetchedAtAfter(any())).thenReturn(List.of(
+                    entry("20", LocalDateTime.now().plusDays(1)), outdated));
+            when(repository.count()).thenReturn(3L);
+
+            cacheService.syncFromStore();
+
+            assertThat(cacheService.size()).isEqualTo(2);
+            assertThat(cacheService.contains("30")).isFalse();
+            verify(eventPublisher).publishEvent(new IgdbGenresChangedEvent(Set.of("20"), false));
+        }
+
+        @Test
+        @DisplayName("fewer rows in the store than locally should trigger a full reload")
+        void syncFromStore_ReloadsAfterClear() {
+            when(repository.findByFetchedAtAfter(any())).thenReturn(List.of());
+            when(repository.count()).thenReturn(0L);
+            when(repository.findByCacheVersionAndExpiresAtAfter(anyInt(), any())).thenReturn(List.of());
+
+            cacheService.syncFromStore();
+
+            assertThat(cacheService.size()).isZero();
+            verify(eventPublisher).publishEvent(new IgdbGenresChangedEvent(Set.of(), true));
+        }
+
+        @Test
+        @DisplayName("store failures should keep the local copy")
+        void syncFromStore_FailureKeepsEntries() {
+            when(repository.findByFetchedAtAfter(any())).thenThrow(new IllegalStateException("down"));
+
+            cacheService.syncFromStore();
+
+            assertThat(cacheService.contains("10")).isTrue();
+            verifyNoInteractions(eventPublisher);
+        }
+    }
+
+    private static IgdbGenreCacheEntry entry(String appId, LocalDateTime expiresAt) {
+        return IgdbGenreCacheEntry.builder()
+                .steamAppId(appId)
+                .igdbId(1L)
+                .genres(List.of("RPG"))
+                .cacheVersion(IgdbGenreCacheService.CACHE_VERSION)
+                .fetchedAt(LocalDateTime.now())
+                .expiresAt(expiresAt)
+                .build();
+    }
+}
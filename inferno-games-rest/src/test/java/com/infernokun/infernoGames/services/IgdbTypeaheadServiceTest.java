@@ -0,0 +1,123 @@
+package com.infernokun.infernoGames.services;
+
+import com.infernokun.infernoGames.config.InfernoGamesConfig;
+import com.infernokun.infernoGames.services.IGDBService.IGDBGameDto;
+import com.infernokun.infernoGames.services.IgdbTypeaheadService.TypeaheadResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IgdbTypeaheadService Tests")
+class IgdbTypeaheadServiceTest {
+
+    @Mock
+    private IGDBService igdbService;
+
+    private InfernoGamesConfig config;
+    private IgdbTypeaheadService typeaheadService;
+
+    @BeforeEach
+    void setUp() {
+        config = new InfernoGamesConfig();
+        config.setIgdbTypeaheadDebounce(Duration.ZERO);
+        typeaheadService = new IgdbTypeaheadService(igdbService, config, Runnable::run);
+    }
+
+    @Test
+    @DisplayName("a repeated query should be answered from the cache")
+    void suggest_RepeatedQueryIsCached() throws Exception {
+        when(igdbService.searchGames("hades", 50)).thenReturn(List.of(game(1, "Hades"), game(2, "Hades II")));
+
+        TypeaheadResponse first = suggest("Hades");
+        TypeaheadResponse second = suggest("hades!");
+
+        assertThat(first.isCached()).isFalse();
+        assertThat(second.isCached()).isTrue();
+        assertThat(second.getResults()).extracting(IGDBGameDto::getName).containsExactly("Hades", "Hades II");
+        verify(igdbService, times(1)).searchGames(anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("a complete prefix result should answer longer queries by filtering")
+    void suggest_CompletePrefixIsReused() throws Exception {
+        when(igdbService.searchGames("ha", 50)).thenReturn(List.of(
+                game(1, "Hades"), game(2, "Half-Life"), game(3, "Hollow Knight Hades Edition")));
+        suggest("ha");
+
+        TypeaheadResponse response = suggest("had");
+
+        assertThat(response.isCached()).isTrue();
+        assertThat(response.getResults()).extracting(IGDBGameDto::getName)
+                .containsExactly("Hades", "Hollow Knight Hades Edition");
+        verify(igdbService, never()).searchGames("had", 50);
+    }
+
+    @Test
+    @DisplayName("a truncated prefix result should not answer longer queries")
+    void suggest_TruncatedPrefixIsNotReused() throws Exception {
+        List<IGDBGameDto> full = IntStream.range(0, 50).mapToObj(i -> game(i, "Hades " + i)).toList();
+        when(igdbService.searchGames("ha", 50)).thenReturn(full);
+        when(igdbService.searchGames("had", 50)).thenReturn(List.of(game(99, "Hadean Lands")));
+        suggest("ha");
+
+        TypeaheadResponse response = suggest("had");
+
+        // Filtering the truncated "ha" set would have produced ten "Hades n" results and missed this one
+        assertThat(response.isCached()).isFalse();
+        assertThat(response.getResults()).extracting(IGDBGameDto::getName).containsExactly("Hadean Lands");
+    }
+
+    @Test
+    @DisplayName("empty answers should not be extended to longer queries")
+    void suggest_EmptyPrefixIsNotReused() throws Exception {
+        when(igdbService.searchGames("ha", 50)).thenReturn(List.of());
+        when(igdbService.searchGames("had", 50)).thenReturn(List.of(game(1, "Hades")));
+        suggest("ha");
+
+        assertThat(suggest("had").getResults()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("a saturated lookup pool should answer empty and degraded instead of failing")
+    void suggest_RejectedLookupDegrades() throws Exception {
+        typeaheadService = new IgdbTypeaheadService(igdbService, config, task -> {
+            throw new RejectedExecutionException("queue full");
+        });
+
+        TypeaheadResponse response = suggest("hades");
+
+        assertThat(response.isDegraded()).isTrue();
+        assertThat(response.getResults()).isEmpty();
+        verifyNoInteractions(igdbService);
+    }
+
+    @Test
+    @DisplayName("queries shorter than the minimum should not reach IGDB")
+    void suggest_ShortQuery() throws Exception {
+        assertThat(suggest("h").getResults()).isEmpty();
+        verifyNoInteractions(igdbService);
+    }
+
+    private TypeaheadResponse suggest(String query) throws Exception {
+        return typeaheadService.suggest(query, "tab-1", null).get(5, TimeUnit.SECONDS);
+    }
+
+    private static IGDBGameDto game(long id, String name) {
+        return IGDBGameDto.builder().igdbId(id).name(name).build();
+    }
+}
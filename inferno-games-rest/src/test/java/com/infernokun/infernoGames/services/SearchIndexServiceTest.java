@@ -0,0 +1,135 @@
+package com.infernokun.infernoGames.services;
+
+import com.infernokun.infernoGames.events.BacklogGameChangedEvent;
+import com.infernokun.infernoGames.events.SteamLibraryChangedEvent;
+import com.infernokun.infernoGames.models.dto.GameSearchRow;
+import com.infernokun.infernoGames.models.enums.SearchSource;
+import com.infernokun.infernoGames.repositories.GameRepository;
+import com.infernokun.infernoGames.services.SearchIndexService.SearchResponse;
+import com.infernokun.infernoGames.services.SearchIndexService.SearchResult;
+import com.infernokun.infernoGames.services.SteamService.SteamGameInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SearchIndexService Tests")
+class SearchIndexServiceTest {
+
+    @Mock
+    private GameRepository gameRepository;
+
+    @Mock
+    private SteamService steamService;
+
+    @InjectMocks
+    private SearchIndexService searchIndexService;
+
+    @BeforeEach
+    void setUp() {
+        when(gameRepository.findAllSearchRows()).thenReturn(List.of(
+                new GameSearchRow(1L, "The Witcher 3: Wild Hunt", "CD Projekt Red", null, null, List.of("RPG", "Open World")),
+                new GameSearchRow(2L, "Pokémon Legends", "Game Freak", null, null, null)));
+        when(steamService.peekOwnedGames()).thenReturn(List.of(
+                SteamGameInfo.builder().appId("292030").name("The Witcher 3: Wild Hunt").build(),
+                SteamGameInfo.builder().appId("1145360").name("Hades").build()));
+
+        searchIndexService.rebuild();
+    }
+
+    @Test
+    @DisplayName("search should match title prefixes across sources with facets")
+    void search_MatchesPrefixAcrossSources() {
+        SearchResponse response = searchIndexService.search("witch", null, 20);
+
+        assertThat(response.getResults()).extracting(SearchResult::getSource)
+                .containsExactlyInAnyOrder(SearchSource.BACKLOG, SearchSource.STEAM);
+        assertThat(response.getFacets().get(SearchSource.BACKLOG)).isEqualTo(1);
+        assertThat(response.getFacets().get(SearchSource.STEAM)).isEqualTo(1);
+        assertThat(response.getFacets().get(SearchSource.IGDB)).isZero();
+    }
+
+    @Test
+    @DisplayName("search should tolerate typos and accents")
+    void search_ToleratesTyposAndAccents() {
+        assertThat(searchIndexService.search("wticher", null, 20).getResults()).hasSize(2);
+        assertThat(searchIndexService.search("pokemon", null, 20).getResults())
+                .extracting(SearchResult::getId)
+                .containsExactly("2");
+    }
+
+    @Test
+    @DisplayName("search should require every query token and filter by source")
+    void search_RequiresAllTokensAndFiltersBySource() {
+        SearchResponse response = searchIndexService.search("witcher projekt", Set.of(SearchSource.BACKLOG), 20);
+
+        assertThat(response.getResults()).extracting(SearchResult::getId).containsExactly("1");
+        assertThat(response.getFacets().get(SearchSource.STEAM)).isZero();
+    }
+
+    @Test
+    @DisplayName("change events should update the index incrementally")
+    void changeEvents_UpdateIndex() {
+        searchIndexService.onBacklogGameChanged(new BacklogGameChangedEvent(
+                1L, null, null, null, null, null, List.of(), true));
+        when(steamService.peekOwnedGame("1145360")).thenReturn(Optional.empty());
+        searchIndexService.onSteamLibraryChanged(new SteamLibraryChangedEvent(Set.of("1145360")));
+
+        assertThat(searchIndexService.search("witcher", null, 20).getResults())
+                .extracting(SearchResult::getSource)
+                .containsExactly(SearchSource.STEAM);
+        assertThat(searchIndexService.search("hades", null, 20).getResults()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("rebuild and change events should index the same genre list")
+    void rebuild_IndexesEveryGenre() {
+        assertThat(searchIndexService.search("open world", null, 20).getResults())
+                .extracting(SearchResult::getId)
+                .containsExactly("1");
+
+        searchIndexService.onBacklogGameChanged(new BacklogGameChangedEvent(
+                1L, "The Witcher 3: Wild Hunt", "CD Projekt Red", null, null, null, List.of("RPG"), false));
+
+        assertThat(searchIndexService.search("open world", null, 20).getResults()).isEmpty();
+        assertThat(searchIndexService.search("rpg", null, 20).getResults()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("a change committed while the backlog is reloaded should survive the rebuild")
+    void rebuild_KeepsEventsReceivedMeanwhile() throws InterruptedException {
+        Thread removal = new Thread(() -> searchIndexService.onBacklogGameChanged(new BacklogGameChangedEvent(
+                2L, null, null, null, null, null, List.of(), true)));
+        when(gameRepository.findAllSearchRows()).thenAnswer(invocation -> {
+            // The event arrives after the snapshot was taken and has to wait for the rebuild
+            removal.start();
+            while (removal.getState() != Thread.State.WAITING) {
+                Thread.onSpinWait();
+            }
+            return List.of(new GameSearchRow(2L, "Pokémon Legends", "Game Freak", null, null, null));
+        });
+
+        searchIndexService.rebuild();
+        removal.join();
+
+        assertThat(searchIndexService.search("pokemon", null, 20).getResults()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("search should reject queries without searchable characters")
+    void search_RejectsEmptyQuery() {
+        assertThatThrownBy(() -> searchIndexService.search("  --  ", null, 20))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
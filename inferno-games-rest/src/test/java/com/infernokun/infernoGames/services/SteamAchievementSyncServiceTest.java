@@ -0,0 +1,149 @@
+package com.infernokun.infernoGames.services;
+
+import com.infernokun.infernoGames.config.InfernoGamesConfig;
+import com.infernokun.infernoGames.models.dto.AchievementSyncTarget;
+import com.infernokun.infernoGames.repositories.GameRepository;
+import com.infernokun.infernoGames.services.SteamAchievementSyncService.AchievementSyncResult;
+import com.infernokun.infernoGames.services.SteamService.SteamAchievementProgress;
+import com.infernokun.infernoGames.services.SteamService.SteamGameInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SteamAchievementSyncService Tests")
+class SteamAchievementSyncServiceTest {
+
+    private static final String STEAM_ID = "76561198000000001";
+
+    @Mock
+    private SteamService steamService;
+
+    @Mock
+    private GameRepository gameRepository;
+
+    @Mock
+    private GameService gameService;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private GameEntityCache gameEntityCache;
+
+    private InfernoGamesConfig config;
+    private SteamAchievementSyncService syncService;
+
+    @BeforeEach
+    void setUp() {
+        config = new InfernoGamesConfig();
+        syncService = new SteamAchievementSyncService(steamService, gameRepository, gameService,
+                jdbcTemplate, gameEntityCache, config, Runnable::run);
+
+        List<SteamGameInfo> owned = List.of(owned("10"), owned("20"));
+        when(steamService.getOwnedGames()).thenReturn(owned);
+        when(steamService.getLinkedSteamIds()).thenReturn(List.of(STEAM_ID));
+        when(steamService.getOwnedGames(STEAM_ID)).thenReturn(owned);
+        when(gameRepository.findAchievementSyncTargets()).thenReturn(List.of(
+                new AchievementSyncTarget(1L, "10", null, null, null),
+                new AchievementSyncTarget(2L, "20", null, null, null)));
+    }
+
+    @Test
+    @DisplayName("unavailable stats should leave the stored counts and sync time alone")
+    @SuppressWarnings("unchecked")
+    void syncAchievements_UnavailableLeavesRowUntouched() {
+        when(steamService.getAchievementProgress(STEAM_ID, "10", null)).thenReturn(
+                SteamAchievementProgress.builder().appId("10").unlocked(3).total(10).etag("\"a\"").build());
+        when(steamService.getAchievementProgress(STEAM_ID, "20", null)).thenReturn(
+                SteamAchievementProgress.builder().appId("20").unavailable(true).build());
+
+        AchievementSyncResult result = syncService.syncAchievements(true);
+
+        assertThat(result.getUpdated()).isEqualTo(1);
+        assertThat(result.getUnavailable()).isEqualTo(1);
+        assertThat(result.getFailed()).isZero();
+
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("UPDATE games SET achievements"), rows.capture());
+        assertThat(rows.getValue()).hasSize(1);
+        assertThat(rows.getValue().getFirst()[4]).isEqualTo(1L);
+        verify(gameEntityCache).evict(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("not-modified apps should only get their sync time touched, without a version bump")
+    void syncAchievements_NotModifiedKeepsVersion() {
+        when(steamService.getAchievementProgress(eq(STEAM_ID), anyString(), isNull())).thenReturn(
+                SteamAchievementProgress.builder().notModified(true).build());
+
+        AchievementSyncResult result = syncService.syncAchievements(true);
+
+        assertThat(result.getNotModified()).isEqualTo(2);
+        assertThat(result.getUpdated()).isZero();
+        verify(jdbcTemplate).batchUpdate(eq("UPDATE games SET steam_achievements_synced = ? WHERE id = ?"), anyList());
+        verify(jdbcTemplate, never()).batchUpdate(contains("version"), anyList());
+        verify(gameService, never()).clearAllCaches();
+    }
+
+    @Test
+    @DisplayName("failed fetches should be counted and not written")
+    void syncAchievements_FailedNotWritten() {
+        when(steamService.getAchievementProgress(eq(STEAM_ID), anyString(), isNull())).thenReturn(
+                SteamAchievementProgress.builder().failed(true).build());
+
+        AchievementSyncResult result = syncService.syncAchievements(true);
+
+        assertThat(result.getFailed()).isEqualTo(2);
+        assertThat(result.getUpdated()).isZero();
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+        verify(gameService, never()).clearAllCaches();
+    }
+
+    @Test
+    @DisplayName("fetches should leave one sync worker free for other Steam work")
+    void syncAchievements_BoundsInFlightFetches() {
+        config.setSteamSyncConcurrency(2);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        when(steamService.getAchievementProgress(eq(STEAM_ID), anyString(), isNull())).thenAnswer(invocation -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(50);
+            running.decrementAndGet();
+            return SteamAchievementProgress.builder().appId(invocation.getArgument(1)).notModified(true).build();
+        });
+
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            AchievementSyncResult result = new SteamAchievementSyncService(steamService, gameRepository, gameService,
+                    jdbcTemplate, gameEntityCache, config, pool).syncAchievements(true);
+
+            assertThat(result.getFetched()).isEqualTo(2);
+            assertThat(maxRunning.get()).isEqualTo(1);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static SteamGameInfo owned(String appId) {
+        return SteamGameInfo.builder()
+                .appId(appId)
+                .hasCommunityVisibleStats(true)
+                .ownerSteamIds(List.of(STEAM_ID))
+                .build();
+    }
+}
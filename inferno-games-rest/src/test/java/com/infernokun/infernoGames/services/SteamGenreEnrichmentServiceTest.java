@@ -0,0 +1,181 @@
+package com.infernokun.infernoGames.services;
+
+import com.infernokun.infernoGames.config.InfernoGamesConfig;
+import com.infernokun.infernoGames.models.Game;
+import com.infernokun.infernoGames.models.GenreEnrichmentRun;
+import com.infernokun.infernoGames.models.IgdbGenreCacheEntry;
+import com.infernokun.infernoGames.models.enums.EnrichmentRunStatus;
+import com.infernokun.infernoGames.repositories.GameRepository;
+import com.infernokun.infernoGames.repositories.GenreEnrichmentRunRepository;
+import com.infernokun.infernoGames.services.IGDBService.SteamAppResolution;
+import com.infernokun.infernoGames.services.SteamService.SteamGameInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SteamGenreEnrichmentService Tests")
+class SteamGenreEnrichmentServiceTest {
+
+    @Mock
+    private SteamService steamService;
+
+    @Mock
+    private IGDBService igdbService;
+
+    @Mock
+    private IgdbGenreCacheService igdbGenreCacheService;
+
+    @Mock
+    private GameRepository gameRepository;
+
+    @Mock
+    private GenreEnrichmentRunRepository runRepository;
+
+    private SteamGenreEnrichmentService enrichmentService;
+
+    @BeforeEach
+    void setUp() {
+        InfernoGamesConfig config = new InfernoGamesConfig();
+        config.setIgdbEnrichmentBatchSize(2);
+        // Both executors run inline, so a run has finished when startEnrichment returns
+        enrichmentService = new SteamGenreEnrichmentService(steamService, igdbService, igdbGenreCacheService,
+                gameRepository, runRepository, config, Runnable::run, Runnable::run);
+
+        when(steamService.getOwnedGames()).thenReturn(List.of(owned("1"), owned("2"), owned("3"), owned("4"),
+                owned("5")));
+        when(gameRepository.findAllWithSteamAppId()).thenReturn(List.of());
+        when(runRepository.save(any(GenreEnrichmentRun.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(igdbGenreCacheService.buildEntry(any(), any(), anyList())).thenAnswer(invocation ->
+                IgdbGenreCacheEntry.builder()
+                        .steamAppId(invocation.getArgument(0))
+                        .igdbId(invocation.getArgument(1))
+                        .genres(invocation.getArgument(2))
+                        .build());
+    }
+
+    @Test
+    @DisplayName("should split the selected apps into batches of the configured size")
+    void startEnrichment_BatchesApps() {
+        when(igdbService.resolveSteamAppIds(any())).thenAnswer(invocation -> {
+            List<String> appIds = invocation.getArgument(0);
+            return new SteamAppResolution(Map.of(), Set.copyOf(appIds));
+        });
+        when(igdbService.getGenresByIds(any())).thenReturn(Map.of());
+
+        assertThat(enrichmentService.startEnrichment()).isTrue();
+
+        verify(igdbService).resolveSteamAppIds(List.of("1", "2"));
+        verify(igdbService).resolveSteamAppIds(List.of("3", "4"));
+        verify(igdbService).resolveSteamAppIds(List.of("5"));
+
+        GenreEnrichmentRun run = lastSavedRun();
+        assertThat(run.getStatus()).isEqualTo(EnrichmentRunStatus.COMPLETED);
+        assertThat(run.getTotalApps()).isEqualTo(5);
+        assertThat(run.getPersistedApps()).isEqualTo(5);
+        assertThat(run.getEnrichedApps()).isZero();
+        assertThat(enrichmentService.isEnrichmentInProgress()).isFalse();
+    }
+
+    @Test
+    @DisplayName("should only cache apps IGDB answered and whose genres were fetched")
+    @SuppressWarnings("unchecked")
+    void startEnrichment_PersistsOnlyAnsweredApps() {
+        when(steamService.getOwnedGames()).thenReturn(List.of(owned("1"), owned("2")));
+        // 1 matched with genres, 2 matched but its genres never came back
+        when(igdbService.resolveSteamAppIds(List.of("1", "2")))
+                .thenReturn(new SteamAppResolution(Map.of("1", 100L, "2", 200L), Set.of("1", "2")));
+        when(igdbService.getGenresByIds(any())).thenReturn(Map.of(100L, List.of("RPG")));
+
+        enrichmentService.startEnrichment();
+
+        ArgumentCaptor<Collection<IgdbGenreCacheEntry>> entries = ArgumentCaptor.forClass(Collection.class);
+        verify(igdbGenreCacheService).putAll(entries.capture());
+        assertThat(entries.getValue()).extracting(IgdbGenreCacheEntry::getSteamAppId).containsExactly("1");
+        assertThat(lastSavedRun().getEnrichedApps()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("unanswered apps should be left for the next run; unmatched ones cached negative")
+    @SuppressWarnings("unchecked")
+    void startEnrichment_NegativeOnlyWhenAnswered() {
+        when(steamService.getOwnedGames()).thenReturn(List.of(owned("1"), owned("2")));
+        when(igdbService.resolveSteamAppIds(List.of("1", "2")))
+                .thenReturn(new SteamAppResolution(Map.of(), Set.of("1")));
+        when(igdbService.getGenresByIds(any())).thenReturn(Map.of());
+
+        enrichmentService.startEnrichment();
+
+        ArgumentCaptor<Collection<IgdbGenreCacheEntry>> entries = ArgumentCaptor.forClass(Collection.class);
+        verify(igdbGenreCacheService).putAll(entries.capture());
+        assertThat(entries.getValue()).singleElement()
+                .satisfies(entry -> {
+                    assertThat(entry.getSteamAppId()).isEqualTo("1");
+                    assertThat(entry.getGenres()).isEmpty();
+                });
+    }
+
+    @Test
+    @DisplayName("a failed batch should be counted without failing the whole run")
+    void startEnrichment_FailedBatchCounted() {
+        when(igdbService.resolveSteamAppIds(any())).thenAnswer(invocation -> {
+            List<String> appIds = invocation.getArgument(0);
+            if (appIds.contains("3")) {
+                throw new IllegalStateException("IGDB unavailable");
+            }
+            return new SteamAppResolution(Map.of(), Set.copyOf(appIds));
+        });
+        when(igdbService.getGenresByIds(any())).thenReturn(Map.of());
+
+        enrichmentService.startEnrichment();
+
+        GenreEnrichmentRun run = lastSavedRun();
+        assertThat(run.getStatus()).isEqualTo(EnrichmentRunStatus.COMPLETED);
+        assertThat(run.getFailedBatches()).isEqualTo(1);
+        assertThat(run.getPersistedApps()).isEqualTo(3);
+        assertThat(run.getLastError()).isEqualTo("IGDB unavailable");
+    }
+
+    @Test
+    @DisplayName("backlog and already-cached apps should not be looked up")
+    void startEnrichment_SkipsBacklogAndCached() {
+        when(gameRepository.findAllWithSteamAppId()).thenReturn(List.of(
+                Game.builder().title("Hades").steamAppId("1").build()));
+        when(igdbGenreCacheService.contains(any())).thenAnswer(invocation -> "2".equals(invocation.getArgument(0)));
+        when(igdbService.resolveSteamAppIds(any())).thenAnswer(invocation -> {
+            List<String> appIds = invocation.getArgument(0);
+            return new SteamAppResolution(Map.of(), Set.copyOf(appIds));
+        });
+        when(igdbService.getGenresByIds(any())).thenReturn(Map.of());
+
+        enrichmentService.startEnrichment();
+
+        verify(igdbService).resolveSteamAppIds(List.of("3", "4"));
+        verify(igdbService).resolveSteamAppIds(List.of("5"));
+        verify(igdbService, times(2)).resolveSteamAppIds(any());
+    }
+
+    private GenreEnrichmentRun lastSavedRun() {
+        ArgumentCaptor<GenreEnrichmentRun> runs = ArgumentCaptor.forClass(GenreEnrichmentRun.class);
+        verify(runRepository, atLeastOnce()).save(runs.capture());
+        return runs.getAllValues().getLast();
+    }
+
+    private static SteamGameInfo owned(String appId) {
+        return SteamGameInfo.builder().appId(appId).build();
+    }
+}
@@ -0,0 +1,243 @@
+package com.infernokun.infernoGames.services;
+
+import com.infernokun.infernoGames.events.BacklogGameChangedEvent;
+import com.infernokun.infernoGames.events.IgdbGenresChangedEvent;
+import com.infernokun.infernoGames.events.SteamLibraryChangedEvent;
+import com.infernokun.infernoGames.models.Game;
+import com.infernokun.infernoGames.models.enums.SteamLibrarySort;
+import com.infernokun.infernoGames.repositories.GameRepository;
+import com.infernokun.infernoGames.services.SteamLibraryViewService.SteamLibraryPage;
+import com.infernokun.infernoGames.services.SteamLibraryViewService.SteamLibraryQuery;
+import com.infernokun.infernoGames.services.SteamLibraryViewService.SteamLibraryView;
+import com.infernokun.infernoGames.services.SteamService.SteamGameInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SteamLibraryViewService Tests")
+class SteamLibraryViewServiceTest {
+
+    @Mock
+    private SteamService steamService;
+
+    @Mock
+    private IgdbGenreCacheService igdbGenreCacheService;
+
+    @Mock
+    private GameRepository gameRepository;
+
+    private SteamLibraryViewService viewService;
+
+    // Stand-in for SteamService's union library
+    private final Map<String, SteamGameInfo> library = new LinkedHashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        viewService = new SteamLibraryViewService(steamService, igdbGenreCacheService, gameRepository);
+
+        library.put("10", steamGame("10", "Hades", 600, 1_700_000_000L));
+        library.put("20", steamGame("20", "Celeste", 0, 0));
+        library.put("30", steamGame("30", "Balatro", 120, 1_710_000_000L));
+
+        when(steamService.peekOwnedGames()).thenAnswer(invocation -> new ArrayList<>(library.values()));
+        when(steamService.peekOwnedGame(any())).thenAnswer(invocation ->
+                Optional.ofNullable(library.get(invocation.<String>getArgument(0))));
+        when(gameRepository.findAllWithSteamAppId()).thenReturn(List.of(
+                Game.builder().id(1L).title("Hades").steamAppId("10").genres(List.of("Roguelike")).build()));
+        lenient().when(igdbGenreCacheService.getGenres(any())).thenReturn(Optional.empty());
+        lenient().when(igdbGenreCacheService.getGenres("20")).thenReturn(Optional.of(List.of("Platformer")));
+
+        viewService.rebuild();
+    }
+
+    @Nested
+    @DisplayName("Join")
+    class JoinTests {
+
+        @Test
+        @DisplayName("backlog genres should win over the IGDB cache")
+        void rebuild_JoinsBacklogAndGenres() {
+            Map<String, SteamGameInfo> byAppId = byAppId(viewService.getLibrary());
+
+            assertThat(byAppId.get("10").isInBacklog()).isTrue();
+            assertThat(byAppId.get("10").getBacklogGameId()).isEqualTo(1L);
+            assertThat(byAppId.get("10").getGenres()).containsExactly("Roguelike");
+            assertThat(byAppId.get("20").isInBacklog()).isFalse();
+            assertThat(byAppId.get("20").getGenres()).containsExactly("Platformer");
+            assertThat(byAppId.get("30").getGenres()).isEmpty();
+            verify(igdbGenreCacheService, never()).getGenres("10");
+        }
+
+        @Test
+        @DisplayName("library should be served sorted by name")
+        void getLibrary_SortedByName() {
+            assertThat(viewService.getLibrary())
+                    .extracting(SteamGameInfo::getName)
+                    .containsExactly("Balatro", "Celeste", "Hades");
+        }
+
+        @Test
+        @DisplayName("should reuse the published snapshot until something changes")
+        void getView_ReusedUntilChange() {
+            SteamLibraryView first = viewService.getView();
+
+            assertThat(viewService.getView()).isSameAs(first);
+
+            viewService.onGenresChanged(new IgdbGenresChangedEvent(Set.of("30"), false));
+
+            assertThat(viewService.getView().version()).isGreaterThan(first.version());
+        }
+    }
+
+    @Nested
+    @DisplayName("Change Events")
+    class ChangeEventTests {
+
+        @Test
+        @DisplayName("Steam changes should only rejoin the named apps")
+        void onSteamLibraryChanged_RejoinsNamedApps() {
+            clearInvocations(steamService);
+            library.put("40", steamGame("40", "Animal Well", 30, 0));
+            library.remove("20");
+
+            viewService.onSteamLibraryChanged(new SteamLibraryChangedEvent(Set.of("20", "40")));
+
+            assertThat(viewService.getLibrary())
+                    .extracting(SteamGameInfo::getAppId)
+                    .containsExactlyInAnyOrder("10", "30", "40");
+            verify(steamService, times(2)).peekOwnedGame(any());
+            verify(steamService, never()).peekOwnedGames();
+        }
+
+        @Test
+        @DisplayName("genre changes should pick up new IGDB genres")
+        void onGenresChanged_UpdatesGenres() {
+            when(igdbGenreCacheService.getGenres("30")).thenReturn(Optional.of(List.of("Card Game")));
+
+            viewService.onGenresChanged(new IgdbGenresChangedEvent(Set.of("30"), false));
+
+            assertThat(byAppId(viewService.getLibrary()).get("30").getGenres()).containsExactly("Card Game");
+        }
+
+        @Test
+        @DisplayName("a backlog game moving to another app should rejoin both apps")
+        void onBacklogGameChanged_MovesLink() {
+            viewService.onBacklogGameChanged(new BacklogGameChangedEvent(1L, "Balatro", null, null, null,
+                    "30", List.of("Card Game"), false));
+
+            Map<String, SteamGameInfo> byAppId = byAppId(viewService.getLibrary());
+            assertThat(byAppId.get("10").isInBacklog()).isFalse();
+            assertThat(byAppId.get("30").isInBacklog()).isTrue();
+            assertThat(byAppId.get("30").getGenres()).containsExactly("Card Game");
+        }
+
+        @Test
+        @DisplayName("the oldest backlog game should win when several share an app")
+        void onBacklogGameChanged_OldestWins() {
+            viewService.onBacklogGameChanged(new BacklogGameChangedEvent(5L, "Hades II", null, null, null,
+                    "10", List.of("Action"), false));
+
+            assertThat(byAppId(viewService.getLibrary()).get("10").getBacklogGameId()).isEqualTo(1L);
+
+            viewService.onBacklogGameChanged(new BacklogGameChangedEvent(1L, "Hades", null, null, null,
+                    "10", List.of(), true));
+
+            SteamGameInfo hades = byAppId(viewService.getLibrary()).get("10");
+            assertThat(hades.getBacklogGameId()).isEqualTo(5L);
+            assertThat(hades.getGenres()).containsExactly("Action");
+        }
+    }
+
+    @Nested
+    @DisplayName("Paging")
+    class PagingTests {
+
+        @Test
+        @DisplayName("cursor pages should walk the whole ordering without repeats")
+        void getPage_WalksWithCursor() {
+            SteamLibraryPage first = viewService.getPage(SteamLibraryQuery.builder()
+                    .sort(SteamLibrarySort.PLAYTIME).limit(2).build());
+            SteamLibraryPage second = viewService.getPage(SteamLibraryQuery.builder()
+                    .sort(SteamLibrarySort.PLAYTIME).limit(2).cursor(first.getNextCursor()).build());
+
+            assertThat(first.getDirection()).isEqualTo(Sort.Direction.DESC);
+            assertThat(first.getItems()).extracting(SteamGameInfo::getAppId).containsExactly("10", "30");
+            assertThat(second.getItems()).extracting(SteamGameInfo::getAppId).containsExactly("20");
+            assertThat(second.getNextCursor()).isNull();
+            assertThat(first.getTotalCount()).isEqualTo(3);
+            assertThat(second.getTotalCount()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("filters should apply to items, cursor and total")
+        void getPage_Filters() {
+            SteamLibraryPage page = viewService.getPage(SteamLibraryQuery.builder()
+                    .played(true).sort(SteamLibrarySort.NAME).limit(1).build());
+            SteamLibraryPage next = viewService.getPage(SteamLibraryQuery.builder()
+                    .played(true).sort(SteamLibrarySort.NAME).limit(1).cursor(page.getNextCursor()).build());
+
+            assertThat(page.getItems()).extracting(SteamGameInfo::getName).containsExactly("Balatro");
+            assertThat(next.getItems()).extracting(SteamGameInfo::getName).containsExactly("Hades");
+            assertThat(next.getNextCursor()).isNull();
+            assertThat(next.getTotalCount()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("the total should be counted once per snapshot and filter")
+        void getPage_CountsOncePerFilter() {
+            SteamLibraryPage first = viewService.getPage(SteamLibraryQuery.builder().genre("Roguelike").limit(1).build());
+            viewService.getPage(SteamLibraryQuery.builder().genre("roguelike").sort(SteamLibrarySort.PLAYTIME).build());
+            viewService.getPage(SteamLibraryQuery.builder().played(false).build());
+
+            assertThat(first.getTotalCount()).isEqualTo(1);
+            assertThat(viewService.getView().totalCounts()).hasSize(2);
+
+            viewService.onSteamLibraryChanged(new SteamLibraryChangedEvent(Set.of("30")));
+
+            assertThat(viewService.getView().totalCounts()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("a cursor from another sort should be rejected")
+        void getPage_RejectsMismatchedCursor() {
+            String cursor = viewService.getPage(SteamLibraryQuery.builder().limit(1).build()).getNextCursor();
+
+            assertThatThrownBy(() -> viewService.getPage(SteamLibraryQuery.builder()
+                    .sort(SteamLibrarySort.LAST_PLAYED).cursor(cursor).build()))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    private static Map<String, SteamGameInfo> byAppId(List<SteamGameInfo> games) {
+        Map<String, SteamGameInfo> result = new LinkedHashMap<>();
+        games.forEach(game -> result.put(game.getAppId(), game));
+        return result;
+    }
+
+    private static SteamGameInfo steamGame(String appId, String name, int playtime, long lastPlayed) {
+        return SteamGameInfo.builder()
+                .appId(appId)
+                .name(name)
+                .playtimeForever(playtime)
+                .rtimeLastPlayed(lastPlayed)
+                .ownerSteamIds(List.of("A"))
+                .build();
+    }
+}
@@ -0,0 +1,263 @@
+package com.infernokun.infernoGames.services;
+
+import com.infernokun.infernoGames.config.InfernoGamesConfig;
+import com.infernokun.infernoGames.config.InfernoGamesConfig.SteamAccount;
+import com.infernokun.infernoGames.events.SteamLibraryChangedEvent;
+import com.infernokun.infernoGames.models.SteamLibrarySnapshot;
+import com.infernokun.infernoGames.models.enums.SteamLibraryState;
+import com.infernokun.infernoGames.repositories.SteamLibrarySnapshotRepository;
+import com.infernokun.infernoGames.services.SteamService.SteamGameInfo;
+import com.infernokun.infernoGames.services.SteamService.SteamLibraryStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SteamService Tests")
+class SteamServiceTest {
+
+    @Mock
+    private SteamLibrarySnapshotRepository snapshotRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private InfernoGamesConfig config;
+
+    // Tasks handed to each executor; nothing runs unless a test runs it
+    private final List<Runnable> syncTasks = new ArrayList<>();
+    private final List<Runnable> backgroundTasks = new ArrayList<>();
+    private final List<Runnable> warmupTasks = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        config = new InfernoGamesConfig();
+        config.setSteamClientSecret("secret");
+    }
+
+    private SteamService newService(Executor warmupExecutor) {
+        return new SteamService(config, snapshotRepository, backgroundTasks::add, syncTasks::add,
+                warmupExecutor, eventPublisher);
+    }
+
+    @Nested
+    @DisplayName("Store Cache Warm-up")
+    class StoreWarmupTests {
+
+        @Test
+        @DisplayName("should queue each app once on the warm-up executor, never the sync workers")
+        void warmStoreCache_QueuesOncePerApp() {
+            SteamService steamService = newService(warmupTasks::add);
+
+            Map<String, Object> first = steamService.warmStoreCache(List.of("10", "20", "10"));
+            Map<String, Object> second = steamService.warmStoreCache(List.of("20", "30"));
+
+            assertThat(first.get("queued")).isEqualTo(2);
+            // "20" is still waiting from the first call
+            assertThat(second.get("queued")).isEqualTo(1);
+            assertThat(second.get("pending")).isEqualTo(3);
+            assertThat(warmupTasks).hasSize(3);
+            assertThat(syncTasks).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should take at most MAX_WARMUP_APPS per call")
+        void warmStoreCache_CapsAppsPerCall() {
+            SteamService steamService = newService(warmupTasks::add);
+            List<String> appIds = IntStream.range(0, SteamService.MAX_WARMUP_APPS + 200)
+                    .mapToObj(String::valueOf)
+                    .toList();
+
+            Map<String, Object> result = steamService.warmStoreCache(appIds);
+
+            assertThat(result.get("requested")).isEqualTo(SteamService.MAX_WARMUP_APPS + 200);
+            assertThat(result.get("queued")).isEqualTo(SteamService.MAX_WARMUP_APPS);
+            assertThat(warmupTasks).hasSize(SteamService.MAX_WARMUP_APPS);
+        }
+
+        @Test
+        @DisplayName("should stop queueing when the warm-up queue is full")
+        void warmStoreCache_StopsWhenQueueFull() {
+            Executor full = task -> {
+                if (warmupTasks.size() >= 2) {
+                    throw new RejectedExecutionException("queue full");
+                }
+                warmupTasks.add(task);
+            };
+            SteamService steamService = newService(full);
+
+            Map<String, Object> result = steamService.warmStoreCache(List.of("10", "20", "30", "40"));
+
+            assertThat(result.get("queued")).isEqualTo(2);
+            assertThat(result.get("pending")).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("Failed Startup")
+    class FailedStartupTests {
+
+        @Test
+        @DisplayName("requests after a failed startup load should queue one background retry and serve empty")
+        void getOwnedGames_AfterFailedStartupDoesNotFetchInline() {
+            config.setSteamClientId("A");
+            config.setSteamStartupBudget(Duration.ZERO);
+            when(snapshotRepository.findById("A")).thenReturn(Optional.empty());
+            SteamService steamService = newService(warmupTasks::add);
+            steamService.onApplicationReady();
+
+            // The watcher gives up at once and cancels the load that never ran
+            backgroundTasks.removeFirst().run();
+            assertThat(steamService.getLibraryStatus().getState()).isEqualTo(SteamLibraryState.FAILED);
+
+            assertThat(steamService.getOwnedGames()).isEmpty();
+            assertThat(steamService.getOwnedGames()).isEmpty();
+
+            assertThat(backgroundTasks).hasSize(1);
+            assertThat(steamService.getLibraryStatus().getState()).isEqualTo(SteamLibraryState.FAILED);
+        }
+    }
+
+    @Nested
+    @DisplayName("Linked Accounts")
+    class LinkedAccountTests {
+
+        private SteamService steamService;
+
+        @BeforeEach
+        void setUp() {
+            config.setSteamClientId("A");
+            SteamAccount second = new SteamAccount();
+            second.setSteamId("B");
+            second.setName("second");
+            config.setSteamAccounts(List.of(second));
+
+            when(snapshotRepository.findById("A")).thenReturn(snapshot("A",
+                    "[{\"appId\":\"10\",\"name\":\"Hades\",\"playtimeForever\":60,\"hasCommunityVisibleStats\":true}," +
+                            "{\"appId\":\"20\",\"name\":\"Celeste\",\"playtimeForever\":30}]"));
+            when(snapshotRepository.findById("B")).thenReturn(snapshot("B",
+                    "[{\"appId\":\"10\",\"name\":\"Hades\",\"playtimeForever\":90,\"rtimeLastPlayed\":1700000000}]"));
+
+            steamService = newService(warmupTasks::add);
+            steamService.onApplicationReady();
+        }
+
+        @Test
+        @DisplayName("should serve snapshots while each account's live load is queued")
+        void startup_ServesSnapshotsAndQueuesLoads() {
+            assertThat(steamService.getLibraryStatuses())
+                    .extracting(SteamLibraryStatus::getSteamId, SteamLibraryStatus::getState)
+                    .containsExactly(tuple("A", SteamLibraryState.SNAPSHOT), tuple("B", SteamLibraryState.SNAPSHOT));
+            assertThat(syncTasks).hasSize(2);
+            assertThat(steamService.getPrimarySteamId()).isEqualTo("A");
+        }
+
+        @Test
+        @DisplayName("union library should sum playtime and list every owner")
+        void union_MergesOwners() {
+            Map<String, SteamGameInfo> union = new HashMap<>();
+            steamService.getOwnedGames().forEach(game -> union.put(game.getAppId(), game));
+
+            assertThat(union).hasSize(2);
+            assertThat(union.get("10").getPlaytimeForever()).isEqualTo(150);
+            assertThat(union.get("10").getOwnerSteamIds()).containsExactly("A", "B");
+            assertThat(union.get("10").getRtimeLastPlayed()).isEqualTo(1700000000L);
+            assertThat(union.get("10").isHasCommunityVisibleStats()).isTrue();
+            assertThat(union.get("20").getOwnerSteamIds()).containsExactly("A");
+        }
+
+        @Test
+        @DisplayName("stats should count the union or a single account")
+        void stats_PerAccountAndUnion() {
+            assertThat(steamService.getLibraryStats().getTotalPlaytimeMinutes()).isEqualTo(180);
+            assertThat(steamService.getLibraryStats().getTotalGames()).isEqualTo(2);
+            assertThat(steamService.getLibraryStats("B").getTotalPlaytimeMinutes()).isEqualTo(90);
+            assertThat(steamService.getOwnedGames("B")).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("recently played deltas should only touch the changed apps")
+        void applyRecentlyPlayed_UpdatesUnionEntry() {
+            clearInvocations(eventPublisher);
+
+            List<SteamGameInfo> changed = steamService.applyRecentlyPlayed("B", List.of(
+                    SteamGameInfo.builder().appId("10").playtimeForever(120).build(),
+                    SteamGameInfo.builder().appId("99").playtimeForever(5).build()));
+
+            assertThat(changed).singleElement()
+                    .satisfies(game -> assertThat(game.getPlaytimeForever()).isEqualTo(180));
+            verify(eventPublisher).publishEvent(new SteamLibraryChangedEvent(Set.of("10")));
+            verify(snapshotRepository).save(any(SteamLibrarySnapshot.class));
+        }
+
+        @Test
+        @DisplayName("recently played deltas should replace entries instead of mutating the ones handed out")
+        void applyRecentlyPlayed_CopiesEntries() {
+            SteamGameInfo before = steamService.getOwnedGames("B").getFirst();
+
+            steamService.applyRecentlyPlayed("B", List.of(
+                    SteamGameInfo.builder().appId("10").playtimeForever(120).build()));
+
+            assertThat(before.getPlaytimeForever()).isEqualTo(90);
+            assertThat(steamService.getOwnedGames("B").getFirst().getPlaytimeForever()).isEqualTo(120);
+        }
+
+        @Test
+        @DisplayName("a poll older than the cached playtime should be ignored")
+        void applyRecentlyPlayed_IgnoresStalePlaytime() {
+            assertThat(steamService.applyRecentlyPlayed("B", List.of(
+                    SteamGameInfo.builder().appId("10").playtimeForever(80).build()))).isEmpty();
+
+            assertThat(steamService.getOwnedGames("B").getFirst().getPlaytimeForever()).isEqualTo(90);
+        }
+
+        @Test
+        @DisplayName("unchanged playtime should not publish or persist anything")
+        void applyRecentlyPlayed_NoChange() {
+            clearInvocations(eventPublisher);
+
+            assertThat(steamService.applyRecentlyPlayed("A", List.of(
+                    SteamGameInfo.builder().appId("20").playtimeForever(30).build()))).isEmpty();
+
+            verifyNoInteractions(eventPublisher);
+            verify(snapshotRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("should reject accounts that aren't linked")
+        void unknownAccount_Throws() {
+            assertThatThrownBy(() -> steamService.getOwnedGames("C"))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("not linked");
+        }
+
+        private Optional<SteamLibrarySnapshot> snapshot(String steamId, String payload) {
+            return Optional.of(SteamLibrarySnapshot.builder()
+                    .steamId(steamId)
+                    .payload(payload)
+                    .fetchedAt(LocalDateTime.now())
+                    .build());
+        }
+    }
+}
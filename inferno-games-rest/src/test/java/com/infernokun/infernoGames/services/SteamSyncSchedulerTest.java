@@ -0,0 +1,163 @@
+package com.infernokun.infernoGames.services;
+
+import com.infernokun.infernoGames.config.InfernoGamesConfig;
+import com.infernokun.infernoGames.config.InfernoGamesConfig.SteamAccount;
+import com.infernokun.infernoGames.models.Game;
+import com.infernokun.infernoGames.repositories.GameRepository;
+import com.infernokun.infernoGames.services.SteamService.SteamGameInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SteamSyncScheduler Tests")
+class SteamSyncSchedulerTest {
+
+    private static final String STEAM_ID = "76561198000000001";
+
+    @Mock
+    private SteamService steamService;
+
+    @Mock
+    private GameRepository gameRepository;
+
+    @Mock
+    private GameService gameService;
+
+    @Mock
+    private SteamGenreEnrichmentService genreEnrichmentService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private InfernoGamesConfig config;
+    private SteamSyncScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        config = new InfernoGamesConfig();
+        scheduler = new SteamSyncScheduler(steamService, gameRepository, gameService, config,
+                genreEnrichmentService, new TransactionTemplate(transactionManager));
+
+        when(steamService.isConfigured()).thenReturn(true);
+        when(steamService.getLinkedSteamIds()).thenReturn(List.of(STEAM_ID));
+    }
+
+    @Test
+    @DisplayName("first tick after startup should neither reconcile nor poll")
+    void runTieredSync_FirstTickWaitsOneInterval() {
+        scheduler.runTieredSync();
+
+        verify(steamService, never()).refreshOwnedGamesCache(any());
+        verify(steamService, never()).getRecentlyPlayedGames(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("idle recent polls should double the interval up to the maximum")
+    void syncRecentlyPlayed_IdleBacksOff() {
+        when(steamService.getRecentlyPlayedGames(STEAM_ID, 0)).thenReturn(List.of());
+        when(steamService.applyRecentlyPlayed(STEAM_ID, List.of())).thenReturn(List.of());
+
+        List<String> intervals = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            scheduler.syncRecentlyPlayed();
+            intervals.add((String) account().get("recentPollInterval"));
+        }
+
+        assertThat(intervals).containsExactly("PT4M", "PT8M", "PT15M", "PT15M");
+        verifyNoInteractions(transactionManager);
+    }
+
+    @Test
+    @DisplayName("a linked account's max interval should cap its back-off")
+    void syncRecentlyPlayed_AccountOverrideCapsBackOff() {
+        SteamAccount account = new SteamAccount();
+        account.setSteamId(STEAM_ID);
+        account.setRecentPollMaxInterval(Duration.ofMinutes(5));
+        config.setSteamAccounts(List.of(account));
+        when(steamService.getRecentlyPlayedGames(STEAM_ID, 0)).thenReturn(List.of());
+        when(steamService.applyRecentlyPlayed(STEAM_ID, List.of())).thenReturn(List.of());
+
+        scheduler.syncRecentlyPlayed();
+        scheduler.syncRecentlyPlayed();
+
+        assertThat(account().get("recentPollInterval")).isEqualTo("PT5M");
+    }
+
+    @Test
+    @DisplayName("activity should write the changed rows in a transaction and reset the interval")
+    void syncRecentlyPlayed_ActivityUpdatesBacklog() {
+        Game game = Game.builder().id(1L).title("Hades").steamAppId("1145360").playtimeHours(1.0).build();
+        SteamGameInfo played = SteamGameInfo.builder().appId("1145360").playtimeForever(180).build();
+        when(steamService.getRecentlyPlayedGames(STEAM_ID, 0)).thenReturn(List.of(played));
+        when(steamService.applyRecentlyPlayed(STEAM_ID, List.of(played)))
+                .thenReturn(List.of()).thenReturn(List.of(played));
+        when(gameRepository.findBySteamAppIdIn(any())).thenReturn(List.of(game));
+
+        scheduler.syncRecentlyPlayed();
+        assertThat(account().get("recentPollInterval")).isEqualTo("PT4M");
+
+        int updated = scheduler.syncRecentlyPlayed();
+
+        assertThat(updated).isEqualTo(1);
+        assertThat(game.getPlaytimeHours()).isEqualTo(3.0);
+        assertThat(account().get("recentPollInterval")).isEqualTo("PT2M");
+        verify(gameRepository).saveAll(List.of(game));
+        verify(transactionManager).commit(any());
+        verify(gameService).clearAllCaches();
+    }
+
+    @Test
+    @DisplayName("full reconcile should schedule the next one at the max interval while idle")
+    void syncSteamPlaytime_IdleSchedulesMaxInterval() {
+        when(gameRepository.findAllWithSteamAppId()).thenReturn(List.of());
+
+        Instant before = Instant.now();
+        scheduler.syncSteamPlaytime();
+
+        verify(steamService).refreshOwnedGamesCache(List.of(STEAM_ID));
+        verify(transactionManager).commit(any());
+        verify(gameService, never()).clearAllCaches();
+        assertThat(Instant.parse((String) account().get("nextFullSyncAt")))
+                .isAfterOrEqualTo(before.plus(config.getSteamFullSyncMaxInterval()));
+    }
+
+    @Test
+    @DisplayName("full reconcile should come back at the min interval after activity")
+    void syncSteamPlaytime_ActiveSchedulesMinInterval() {
+        Game game = Game.builder().id(1L).title("Hades").steamAppId("1145360").playtimeHours(1.0).build();
+        when(gameRepository.findAllWithSteamAppId()).thenReturn(List.of(game));
+        when(steamService.checkOwnership("1145360")).thenReturn(Optional.of(
+                SteamGameInfo.builder().appId("1145360").playtimeForever(180).build()));
+
+        scheduler.syncSteamPlaytime();
+
+        Instant next = Instant.parse((String) account().get("nextFullSyncAt"));
+        assertThat(next).isBefore(Instant.now().plus(config.getSteamFullSyncMaxInterval()));
+        assertThat(next).isAfter(Instant.now().plus(config.getSteamFullSyncMinInterval()).minusSeconds(60));
+        verify(gameRepository).save(game);
+        verify(gameService).clearAllCaches();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> account() {
+        return (Map<String, Object>) scheduler.getSyncStatus().get(STEAM_ID);
+    }
+}
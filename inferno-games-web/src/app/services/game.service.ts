@@ -22,6 +22,8 @@ export class GameService extends BaseService {
 
   // ─── CRUD Operations ────────────────────────────────────────────────────────
 
+  // List responses carry the summary columns only (GameSummary on the server): description, notes,
+  // genres, screenshots and the Steam playtime breakdown are left unset until the game is loaded by id
   getAllGames(): Observable<ApiResponse<Game[]>> {
     return this.get<ApiResponse<Game[]>>(this.apiUrl).pipe(
       map(response => ({